@@ -7,59 +7,247 @@
  */
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import javafx.scene.Scene;
 import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.layout.*;
 import javafx.scene.control.*;
 import javafx.scene.image.*;
+import javafx.scene.input.KeyCode;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.*;
 import javafx.scene.text.*;
 import javafx.geometry.*;
 import javafx.animation.*;
 import javafx.util.Duration;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import portfolio.ball.BallPhysics;
+import portfolio.ball.BallSwarm;
+import portfolio.ball.BallSwarmRenderer;
+import portfolio.car.CarPhysics;
+import portfolio.car.RoadRenderer;
+import portfolio.car.TrafficRenderer;
+import portfolio.car.TrafficWorld;
+import portfolio.image.ImageService;
+import portfolio.leaderboard.Leaderboard;
+import portfolio.leaderboard.Session;
+import portfolio.metrics.FrameMetrics;
+import portfolio.particle.Burst;
+import portfolio.particle.ParticleSystem;
+import portfolio.replay.InputLog;
+import portfolio.replay.InputRecorder;
+import portfolio.replay.InputReplay;
+import portfolio.scene.FixedStepLoop;
+import portfolio.scene.FrameFade;
+import portfolio.scene.QualityGovernor;
+import portfolio.scene.RenderCache;
+import portfolio.scene.SceneLayout;
+import portfolio.scene.SceneLoader;
+import portfolio.scene.SceneRegistry;
+import portfolio.server.SlotClient;
+import portfolio.server.SlotServer;
+import portfolio.slot.Autoplay;
+import portfolio.slot.ReelRenderer;
+import portfolio.slot.ReelSet;
+import portfolio.slot.SessionStats;
+import portfolio.slot.SessionStatsPanel;
+import portfolio.slot.SlotEngine;
+import portfolio.slot.SymbolAtlas;
+import portfolio.startup.StartupTimer;
+import portfolio.theme.ThemeManager;
+import portfolio.wallet.Money;
+import portfolio.wallet.Wallet;
 
 public class SushmaFX extends Application {
 
     private Stage mainStage;
-    private double balance = 100.00;
-    private Random rand = new Random();
+    // -Dsushmafx.replay=<file>: seed, starting balance and every input come from a recorded log
+    private final InputLog replayLog = readReplayLog();
+    private final long seed = replayLog != null ? replayLog.getSeed() : new Random().nextLong();
+    private InputRecorder recorder;
+    // Balance in cents, journaled to disk; the journal is replayed off the FX thread while the UI boots
+    private final CompletableFuture<Wallet> wallet = replayLog != null
+            ? CompletableFuture.completedFuture(Wallet.inMemory(replayLog.getStartBalance()))
+            : CompletableFuture.supplyAsync(SushmaFX::openWallet);
+    private Random rand = new Random(seed);
     private int basketballScore = 0;
+    // Finished basketball rounds of every player, loaded off the FX thread like the wallet
+    private final CompletableFuture<Leaderboard> leaderboard = replayLog != null
+            ? CompletableFuture.completedFuture(Leaderboard.inMemory())
+            : CompletableFuture.supplyAsync(SushmaFX::openLeaderboard);
+
+    // Spin rules shared with the headless simulator (portfolio.slot.SlotSimulator)
+    private final SlotEngine slotEngine = createSlotEngine();
+    // Every settled spin of this session, manual or autoplay, in fixed memory
+    private final SessionStats slotStats = new SessionStats(SlotEngine.REELS, slotEngine.getSymbolCount(),
+            slotEngine.getThreeOfAKindPays());
+    // -Dsushmafx.server=host:port plays the slot machine on a shared SlotServer as -Dsushmafx.player
+    private final String slotServer = System.getProperty("sushmafx.server");
+    private final String slotPlayer = slotPlayer();
+    // One connection, one request at a time: SlotClient is not thread-safe and replies arrive in order
+    private final ReentrantLock slotLock = new ReentrantLock();
+    private volatile SlotClient slotClient;
+
+    // Scene keys for the registry
+    private static final String MENU = "menu";
+    private static final String ABOUT = "about";
+    private static final String CAR = "car";
+    private static final String SLOT = "slot";
+    private static final String BALL = "ball";
+
+    // Shots per basketball round on the leaderboard
+    private static final int BALL_ROUND_SHOTS = 10;
+    // Room for a full jackpot shower on top of whatever is still falling
+    private static final int PARTICLES = 12_000;
+    // Rapid fire: balls launched per second while the button is held, and most in the air at once
+    private static final double RAPID_FIRE_RATE = 12;
+    private static final int RAPID_FIRE_BALLS = 400;
+    private static final String[] SLOT_SYMBOLS = {"🍒", "🍋", "🍊", "🍇", "💎", "7️⃣"};
+
+    // Keeps up to four scenes alive; the main menu is pinned
+    private final SceneRegistry scenes = new SceneRegistry(4);
+
+    private FrameMetrics metrics;
+    private ThemeManager themes;
+
+    // Cold start milestones
+    private final StartupTimer boot = new StartupTimer();
+
+    // Thumbnail-sized decodes of the portfolio photos, shared by all scenes
+    private final ImageService images = new ImageService(8 * 1024 * 1024);
+    // Menu and About layouts; -Dsushmafx.scenes=portfolio/scene reads the descriptors live
+    private final SceneLoader layouts = new SceneLoader(System.getProperty("sushmafx.scenes"));
+    // Moving, spinning and fading subtrees are drawn from bitmaps while their content holds still;
+    // created up front so scene builders never depend on start() having run
+    private final RenderCache renderCache = new RenderCache();
+    // Drops glow, gradients and motion while frames run over budget; -Dsushmafx.quality=<tier> pins a tier
+    private final QualityGovernor quality = QualityGovernor.fromProperties();
+    // Slot symbols rasterised once, kept across slot scene rebuilds
+    private SymbolAtlas reelAtlas;
 
     @Override
     public void start(Stage primaryStage) {
         mainStage = primaryStage;
         mainStage.setTitle("🎰 SushmaFX - Tech & Creativity Showcase");
-        mainStage.setScene(buildMainMenu());
+
+        scenes.register(MENU, this::buildMainMenu, true);
+        scenes.register(ABOUT, this::buildAboutScene);
+        scenes.register(CAR, this::buildCarScene);
+        scenes.register(SLOT, this::buildSlotScene);
+        scenes.register(BALL, this::buildBallScene);
+
+        // F3 shows frame/pulse stats; -Dsushmafx.metrics=<file.csv> exports them
+        metrics = FrameMetrics.install(mainStage);
+        renderCache.attach(mainStage);
+        // Before any game loop starts, so frames are logged / replayed first in every pulse
+        recordOrReplay();
+
+        // Stage 1: put a cheap frame on screen before anything heavy is built
+        boot.mark("start()");
+        Scene splash = buildSplashScene();
+        mainStage.setScene(splash);
         mainStage.show();
+        StartupTimer.onNextPulse(splash, () -> {
+            boot.mark("first frame");
+            // Stage 2: build the menu once the splash has been painted
+            Platform.runLater(this::showMenuAfterSplash);
+        });
     }
 
-    /* 🎡 ENHANCED MAIN MENU */
-    private Scene buildMainMenu() {
-        BorderPane root = new BorderPane();
+    /* 🚀 Boot stage 2 and 3: swap in the menu, then warm up what the next visit needs */
+    private void showMenuAfterSplash() {
+        // Shared stylesheets for every scene from here on; F2 or -Dsushmafx.theme=daylight switches theme
+        themes = ThemeManager.install(mainStage);
+        quality.styleWith(themes);
+        Scene menu = scenes.activate(MENU);
+        mainStage.setScene(menu);
+        metrics.sceneShown(MENU, menu);
+        quality.sceneShown(MENU, menu);
+        StartupTimer.onNextPulse(menu, () -> {
+            boot.mark("interactive");
+            // Run with -Dsushmafx.startupStats=true to see time to first frame / interactive
+            if (Boolean.getBoolean("sushmafx.startupStats")) {
+                boot.printReport(System.out);
+            }
+            // Used for AppCDS training runs and cold-start measurements
+            if (Boolean.getBoolean("sushmafx.exitAfterStartup")) {
+                Platform.runLater(Platform::exit);
+                return;
+            }
+            // Stage 3: decode the About photo in the background and draw the reel symbols; scenes stay lazy
+            Platform.runLater(() -> images.load("file:Sushma (2).jpg", 200, 200));
+            Platform.runLater(this::reelAtlas);
+        });
+    }
+
+    /* 🌌 Minimal first frame: just the menu's backdrop and a title (inline, so no stylesheet is loaded yet) */
+    private Scene buildSplashScene() {
+        Text loading = new Text("⚡ SUSHMA'S TECH UNIVERSE ⚡");
+        loading.setFont(Font.font("Verdana", FontWeight.BOLD, 40));
+        loading.setFill(Color.CYAN);
+        StackPane root = new StackPane(loading);
         root.setStyle("-fx-background-color: linear-gradient(to bottom right, #0f0c29, #302b63, #24243e);");
+        return new Scene(root, 900, 600);
+    }
 
-        // Animated tech-themed title
-        Text title = new Text("⚡ SUSHMA'S TECH UNIVERSE ⚡");
-        title.setFont(Font.font("Verdana", FontWeight.BOLD, 40));
-        title.setFill(Color.CYAN);
-        title.setEffect(new javafx.scene.effect.Glow(0.8));
-        
-        Text subtitle = new Text("💻 Code • Design • Innovation • Fun 🎮");
-        subtitle.setFont(Font.font("Courier New", FontPosture.ITALIC, 20));
-        subtitle.setFill(Color.LIGHTGREEN);
-        
-        // Animated tech quote
-        Text quote = new Text("\"Technology is best when it brings people together\" - Matt Mullenweg");
-        quote.setFont(Font.font("Arial", FontPosture.ITALIC, 14));
-        quote.setFill(Color.LIGHTBLUE);
-        
-        VBox topBox = new VBox(10, title, subtitle, quote);
-        topBox.setAlignment(Pos.CENTER);
-        root.setTop(topBox);
-        BorderPane.setMargin(topBox, new Insets(30, 0, 10, 0));
+    @Override
+    public void stop() {
+        // Run with -Dsushmafx.sceneStats=true to see build times and retained heap per scene
+        if (Boolean.getBoolean("sushmafx.sceneStats")) {
+            scenes.printReport(System.out);
+        }
+        // Run with -Dsushmafx.slotStats=<file> to keep the session's slot statistics
+        if (System.getProperty("sushmafx.slotStats") != null) {
+            try {
+                SessionStatsPanel.writeReport(slotStats, SLOT_SYMBOLS, slotStatsFile());
+            } catch (IOException e) {
+                System.err.println("Could not export slot stats: " + e.getMessage());
+            }
+        }
+        // Run with -Dsushmafx.cacheStats=true to see how often cached nodes were reused
+        if (Boolean.getBoolean("sushmafx.cacheStats")) {
+            renderCache.printReport(System.out);
+        }
+        if (metrics != null) {
+            metrics.close();
+        }
+        dropSlotClient();
+        if (recorder != null) {
+            try {
+                recorder.close();
+            } catch (IOException e) {
+                System.err.println("Could not finish the input log: " + e.getMessage());
+            }
+        }
+        try {
+            wallet.join().close();
+        } catch (IOException e) {
+            System.err.println("Could not close the wallet journal: " + e.getMessage());
+        }
+        try {
+            leaderboard.join().close();
+        } catch (IOException e) {
+            System.err.println("Could not close the leaderboard: " + e.getMessage());
+        }
+    }
+
+    /* 🎡 ENHANCED MAIN MENU */
+    private Scene buildMainMenu() {
+        // Layout and copy live in portfolio/scene/menu.scene; behaviour is attached here
+        SceneLayout menu = layouts.load("menu");
+        Text title = menu.get("title", Text.class);
+        Circle outerCircle = menu.get("ring", Circle.class);
+        StackPane imageContainer = menu.get("photo", StackPane.class);
         
         // Pulsing animation for title
         FadeTransition fade = new FadeTransition(Duration.seconds(2), title);
@@ -69,40 +257,27 @@ public class SushmaFX extends Application {
         fade.setAutoReverse(true);
         fade.play();
 
-        // Profile image placeholder with tech border
-        StackPane imageContainer = new StackPane();
-        
-        // Tech-themed decorative circles
-        Circle outerCircle = new Circle(100);
-        outerCircle.setFill(Color.TRANSPARENT);
-        outerCircle.setStroke(Color.CYAN);
-        outerCircle.setStrokeWidth(3);
-        
-        Circle innerCircle = new Circle(90);
-        innerCircle.setFill(Color.DARKSLATEBLUE);
-        innerCircle.setStroke(Color.LIGHTBLUE);
-        innerCircle.setStrokeWidth(2);
-        
-        // Try to load profile image
+        // Load profile image in the background at display size; the placeholder stays up
+        // until the photo has decoded (or if it can't be found)
         try {
-            ImageView profileImage = new ImageView(new Image("Professional.png"));
-            profileImage.setFitWidth(150);
-            profileImage.setFitHeight(180);
-            profileImage.setPreserveRatio(true);
-            
-            // Circular clip for image
-            Circle clip = new Circle(90, 90, 90);
-            profileImage.setClip(clip);
-            
-            imageContainer.getChildren().addAll(outerCircle, innerCircle, profileImage);
+            Image photo = images.load("Professional.png", 150, 180);
+            ImageService.whenReady(photo, ok -> {
+                if (!ok) {
+                    return;
+                }
+                ImageView profileImage = new ImageView(photo);
+                profileImage.setFitWidth(150);
+                profileImage.setFitHeight(180);
+                profileImage.setPreserveRatio(true);
+                
+                // Circular clip for image
+                Circle clip = new Circle(90, 90, 90);
+                profileImage.setClip(clip);
+                
+                imageContainer.getChildren().set(2, profileImage);
+            });
         } catch (Exception e) {
-            // Fallback if image not found
-            Text placeholderText = new Text("📸");
-            placeholderText.setFont(Font.font("Arial", FontWeight.BOLD, 18));
-            placeholderText.setFill(Color.WHITE);
-            placeholderText.setTextAlignment(TextAlignment.CENTER);
-            
-            imageContainer.getChildren().addAll(outerCircle, innerCircle, placeholderText);
+            // Image not found: keep the placeholder
         }
         
         // Rotating animation for outer circle
@@ -111,138 +286,77 @@ public class SushmaFX extends Application {
         rotate.setCycleCount(Animation.INDEFINITE);
         rotate.play();
 
-        // Enhanced buttons with tech icons
-        Button aboutBtn = createButton("💁 About Me", e -> switchScene(buildAboutScene()));
-        Button carBtn = createButton("🚗 Drive the Car", e -> switchScene(buildCarScene()));
-        Button slotBtn = createButton("🎰 Play Slot Machine", e -> switchScene(buildSlotScene()));
-        Button ballBtn = createButton("🏀 Basketball Challenge", e -> switchScene(buildBallScene()));
-        Button exitBtn = createButton("❌ Exit", e -> mainStage.close());
+        // Paused by the registry whenever the menu is off screen
+        scenes.track(fade, rotate);
+        // First to go when frames run over budget
+        quality.glow(title);
+        quality.decorate(title, fade);
+        quality.decorate(outerCircle, rotate);
+        // The glow is only rasterised again when the title changes, not on every fade step
+        renderCache.watch("menu title", title);
+        renderCache.watch("menu ring", outerCircle);
 
-        VBox buttonBox = new VBox(15, aboutBtn, carBtn, slotBtn, ballBtn, exitBtn);
-        buttonBox.setAlignment(Pos.CENTER);
-        
-        VBox centerBox = new VBox(30, imageContainer, buttonBox);
-        centerBox.setAlignment(Pos.CENTER);
-
-        root.setCenter(centerBox);
-        
-        // Footer with tech elements
-        Text footer = new Text("🔧 Built with JavaFX • 🎨 Designed with Passion • ⚡ Powered by Creativity");
-        footer.setFont(Font.font("Arial", 12));
-        footer.setFill(Color.LIGHTGRAY);
-        HBox footerBox = new HBox(footer);
-        footerBox.setAlignment(Pos.CENTER);
-        footerBox.setPadding(new Insets(10));
-        root.setBottom(footerBox);
+        menu.get("about", Button.class).setOnAction(e -> switchScene(ABOUT));
+        menu.get("car", Button.class).setOnAction(e -> switchScene(CAR));
+        menu.get("slot", Button.class).setOnAction(e -> switchScene(SLOT));
+        menu.get("ball", Button.class).setOnAction(e -> switchScene(BALL));
+        menu.get("exit", Button.class).setOnAction(e -> mainStage.close());
 
-        return new Scene(root, 900, 600);
+        return new Scene(menu.getRoot(), 900, 600);
     }
 
     /* 💁 ENHANCED ABOUT ME */
     private Scene buildAboutScene() {
-        BorderPane pane = new BorderPane();
-        pane.setStyle("-fx-background-color: linear-gradient(to bottom right, #ffecd2, #fcb69f);");
-
-        // Title
-        Label name = new Label("💫 Sushma Upadhayay 💫");
-        name.setFont(Font.font("Verdana", FontWeight.BOLD, 32));
-        name.setTextFill(Color.web("#8B008B"));
+        // Layout and story text live in portfolio/scene/about.scene
+        SceneLayout about = layouts.load("about");
+        StackPane photoStack = about.get("photo", StackPane.class);
         
-        // Image placeholder with frame
-        VBox imageBox = new VBox();
-        imageBox.setAlignment(Pos.CENTER);
-        
-        StackPane photoStack;
+        // Swap the placeholder for the photo once it has decoded in the background
         try {
-            ImageView aboutImage = new ImageView(new Image("file:Sushma (2).jpg"));
-            aboutImage.setFitWidth(200);
-            aboutImage.setFitHeight(200);
-            aboutImage.setPreserveRatio(true);
-            
-            Rectangle photoFrame = new Rectangle(210, 210);
-            photoFrame.setFill(Color.TRANSPARENT);
-            photoFrame.setStroke(Color.DARKGRAY);
-            photoFrame.setStrokeWidth(5);
-            photoFrame.setArcWidth(20);
-            photoFrame.setArcHeight(20);
-            
-            photoStack = new StackPane(aboutImage, photoFrame);
+            Image photo = images.load("file:Sushma (2).jpg", 200, 200);
+            ImageService.whenReady(photo, ok -> {
+                if (!ok) {
+                    return;
+                }
+                ImageView aboutImage = new ImageView(photo);
+                aboutImage.setFitWidth(200);
+                aboutImage.setFitHeight(200);
+                aboutImage.setPreserveRatio(true);
+                
+                Rectangle photoFrame = new Rectangle(210, 210);
+                photoFrame.setFill(Color.TRANSPARENT);
+                photoFrame.setStroke(Color.DARKGRAY);
+                photoFrame.setStrokeWidth(5);
+                photoFrame.setArcWidth(20);
+                photoFrame.setArcHeight(20);
+                
+                photoStack.getChildren().setAll(aboutImage, photoFrame);
+            });
         } catch (Exception e) {
-            Rectangle photoFrame = new Rectangle(200, 200);
-            photoFrame.setFill(Color.LIGHTGRAY);
-            photoFrame.setStroke(Color.DARKGRAY);
-            photoFrame.setStrokeWidth(5);
-            photoFrame.setArcWidth(20);
-            photoFrame.setArcHeight(20);
-            
-            Text photoPlaceholder = new Text("📸\n\nYour Beautiful\nPhoto Here!\n\n(Upload Later)");
-            photoPlaceholder.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-            photoPlaceholder.setFill(Color.DARKGRAY);
-            photoPlaceholder.setTextAlignment(TextAlignment.CENTER);
-            
-            photoStack = new StackPane(photoFrame, photoPlaceholder);
+            // Image not found: keep the placeholder
         }
-        
-        imageBox.getChildren().add(photoStack);
-
-        // Story section with better formatting
-        Text storyTitle = new Text("📖 My Story");
-        storyTitle.setFont(Font.font("Verdana", FontWeight.BOLD, 22));
-        storyTitle.setFill(Color.DARKRED);
-        
-        Text story = new Text(
-            "Welcome to my world of creativity and code! ✨\n\n" +
-            "I'm a Computer Science student at Bucknell University with a deep passion\n" +
-            "for technology, design, and creativity.\n\n" +
-            "I love turning ideas into interactive digital experiences like this app\n" +
-            "you're exploring now!\n\n" +
-            "Outside of coding, I find joy in dancing, traveling, and discovering\n" +
-            "new cultures.\n\n" +
-            "My goal is to bridge creativity and innovation to build technology\n" +
-            "that makes people smile 🌍"
-        );
-        story.setFont(Font.font("Arial", 16));
-        story.setFill(Color.web("#2C3E50"));
-        story.setTextAlignment(TextAlignment.CENTER);
-        
-        VBox storyBox = new VBox(15, storyTitle, story);
-        storyBox.setAlignment(Pos.CENTER);
-        storyBox.setMaxWidth(700);
 
-        VBox centerBox = new VBox(25, name, imageBox, storyBox);
-        centerBox.setAlignment(Pos.CENTER);
-        centerBox.setPadding(new Insets(20));
+        about.get("back", Button.class).setOnAction(e -> switchScene(MENU));
 
-        Button back = createButton("⬅ Back to Main Menu", e -> switchScene(buildMainMenu()));
-        VBox bottomBox = new VBox(back);
-        bottomBox.setAlignment(Pos.CENTER);
-        VBox.setMargin(back, new Insets(20));
-
-        ScrollPane scrollPane = new ScrollPane(centerBox);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setStyle("-fx-background: transparent; -fx-background-color: transparent;");
-        
-        pane.setCenter(scrollPane);
-        pane.setBottom(bottomBox);
-
-        return new Scene(pane, 900, 600);
+        return new Scene(about.getRoot(), 900, 600);
     }
 
     /* 🚗 INTERACTIVE CAR SCENE WITH DRIVE CONTROLS */
     private Scene buildCarScene() {
         Pane pane = new Pane();
-        pane.setStyle("-fx-background-color: linear-gradient(to bottom, #87CEEB, #E0FFFF);");
 
-        // Road
-        Rectangle road = new Rectangle(0, 450, 900, 150);
-        road.setFill(Color.DARKGRAY);
+        // Sky, scenery, road and lane lines are all drawn on one canvas that scrolls with the car
+        Canvas road = new Canvas(900, 600);
+        road.widthProperty().bind(pane.widthProperty());
+        road.heightProperty().bind(pane.heightProperty());
+        RoadRenderer roadRenderer = new RoadRenderer(road);
         
-        // Road lines
-        for (int i = 0; i < 900; i += 60) {
-            Rectangle line = new Rectangle(i, 520, 40, 8);
-            line.setFill(Color.YELLOW);
-            pane.getChildren().add(line);
-        }
+        // Oncoming traffic, cones and coins live around the camera only and are drawn on their own canvas
+        TrafficWorld traffic = new TrafficWorld(seed);
+        Canvas trafficLayer = new Canvas(900, 600);
+        trafficLayer.widthProperty().bind(pane.widthProperty());
+        trafficLayer.heightProperty().bind(pane.heightProperty());
+        TrafficRenderer trafficRenderer = new TrafficRenderer(trafficLayer);
 
         // Car body
         Rectangle carBody = new Rectangle(250, 350, 200, 60);
@@ -283,7 +397,9 @@ public class SushmaFX extends Application {
             headlight1, headlight2, taillight, handle
         );
 
-        pane.getChildren().addAll(road, carGroup);
+        pane.getChildren().addAll(road, trafficLayer, carGroup);
+        // Spinning wheels change the group's content every frame, so this mostly stays uncached
+        renderCache.watch("car", carGroup);
 
         // Drive controls
         Label instructions = new Label("🎮 CLICK SCREEN, THEN USE ARROW KEYS! ⬅️ LEFT | ➡️ RIGHT | ⬆️ BOOST | ⬇️ BRAKE");
@@ -297,91 +413,107 @@ public class SushmaFX extends Application {
         speedLabel.setTextFill(Color.DARKRED);
         speedLabel.setLayoutX(400);
         speedLabel.setLayoutY(90);
+        
+        Label tallyLabel = new Label("🪙 0 | 💥 0");
+        tallyLabel.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+        tallyLabel.setTextFill(Color.DARKGOLDENROD);
+        tallyLabel.setLayoutX(620);
+        tallyLabel.setLayoutY(90);
 
-        Button back = createButton("⬅ Back", e -> switchScene(buildMainMenu()));
+        Button back = createButton("⬅ Back", e -> switchScene(MENU));
         back.setLayoutX(20);
         back.setLayoutY(20);
         
-        pane.getChildren().addAll(instructions, speedLabel, back);
+        pane.getChildren().addAll(instructions, speedLabel, tallyLabel, back);
         
-        // Wheel rotation
-        RotateTransition rotate1 = new RotateTransition(Duration.seconds(1), wheel1);
-        rotate1.setByAngle(360);
-        rotate1.setCycleCount(Animation.INDEFINITE);
-        
-        RotateTransition rotate2 = new RotateTransition(Duration.seconds(1), wheel2);
-        rotate2.setByAngle(360);
-        rotate2.setCycleCount(Animation.INDEFINITE);
-
         Scene scene = new Scene(pane, 900, 600);
         
-        // Keyboard controls with focus
-        final double[] speed = {0};
+        // Keys only set what is held; the loop below does the driving
+        CarPhysics car = new CarPhysics();
         
         // Request focus so keyboard events work
         pane.setFocusTraversable(true);
         pane.requestFocus();
         
         pane.setOnKeyPressed(e -> {
-            switch (e.getCode()) {
-                case RIGHT:
-                case D:
-                    if (carGroup.getTranslateX() < 300) {
-                        carGroup.setTranslateX(carGroup.getTranslateX() + 20);
-                        speed[0] = Math.min(speed[0] + 10, 100);
-                        speedLabel.setText("Speed: " + (int)speed[0] + " mph ➡️");
-                        if (rotate1.getStatus() != Animation.Status.RUNNING) {
-                            rotate1.play();
-                            rotate2.play();
-                        }
-                    }
-                    break;
-                case LEFT:
-                case A:
-                    if (carGroup.getTranslateX() > -200) {
-                        carGroup.setTranslateX(carGroup.getTranslateX() - 20);
-                        speed[0] = Math.min(speed[0] + 10, 100);
-                        speedLabel.setText("Speed: " + (int)speed[0] + " mph ⬅️");
-                        if (rotate1.getStatus() != Animation.Status.RUNNING) {
-                            rotate1.play();
-                            rotate2.play();
-                        }
-                    }
-                    break;
-                case UP:
-                case W:
-                    // Speed boost visual effect
-                    if (speed[0] < 100) {
-                        speed[0] = Math.min(speed[0] + 20, 100);
-                        speedLabel.setText("Speed: " + (int)speed[0] + " mph ⬆️ BOOST!");
-                        speedLabel.setTextFill(Color.GREEN);
-                    }
-                    break;
-                case DOWN:
-                case S:
-                    // Brake
-                    speed[0] = Math.max(speed[0] - 30, 0);
-                    speedLabel.setText("Speed: " + (int)speed[0] + " mph 🛑 BRAKE");
-                    speedLabel.setTextFill(Color.RED);
-                    if (speed[0] == 0) {
-                        rotate1.pause();
-                        rotate2.pause();
-                    }
-                    break;
-            }
+            setCarKey(car, e.getCode(), true);
             e.consume();
         });
         
         pane.setOnKeyReleased(e -> {
-            speed[0] = Math.max(speed[0] - 5, 0);
-            speedLabel.setText("Speed: " + (int)speed[0] + " mph");
-            speedLabel.setTextFill(Color.DARKRED);
-            if (speed[0] == 0) {
-                rotate1.pause();
-                rotate2.pause();
-            }
+            setCarKey(car, e.getCode(), false);
             e.consume();
         });
+        pane.focusedProperty().addListener((obs, was, focused) -> {
+            if (!focused) {
+                car.releaseAll();
+            }
+        });
+        
+        // Fixed-step physics, interpolated rendering; the label only changes when its text would
+        final int[] shown = {-1, -1};
+        final int[] tally = {0, 0};
+        FixedStepLoop drive = new FixedStepLoop(CarPhysics.STEP, new FixedStepLoop.Simulation() {
+            @Override
+            public void step(double dt) {
+                car.step(dt);
+                traffic.step(dt, roadRenderer.getCameraX(), road.getWidth());
+                // The car's box in world coordinates, as drawn at translateX 0
+                int hit = traffic.collide(car.getX() + 250, 320, car.getX() + 450, 435);
+                if ((hit & TrafficWorld.HIT) != 0) {
+                    car.bump();
+                }
+            }
+            
+            @Override
+            public void render(double alpha) {
+                carGroup.setTranslateX(roadRenderer.follow(car.renderX(alpha)));
+                roadRenderer.render();
+                trafficRenderer.render(traffic, roadRenderer.getCameraX());
+                if (traffic.getCoins() != tally[0] || traffic.getHits() != tally[1]) {
+                    tally[0] = traffic.getCoins();
+                    tally[1] = traffic.getHits();
+                    tallyLabel.setText("🪙 " + tally[0] + " | 💥 " + tally[1]);
+                }
+                // Still wheels leave the car group unchanged, so the render cache can blit it
+                if (quality.allowsSpin()) {
+                    double angle = car.renderWheelAngle(alpha);
+                    wheel1.setRotate(angle);
+                    wheel2.setRotate(angle);
+                }
+                
+                int mph = car.getSpeedMph();
+                int mode = car.isBraking() ? 3 : car.isBoosting() ? 2 : car.getVelocity() < 0 ? 1 : mph > 0 ? 0 : 4;
+                if (mph == shown[0] && mode == shown[1]) {
+                    return;
+                }
+                shown[0] = mph;
+                shown[1] = mode;
+                switch (mode) {
+                    case 0:
+                        speedLabel.setText("Speed: " + mph + " mph ➡️");
+                        speedLabel.setTextFill(Color.DARKRED);
+                        break;
+                    case 1:
+                        speedLabel.setText("Speed: " + mph + " mph ⬅️");
+                        speedLabel.setTextFill(Color.DARKRED);
+                        break;
+                    case 2:
+                        speedLabel.setText("Speed: " + mph + " mph ⬆️ BOOST!");
+                        speedLabel.setTextFill(Color.GREEN);
+                        break;
+                    case 3:
+                        speedLabel.setText("Speed: " + mph + " mph 🛑 BRAKE");
+                        speedLabel.setTextFill(Color.RED);
+                        break;
+                    default:
+                        speedLabel.setText("Speed: 0 mph");
+                        speedLabel.setTextFill(Color.DARKRED);
+                }
+            }
+        });
+        drive.start();
+        scenes.track(drive);
         
         // Make sure pane gets focus when clicked
         pane.setOnMouseClicked(e -> pane.requestFocus());
@@ -389,48 +521,82 @@ public class SushmaFX extends Application {
         return scene;
     }
 
+    /* 🎮 Helper: Arrow keys / WASD for the car */
+    private static void setCarKey(CarPhysics car, KeyCode code, boolean held) {
+        switch (code) {
+            case RIGHT:
+            case D:
+                car.setRight(held);
+                break;
+            case LEFT:
+            case A:
+                car.setLeft(held);
+                break;
+            case UP:
+            case W:
+                car.setBoost(held);
+                break;
+            case DOWN:
+            case S:
+                car.setBrake(held);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /* 🎯 Helper: Launch angle from the ball towards the pointer */
+    private static double aimAngle(double mouseX, double mouseY) {
+        double degrees = Math.toDegrees(Math.atan2(BallPhysics.START_Y - mouseY, mouseX - BallPhysics.START_X));
+        return Math.max(BallPhysics.MIN_ANGLE, Math.min(BallPhysics.MAX_ANGLE, degrees));
+    }
+
+    /* 🏀 Helper: Rapid-fire power (0..100) from how far the pointer is from the spot */
+    private static double aimPower(double mouseX, double mouseY) {
+        return Math.min(100, Math.hypot(mouseX - BallPhysics.START_X, mouseY - BallPhysics.START_Y) / 4);
+    }
+
     /* 🎰 SLOT MACHINE SCENE */
     private Scene buildSlotScene() {
         VBox root = new VBox(15);
         root.setAlignment(Pos.CENTER);
-        root.setStyle("-fx-background-color: linear-gradient(to bottom right, #3b0a45, #982c9d);");
+        root.getStyleClass().add("slot-root");
 
         Label title = new Label("🎰 Casino Slot Machine 🎰");
         title.setFont(Font.font("Verdana", FontWeight.BOLD, 30));
         title.setTextFill(Color.GOLD);
 
-        String[] symbols = {"🍒", "🍋", "🍊", "🍇", "💎", "7️⃣"};
-        
-        Text reel1 = new Text(symbols[0]);
-        Text reel2 = new Text(symbols[1]);
-        Text reel3 = new Text(symbols[2]);
+        int[] stops = new int[SlotEngine.REELS];
         
-        reel1.setFont(Font.font("Verdana", FontWeight.BOLD, 100));
-        reel2.setFont(Font.font("Verdana", FontWeight.BOLD, 100));
-        reel3.setFont(Font.font("Verdana", FontWeight.BOLD, 100));
+        // Reels are image slices of the symbol atlas drawn into one canvas per window
+        SymbolAtlas atlas = reelAtlas();
+        Canvas reel1 = ReelRenderer.window(atlas);
+        Canvas reel2 = ReelRenderer.window(atlas);
+        Canvas reel3 = ReelRenderer.window(atlas);
+        ReelRenderer reels = new ReelRenderer(atlas, reel1, reel2, reel3);
+        reels.show(new int[] {0, 1, 2});
         
         StackPane box1 = new StackPane(reel1);
         StackPane box2 = new StackPane(reel2);
         StackPane box3 = new StackPane(reel3);
         
-        box1.setStyle("-fx-background-color: white; -fx-background-radius: 15; -fx-padding: 20;");
-        box2.setStyle("-fx-background-color: white; -fx-background-radius: 15; -fx-padding: 20;");
-        box3.setStyle("-fx-background-color: white; -fx-background-radius: 15; -fx-padding: 20;");
-        
-        box1.setMinSize(140, 140);
-        box2.setMinSize(140, 140);
-        box3.setMinSize(140, 140);
+        box1.getStyleClass().add("reel");
+        box2.getStyleClass().add("reel");
+        box3.getStyleClass().add("reel");
         
         HBox reelBox = new HBox(20, box1, box2, box3);
         reelBox.setAlignment(Pos.CENTER);
-        reelBox.setStyle("-fx-background-color: #8B4513; -fx-padding: 30; -fx-background-radius: 20;");
+        reelBox.getStyleClass().add("reel-strip");
+        
+        // Celebrations are drawn on one canvas over the whole scene, not built from nodes
+        ParticleSystem particles = ParticleSystem.attach(root, PARTICLES);
 
         TextField amountField = new TextField();
         amountField.setPromptText("Enter bet amount");
         amountField.setMaxWidth(200);
-        amountField.setStyle("-fx-font-size: 16px;");
+        amountField.getStyleClass().add("bet-field");
         
-        Label balanceLabel = new Label("💰 Balance: $" + String.format("%.2f", balance));
+        Label balanceLabel = new Label("💰 Balance: ...");
         balanceLabel.setFont(Font.font("Arial", FontWeight.BOLD, 20));
         balanceLabel.setTextFill(Color.YELLOW);
         
@@ -438,56 +604,263 @@ public class SushmaFX extends Application {
         resultLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
         resultLabel.setTextFill(Color.LIGHTGREEN);
 
-        Button spinBtn = createButton("🎲 SPIN!", e -> {
-            try {
-                double bet = Double.parseDouble(amountField.getText());
-                if (bet <= 0 || bet > balance) {
-                    resultLabel.setText("❌ Invalid bet amount!");
-                    resultLabel.setTextFill(Color.RED);
-                    return;
-                }
-                
-                int r1 = rand.nextInt(6);
-                int r2 = rand.nextInt(6);
-                int r3 = rand.nextInt(6);
-                
-                reel1.setText(symbols[r1]);
-                reel2.setText(symbols[r2]);
-                reel3.setText(symbols[r3]);
-                
-                double win = 0;
-                if (r1 == r2 && r2 == r3) {
-                    win = bet * 5;
-                    resultLabel.setText("🎉 JACKPOT! You won $" + String.format("%.2f", win) + "!");
+        // SPIN and AUTO, filled in once both exist
+        final List<Node> lockedDuringServerSpin = new ArrayList<>();
+
+        // Shows a settled spin, whether it ran here or on the slot server
+        Consumer<SlotClient.SpinResult> showSpin = spin -> {
+            if (!spin.accepted) {
+                resultLabel.setText("❌ Invalid bet amount!");
+                resultLabel.setTextFill(Color.RED);
+                return;
+            }
+            resultLabel.setText("🎰 Spinning...");
+            resultLabel.setTextFill(Color.WHITE);
+            // The outcome is settled already; it is shown once the reels have landed
+            reels.spin(new int[] {spin.getStop(0), spin.getStop(1), spin.getStop(2)}, () -> {
+                Bounds strip = reelBox.getBoundsInParent();
+                if (spin.pays == slotEngine.getThreeOfAKindPays()) {
+                    resultLabel.setText("🎉 JACKPOT! You won $" + Money.format(spin.win) + "!");
                     resultLabel.setTextFill(Color.GOLD);
-                } else if (r1 == r2 || r2 == r3 || r1 == r3) {
-                    win = bet * 2;
-                    resultLabel.setText("✨ Two Match! You won $" + String.format("%.2f", win) + "!");
+                    particles.emit(Burst.CONFETTI, 0, -10, root.getWidth(), 0, 1500);
+                    particles.emit(Burst.COINS, strip.getMinX(), strip.getMaxY(), strip.getWidth(), 0, 600);
+                } else if (spin.pays > 0) {
+                    resultLabel.setText("✨ Two Match! You won $" + Money.format(spin.win) + "!");
                     resultLabel.setTextFill(Color.LIGHTGREEN);
+                    particles.burst(Burst.SPARKS, strip.getCenterX(), strip.getCenterY(), 150);
                 } else {
                     resultLabel.setText("😢 No match. Try again!");
                     resultLabel.setTextFill(Color.LIGHTCORAL);
                 }
-                
-                balance += win - bet;
-                balanceLabel.setText("💰 Balance: $" + String.format("%.2f", balance));
-                
+                balanceLabel.setText("💰 Balance: $" + Money.format(spin.balance));
+            });
+        };
+
+        Button spinBtn = createButton("🎲 SPIN!", e -> {
+            long bet;
+            try {
+                bet = Money.parse(amountField.getText());
             } catch (NumberFormatException ex) {
                 resultLabel.setText("❌ Please enter a valid number!");
                 resultLabel.setTextFill(Color.RED);
+                return;
             }
+            
+            if (slotServer != null) {
+                // The server settles the spin off the FX thread; no autoplay until it is back
+                for (Node n : lockedDuringServerSpin) {
+                    n.setDisable(true);
+                }
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        SlotClient.SpinResult result = onSlotServer(client -> client.spin(slotPlayer, bet));
+                        recordSpin(bet, result);
+                        Platform.runLater(() -> showSpin.accept(result));
+                    } catch (IOException ex) {
+                        Platform.runLater(() -> {
+                            resultLabel.setText("❌ Slot server unavailable!");
+                            resultLabel.setTextFill(Color.RED);
+                        });
+                    } catch (IllegalStateException ex) {
+                        // The server refused the spin; the connection stays up
+                        Platform.runLater(() -> {
+                            resultLabel.setText("❌ Slot server: " + ex.getMessage());
+                            resultLabel.setTextFill(Color.RED);
+                        });
+                    } finally {
+                        Platform.runLater(() -> {
+                            for (Node n : lockedDuringServerSpin) {
+                                n.setDisable(false);
+                            }
+                        });
+                    }
+                });
+                return;
+            }
+            
+            // SPIN stays disabled until the journal is open, so this never waits on the FX thread
+            Wallet w = wallet.getNow(null);
+            if (w == null) {
+                return;
+            }
+            if (!w.bet(bet)) {
+                showSpin.accept(new SlotClient.SpinResult(false, 0, 0, w.getBalance(), stops));
+                return;
+            }
+            int pays = slotEngine.spin(rand, stops);
+            long win = bet * pays;
+            w.win(win);
+            slotStats.record(bet, pays, win, w.getBalance(), stops);
+            showSpin.accept(new SlotClient.SpinResult(true, pays, win, w.getBalance(), stops));
         });
+        
+        if (slotServer != null) {
+            // The local wallet isn't used against a server; show the server's balance instead
+            Thread.ofVirtual().start(() -> {
+                try {
+                    long balance = onSlotServer(client -> client.balance(slotPlayer));
+                    Platform.runLater(() -> balanceLabel.setText("💰 Balance: $" + Money.format(balance)));
+                } catch (IOException ex) {
+                    Platform.runLater(() -> balanceLabel.setText("💰 Balance: server unavailable"));
+                } catch (IllegalStateException ex) {
+                    Platform.runLater(() -> balanceLabel.setText("💰 Balance: " + ex.getMessage()));
+                }
+            });
+        }
 
-        Button back = createButton("⬅ Back", e -> switchScene(buildMainMenu()));
+        Button back = createButton("⬅ Back", e -> switchScene(MENU));
 
-        root.getChildren().addAll(title, reelBox, amountField, balanceLabel, spinBtn, resultLabel, back);
-        return new Scene(root, 900, 600);
+        // 🔁 Autoplay: spins settle on a worker thread and the screen polls the latest state once per pulse
+        TextField spinsField = new TextField();
+        spinsField.setPromptText("Spins");
+        spinsField.setPrefWidth(80);
+        spinsField.getStyleClass().add("bet-field");
+        TextField stopWinField = new TextField();
+        stopWinField.setPromptText("Stop on win $");
+        stopWinField.setPrefWidth(120);
+        stopWinField.getStyleClass().add("bet-field");
+        TextField lossField = new TextField();
+        lossField.setPromptText("Loss limit $");
+        lossField.setPrefWidth(120);
+        lossField.getStyleClass().add("bet-field");
+        CheckBox turbo = new CheckBox("⚡ Turbo");
+        turbo.setTextFill(Color.WHITE);
+        
+        final Autoplay[] autoplay = {null};
+        final Autoplay.Status autoStatus = new Autoplay.Status(SlotEngine.REELS);
+        final int[] autoShown = {0};
+        Node[] lockedDuringAutoplay = {spinBtn, amountField, spinsField, stopWinField, lossField, turbo};
+        
+        Button autoBtn = createButton("🔁 AUTO", e -> {
+            Button auto = (Button) e.getSource();
+            if (autoplay[0] != null) {
+                autoplay[0].stop();
+                return;
+            }
+            long bet;
+            int spins;
+            long stopOnWin;
+            long lossLimit;
+            try {
+                bet = Money.parse(amountField.getText());
+                spins = spinsField.getText().isBlank() ? 10 : Integer.parseInt(spinsField.getText().trim());
+                stopOnWin = stopWinField.getText().isBlank() ? 0 : Money.parse(stopWinField.getText());
+                lossLimit = lossField.getText().isBlank() ? 0 : Money.parse(lossField.getText());
+            } catch (NumberFormatException ex) {
+                resultLabel.setText("❌ Please enter valid autoplay numbers!");
+                resultLabel.setTextFill(Color.RED);
+                return;
+            }
+            try {
+                autoplay[0] = Autoplay.start(slotSpinSource(), SlotEngine.REELS, bet, spins,
+                        stopOnWin, lossLimit, turbo.isSelected());
+            } catch (IllegalArgumentException ex) {
+                resultLabel.setText("❌ " + ex.getMessage());
+                resultLabel.setTextFill(Color.RED);
+                return;
+            }
+            autoShown[0] = 0;
+            auto.setText("⏹ STOP");
+            for (Node n : lockedDuringAutoplay) {
+                n.setDisable(true);
+            }
+        });
+        
+        // Called once per pulse from the reel loop below; does nothing unless autoplay is on
+        Runnable showAutoplay = () -> {
+            Autoplay running = autoplay[0];
+            if (running == null) {
+                return;
+            }
+            if (running.poll(autoStatus) && autoStatus.spins > autoShown[0]) {
+                autoShown[0] = autoStatus.spins;
+                if (running.isTurbo()) {
+                    // Everything settled since the last pulse collapses into this one update
+                    reels.show(autoStatus.stops);
+                } else {
+                    reels.spin(autoStatus.stops, running::shown);
+                }
+                resultLabel.setText("🔁 Spin " + autoStatus.spins + "/" + autoStatus.planned
+                        + " | won $" + Money.format(autoStatus.totalWon) + " of $" + Money.format(autoStatus.totalBet));
+                resultLabel.setTextFill(Color.WHITE);
+            }
+            if (!autoStatus.running && !reels.isSpinning()) {
+                autoplay[0] = null;
+                autoBtn.setText("🔁 AUTO");
+                for (Node n : lockedDuringAutoplay) {
+                    n.setDisable(false);
+                }
+                long net = autoStatus.totalWon - autoStatus.totalBet;
+                resultLabel.setText("🔁 " + autoStatus.spins + " spins (" + autoStatus.stopReason + ") | "
+                        + (net >= 0 ? "up $" : "down $") + Money.format(Math.abs(net))
+                        + " | best win $" + Money.format(autoStatus.biggestWin));
+                resultLabel.setTextFill(net >= 0 ? Color.GOLD : Color.LIGHTCORAL);
+            }
+            if (autoStatus.spins > 0) {
+                balanceLabel.setText("💰 Balance: $" + Money.format(autoStatus.balance));
+            }
+        };
+        
+        lockedDuringServerSpin.add(spinBtn);
+        lockedDuringServerSpin.add(autoBtn);
+
+        if (slotServer == null) {
+            Wallet open = wallet.getNow(null);
+            if (open != null) {
+                // Already open (always so in a replay): ready from the first pulse
+                balanceLabel.setText("💰 Balance: $" + Money.format(open.getBalance()));
+            } else {
+                // The wallet journal is still replaying: no spins until it is open
+                spinBtn.setDisable(true);
+                autoBtn.setDisable(true);
+                wallet.thenAccept(w -> Platform.runLater(() -> {
+                    balanceLabel.setText("💰 Balance: $" + Money.format(w.getBalance()));
+                    spinBtn.setDisable(false);
+                    autoBtn.setDisable(false);
+                }));
+            }
+        }
+        
+        HBox spinRow = new HBox(10, spinBtn, spinsField, stopWinField, lossField, turbo, autoBtn);
+        spinRow.setAlignment(Pos.CENTER);
+
+        root.getChildren().addAll(title, reelBox, amountField, balanceLabel, spinRow, resultLabel, back);
+        particles.getCanvas().toFront();
+
+        // Reels run on the frame clock like the other games, so replays land them on the same frame
+        FixedStepLoop reelLoop = new FixedStepLoop(ReelRenderer.STEP, new FixedStepLoop.Simulation() {
+            @Override
+            public void step(double dt) {
+                reels.step(dt);
+                particles.step(dt);
+            }
+
+            @Override
+            public void render(double alpha) {
+                showAutoplay.run();
+                reels.render();
+                particles.render();
+            }
+        });
+        reelLoop.start();
+        scenes.track(reelLoop);
+
+        Scene scene = new Scene(root, 900, 600);
+        // Nobody can watch (or stop) a run once the scene is off screen, and it may be evicted
+        scene.windowProperty().addListener((obs, was, now) -> {
+            if (now == null && autoplay[0] != null) {
+                autoplay[0].stop();
+            }
+        });
+        // F4 shows the session's live statistics, F5 appends a snapshot to the export file
+        SessionStatsPanel.install(scene, slotStats, SLOT_SYMBOLS, slotStatsFile());
+        return scene;
     }
 
     /* 🏀 INTERACTIVE BASKETBALL GAME */
     private Scene buildBallScene() {
         Pane pane = new Pane();
-        pane.setStyle("-fx-background-color: linear-gradient(to bottom, #1a1a2e, #16213e);");
+        pane.getStyleClass().add("ball-root");
 
         Rectangle floor = new Rectangle(0, 500, 900, 100);
         floor.setFill(Color.web("#8B4513"));
@@ -496,17 +869,20 @@ public class SushmaFX extends Application {
         centerLine.setStroke(Color.WHITE);
         centerLine.setStrokeWidth(3);
 
-        Rectangle backboard = new Rectangle(700, 200, 10, 100);
+        // Backboard and rim sit where the physics engine has them
+        Rectangle backboard = new Rectangle(BallPhysics.BACKBOARD_X, BallPhysics.BACKBOARD_TOP,
+                10, BallPhysics.BACKBOARD_BOTTOM - BallPhysics.BACKBOARD_TOP);
         backboard.setFill(Color.WHITE);
         backboard.setStroke(Color.BLACK);
         backboard.setStrokeWidth(2);
         
-        Ellipse rim = new Ellipse(680, 280, 40, 8);
+        Ellipse rim = new Ellipse((BallPhysics.RIM_LEFT + BallPhysics.RIM_RIGHT) / 2, BallPhysics.RIM_Y,
+                (BallPhysics.RIM_RIGHT - BallPhysics.RIM_LEFT) / 2, 8);
         rim.setFill(Color.TRANSPARENT);
         rim.setStroke(Color.ORANGE);
         rim.setStrokeWidth(4);
         
-        Rectangle pole = new Rectangle(695, 300, 10, 200);
+        Rectangle pole = new Rectangle(BallPhysics.BACKBOARD_X, BallPhysics.BACKBOARD_BOTTOM, 10, 200);
         pole.setFill(Color.GRAY);
         
         Line net1 = new Line(640, 280, 650, 320);
@@ -543,10 +919,18 @@ public class SushmaFX extends Application {
 
         Group ballGroup = new Group(ball, ballLine1, ballLine2, ballLine3);
 
+        // Rapid fire balls are drawn onto one canvas rather than a Group each
+        Canvas swarmLayer = new Canvas(900, 600);
+        swarmLayer.setMouseTransparent(true);
+        BallSwarm swarm = new BallSwarm(RAPID_FIRE_BALLS);
+        BallSwarmRenderer swarmRenderer = new BallSwarmRenderer(swarmLayer);
+
         pane.getChildren().addAll(
             floor, centerLine, pole, backboard, rim,
-            net1, net2, net3, net4, net5, net6, ballGroup
+            net1, net2, net3, net4, net5, net6, swarmLayer, ballGroup
         );
+        // Cached while in flight, released again once the ball has settled
+        renderCache.watch("basketball", ballGroup);
 
         Label scoreLabel = new Label("🏀 Score: " + basketballScore + " | Click to Shoot!");
         scoreLabel.setFont(Font.font("Verdana", FontWeight.BOLD, 24));
@@ -560,124 +944,430 @@ public class SushmaFX extends Application {
         powerLabel.setLayoutX(380);
         powerLabel.setLayoutY(70);
 
-        Button back = createButton("⬅ Back", e -> switchScene(buildMainMenu()));
+        Button back = createButton("⬅ Back", e -> switchScene(MENU));
         back.setLayoutX(20);
         back.setLayoutY(20);
         
-        pane.getChildren().addAll(scoreLabel, powerLabel, back);
+        Button rapidBtn = createButton("🔥 Rapid Fire", null);
+        rapidBtn.setLayoutX(20);
+        rapidBtn.setLayoutY(75);
+        
+        // Rounds of BALL_ROUND_SHOTS shots go on the leaderboard under this name
+        TextField playerName = new TextField();
+        playerName.setPromptText("🏷️ Your name");
+        playerName.setPrefWidth(190);
+        playerName.setLayoutX(690);
+        playerName.setLayoutY(20);
+        
+        Label roundLabel = new Label("Shot 1/" + BALL_ROUND_SHOTS);
+        roundLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+        roundLabel.setTextFill(Color.LIGHTBLUE);
+        roundLabel.setLayoutX(250);
+        roundLabel.setLayoutY(105);
+        
+        Label topLabel = new Label("🏆 Top 5");
+        topLabel.setFont(Font.font("Arial", 12));
+        topLabel.setTextFill(Color.WHITE);
+        topLabel.setLayoutX(690);
+        topLabel.setLayoutY(60);
+        leaderboard.thenAccept(board -> {
+            String top = topList(board);
+            Platform.runLater(() -> topLabel.setText(top));
+        });
+        
+        pane.getChildren().addAll(scoreLabel, powerLabel, back, rapidBtn, playerName, roundLabel, topLabel);
+        ParticleSystem particles = ParticleSystem.attach(pane, PARTICLES);
 
         Scene scene = new Scene(pane, 900, 600);
+        BallPhysics shot = new BallPhysics();
         
-        // Interactive shooting
+        // Interactive shooting: hold to charge (40% a second), the pointer sets the launch angle
         final double[] power = {0};
+        final double[] angle = {55};
         final boolean[] charging = {false};
-        
-        Timeline powerCharge = new Timeline(new KeyFrame(Duration.millis(50), e -> {
-            if (charging[0]) {
-                power[0] = Math.min(power[0] + 2, 100);
-                powerLabel.setText("🔋 Power: " + (int)power[0] + "%");
-            }
-        }));
-        powerCharge.setCycleCount(Animation.INDEFINITE);
+        // Rapid fire: hold to keep shooting, the pointer's distance from the spot sets the power
+        final boolean[] rapid = {false};
+        final boolean[] firing = {false};
+        final double[] fireClock = {0};
+        Random spread = new Random(seed);
         
         scene.setOnMousePressed(e -> {
-            if (e.getX() < 600) {
+            if (e.getX() >= 600) {
+                return;
+            }
+            if (rapid[0]) {
+                firing[0] = true;
+                fireClock[0] = 0;
+                power[0] = aimPower(e.getX(), e.getY());
+                angle[0] = aimAngle(e.getX(), e.getY());
+            } else if (!shot.isInFlight()) {
                 charging[0] = true;
                 power[0] = 0;
-                powerCharge.play();
+                angle[0] = aimAngle(e.getX(), e.getY());
+            }
+        });
+        
+        scene.setOnMouseDragged(e -> {
+            if (firing[0]) {
+                power[0] = aimPower(e.getX(), e.getY());
+            }
+            if (charging[0] || firing[0]) {
+                angle[0] = aimAngle(e.getX(), e.getY());
             }
         });
         
         scene.setOnMouseReleased(e -> {
+            firing[0] = false;
             if (charging[0]) {
                 charging[0] = false;
-                powerCharge.stop();
-                
-                ball.setCenterX(150);
-                ball.setCenterY(450);
-                ballLine1.setCenterX(150);
-                ballLine1.setCenterY(450);
-                ballLine2.setCenterX(150);
-                ballLine2.setCenterY(450);
-                ballLine3.setStartX(150);
-                ballLine3.setStartY(425);
-                ballLine3.setEndX(150);
-                ballLine3.setEndY(475);
+                shot.launch(power[0], angle[0]);
+                power[0] = 0;
+                powerLabel.setText("🔋 Power: 0%");
+            }
+        });
+        
+        // The engine decides everything; the view only mirrors its state. Charging and the
+        // pause after a shot count simulation time, so a replay scores exactly like the recording.
+        final boolean[] reported = {true};
+        final Session[] round = {new Session(BALL_ROUND_SHOTS)};
+        final double[] pauseLeft = {0};
+        final int[] shownPower = {0, 0};
+        final int[] swishes = {0};
+        final long[] shownSwarm = {-1, -1, -1};
+        
+        rapidBtn.setOnAction(e -> {
+            rapid[0] = !rapid[0];
+            charging[0] = false;
+            firing[0] = false;
+            // Whatever was in the air is dropped, not scored
+            swarm.clear();
+            shot.reset();
+            reported[0] = true;
+            pauseLeft[0] = 0;
+            shownSwarm[0] = -1;
+            ballGroup.setVisible(!rapid[0]);
+            rapidBtn.setText(rapid[0] ? "🏀 Single Shot" : "🔥 Rapid Fire");
+            scoreLabel.setTextFill(Color.YELLOW);
+            scoreLabel.setText("🏀 Score: " + basketballScore + " | Click to Shoot!");
+        });
+        
+        FixedStepLoop game = new FixedStepLoop(BallPhysics.STEP, new FixedStepLoop.Simulation() {
+            @Override
+            public void step(double dt) {
+                shot.step(dt);
+                swishes[0] += swarm.step(dt);
+                particles.step(dt);
+                if (firing[0]) {
+                    fireClock[0] -= dt;
+                    if (fireClock[0] <= 0) {
+                        fireClock[0] += 1 / RAPID_FIRE_RATE;
+                        // A little spread so the stream fans out instead of stacking up
+                        swarm.fire(power[0] + spread.nextGaussian() * 2, angle[0] + spread.nextGaussian());
+                    }
+                }
+                if (charging[0]) {
+                    power[0] = Math.min(power[0] + 40 * dt, 100);
+                }
+                if (pauseLeft[0] > 0) {
+                    pauseLeft[0] -= dt;
+                    if (pauseLeft[0] <= 0 && !shot.isInFlight()) {
+                        shot.reset();
+                    }
+                }
+            }
+            
+            @Override
+            public void render(double alpha) {
+                ballGroup.setTranslateX(shot.renderX(alpha) - BallPhysics.START_X);
+                ballGroup.setTranslateY(shot.renderY(alpha) - BallPhysics.START_Y);
+                ballGroup.setRotate(quality.allowsSpin() ? shot.renderRotation(alpha) : 0);
+                swarmRenderer.setSpin(quality.allowsSpin());
+                swarmRenderer.render(swarm, alpha);
+                particles.render();
                 
-                PathTransition shoot = new PathTransition();
-                shoot.setDuration(Duration.seconds(1.5 - (power[0] / 100)));
-                shoot.setNode(ballGroup);
+                if (rapid[0] && (swarm.getMade() != shownSwarm[0] || swarm.getFired() != shownSwarm[1]
+                        || swarm.getCount() != shownSwarm[2])) {
+                    shownSwarm[0] = swarm.getMade();
+                    shownSwarm[1] = swarm.getFired();
+                    shownSwarm[2] = swarm.getCount();
+                    scoreLabel.setText("🔥 Rapid Fire: " + shownSwarm[0] + "/" + shownSwarm[1]
+                            + " | 🏀 " + shownSwarm[2] + " in the air");
+                }
+                if (swishes[0] > 0) {
+                    particles.burst(Burst.SPARKS, (BallPhysics.RIM_LEFT + BallPhysics.RIM_RIGHT) / 2,
+                            BallPhysics.RIM_Y, 60 * swishes[0]);
+                    swishes[0] = 0;
+                }
                 
-                Path shootPath = new Path();
-                shootPath.getElements().add(new MoveTo(150, 450));
+                if ((charging[0] || firing[0]) && ((int) power[0] != shownPower[0] || (int) angle[0] != shownPower[1])) {
+                    shownPower[0] = (int) power[0];
+                    shownPower[1] = (int) angle[0];
+                    powerLabel.setText("🔋 Power: " + shownPower[0] + "% | 🎯 " + shownPower[1] + "°");
+                }
                 
-                double controlY = 100 - (power[0] * 1.5);
-                shootPath.getElements().add(new QuadCurveTo(400, controlY, 680, 280));
+                if (pauseLeft[0] < 0) {
+                    pauseLeft[0] = 0;
+                    scoreLabel.setTextFill(Color.YELLOW);
+                    scoreLabel.setText("🏀 Score: " + basketballScore + " | Click to Shoot!");
+                }
                 
-                shoot.setPath(shootPath);
-                shoot.setOnFinished(ev -> {
-                    double distanceToHoop = Math.abs(ballGroup.getTranslateX() + 150 - 680);
-                    if (distanceToHoop < 50) {
+                if (shot.isInFlight()) {
+                    reported[0] = false;
+                } else if (!reported[0]) {
+                    reported[0] = true;
+                    if (shot.hasScored()) {
                         basketballScore++;
                         scoreLabel.setText("🏀 Score: " + basketballScore + " | SWISH! 🎉");
                         scoreLabel.setTextFill(Color.GOLD);
+                        double rimX = (BallPhysics.RIM_LEFT + BallPhysics.RIM_RIGHT) / 2;
+                        particles.burst(Burst.SPARKS, rimX, BallPhysics.RIM_Y, 250);
+                        particles.emit(Burst.CONFETTI, rimX - 150, -10, 300, 0, 400);
                     } else {
                         scoreLabel.setText("🏀 Score: " + basketballScore + " | Missed! Try again!");
                         scoreLabel.setTextFill(Color.LIGHTCORAL);
                     }
-                    
-                    PauseTransition pause = new PauseTransition(Duration.seconds(0.5));
-                    pause.setOnFinished(pev -> {
-                        ballGroup.setTranslateX(0);
-                        ballGroup.setTranslateY(0);
-                        scoreLabel.setTextFill(Color.YELLOW);
-                        scoreLabel.setText("🏀 Score: " + basketballScore + " | Click to Shoot!");
-                    });
-                    pause.play();
-                });
-                
-                RotateTransition rotate = new RotateTransition(Duration.seconds(1.5), ballGroup);
-                rotate.setByAngle(720);
-                
-                shoot.play();
-                rotate.play();
-                
-                power[0] = 0;
-                powerLabel.setText("🔋 Power: 0%");
+                    round[0].shot(shot.hasScored());
+                    if (round[0].isOver()) {
+                        saveRound(round[0], playerName.getText(), roundLabel, topLabel);
+                        round[0] = new Session(BALL_ROUND_SHOTS);
+                    } else {
+                        roundLabel.setText("Shot " + (round[0].getTaken() + 1) + "/" + BALL_ROUND_SHOTS
+                                + " | 🔥 Streak " + round[0].getStreak() + " (best " + round[0].getBestStreak() + ")");
+                    }
+                    pauseLeft[0] = 0.5;
+                }
             }
         });
+        game.start();
+        scenes.track(game);
 
         return scene;
     }
 
-    /* ✨ Helper: Fancy Buttons */
+    /* 🏆 Helper: Save a finished round off the FX thread, then show its rank and the new top 5 */
+    private void saveRound(Session round, String player, Label roundLabel, Label topLabel) {
+        String result = "🏁 " + round.getMade() + "/" + round.getShots() + ", best streak " + round.getBestStreak();
+        roundLabel.setText(result + " | saving...");
+        Thread.ofVirtual().start(() -> {
+            Leaderboard board = leaderboard.join();
+            String standing;
+            try {
+                long rank = board.record(player, round.getMade(), round.getBestStreak(), round.getShots());
+                standing = String.format("%s | #%,d of %,d", result, rank, board.size());
+            } catch (IOException e) {
+                System.err.println("Could not save the round: " + e.getMessage());
+                standing = result + " | not saved";
+            }
+            String shown = standing;
+            String top = topList(board);
+            Platform.runLater(() -> {
+                roundLabel.setText(shown);
+                topLabel.setText(top);
+            });
+        });
+    }
+
+    /* 🏆 Helper: The five best rounds, one per line */
+    private static String topList(Leaderboard board) {
+        StringBuilder sb = new StringBuilder("🏆 Top 5");
+        List<Leaderboard.Entry> top = board.top();
+        for (int i = 0; i < Math.min(5, top.size()); i++) {
+            Leaderboard.Entry e = top.get(i);
+            sb.append('\n').append(i + 1).append(". ").append(e.player)
+              .append("  ").append(e.score).append('/').append(e.shots)
+              .append("  🔥").append(e.bestStreak);
+        }
+        return sb.toString();
+    }
+
+    /* ⏺️ Helper: Record input with -Dsushmafx.record=<file>, or play back the -Dsushmafx.replay log and exit */
+    private void recordOrReplay() {
+        if (replayLog != null) {
+            InputReplay.start(mainStage, replayLog, replay -> {
+                replay.printReport(System.out);
+                System.out.println("final state: balance $" + Money.format(wallet.join().getBalance())
+                        + ", basketballScore " + basketballScore);
+                Platform.exit();
+            });
+            return;
+        }
+        String file = System.getProperty("sushmafx.record");
+        if (file == null) {
+            return;
+        }
+        try {
+            recorder = InputRecorder.start(mainStage, Paths.get(file), seed, wallet.join().getBalance());
+        } catch (IOException e) {
+            System.err.println("Could not record input: " + e.getMessage());
+        }
+    }
+
+    /* 📼 Helper: The log named by -Dsushmafx.replay, or null when not replaying */
+    private static InputLog readReplayLog() {
+        String file = System.getProperty("sushmafx.replay");
+        if (file == null) {
+            return null;
+        }
+        try {
+            return InputLog.read(Paths.get(file));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read input log " + file, e);
+        }
+    }
+
+    /* 📡 A request to the slot server */
+    private interface SlotCall<T> {
+        T call(SlotClient client) throws IOException;
+    }
+
+    /*
+     * 📡 Helper: Runs call on the slot server connection (opened on first use), holding it
+     * for the whole request so replies never cross; a broken connection is dropped so
+     * the next request reconnects, a refused request (IllegalStateException) keeps it.
+     * Network threads only.
+     */
+    private <T> T onSlotServer(SlotCall<T> call) throws IOException {
+        slotLock.lock();
+        try {
+            if (slotClient == null) {
+                slotClient = SlotClient.connect(slotServer);
+            }
+            return call.call(slotClient);
+        } catch (IOException e) {
+            dropSlotClient();
+            throw e;
+        } finally {
+            slotLock.unlock();
+        }
+    }
+
+    /* 📡 Helper: Close the connection; without the lock, so a request stuck on it is woken up too */
+    private void dropSlotClient() {
+        SlotClient client = slotClient;
+        slotClient = null;
+        if (client != null) {
+            try {
+                client.close();
+            } catch (IOException ignored) {
+                // it is broken already
+            }
+        }
+    }
+
+    /* 🔁 Helper: How autoplay settles a spin: on the slot server if there is one, else the local wallet */
+    private Autoplay.SpinSource slotSpinSource() {
+        if (slotServer != null) {
+            return (bet, out) -> {
+                SlotClient.SpinResult result = onSlotServer(client -> client.spin(slotPlayer, bet));
+                recordSpin(bet, result);
+                result.copyTo(out);
+            };
+        }
+        return (bet, out) -> {
+            Wallet w = wallet.join();
+            out.accepted = w.bet(bet);
+            if (out.accepted) {
+                out.pays = slotEngine.spin(rand, out.stops);
+                out.win = bet * out.pays;
+                w.win(out.win);
+                slotStats.record(bet, out.pays, out.win, w.getBalance(), out.stops);
+            }
+            out.balance = w.getBalance();
+        };
+    }
+
+    /* 📊 Helper: Count a spin the slot server settled */
+    private void recordSpin(long bet, SlotClient.SpinResult spin) {
+        if (!spin.accepted) {
+            return;
+        }
+        int[] stops = new int[SlotEngine.REELS];
+        for (int i = 0; i < stops.length; i++) {
+            stops[i] = spin.getStop(i);
+        }
+        slotStats.record(bet, spin.pays, spin.win, spin.balance, stops);
+    }
+
+    /* 📊 Helper: Where F5 and -Dsushmafx.slotStats exports go */
+    private static java.nio.file.Path slotStatsFile() {
+        return Paths.get(System.getProperty("sushmafx.slotStats", "sushmafx-slot-stats.txt"));
+    }
+
+    /* 📡 Helper: -Dsushmafx.player, or "kiosk" if it can't be sent to the server */
+    private static String slotPlayer() {
+        String player = System.getProperty("sushmafx.player", "kiosk");
+        if (!SlotServer.isValidPlayer(player)) {
+            System.err.println("Invalid player name '" + player + "' (1-64 characters, no spaces), playing as kiosk");
+            return "kiosk";
+        }
+        return player;
+    }
+
+    /* 🎡 Helper: Slot rules, with weighted reels from -Dsushmafx.reels=<file> if given */
+    private static SlotEngine createSlotEngine() {
+        SlotEngine classic = new SlotEngine();
+        String reelFile = System.getProperty("sushmafx.reels");
+        if (reelFile == null) {
+            return classic;
+        }
+        try {
+            ReelSet reels = ReelSet.load(Paths.get(reelFile), classic.getSymbolCount());
+            return new SlotEngine(reels, classic.getThreeOfAKindPays(), classic.getPairPays());
+        } catch (IOException e) {
+            System.err.println("Could not load reels, using uniform reels: " + e.getMessage());
+            return classic;
+        }
+    }
+
+    /* 🎰 Helper: The reel symbols drawn into one image the first time they are needed */
+    private SymbolAtlas reelAtlas() {
+        if (reelAtlas == null) {
+            reelAtlas = SymbolAtlas.render(SLOT_SYMBOLS, Font.font("Verdana", FontWeight.BOLD, 90), 120);
+        }
+        return reelAtlas;
+    }
+
+    /* 🏆 Helper: Leaderboard kept in -Dsushmafx.leaderboard=<file> (sushmafx-leaderboard.idx by default) */
+    private static Leaderboard openLeaderboard() {
+        String file = System.getProperty("sushmafx.leaderboard", "sushmafx-leaderboard.idx");
+        try {
+            return Leaderboard.open(Paths.get(file));
+        } catch (IOException e) {
+            System.err.println("Could not open the leaderboard, rounds won't be saved: " + e.getMessage());
+            return Leaderboard.inMemory();
+        }
+    }
+
+    /* 👛 Helper: Wallet journaled to -Dsushmafx.wallet=<file> (sushmafx-wallet.journal by default) */
+    private static Wallet openWallet() {
+        String file = System.getProperty("sushmafx.wallet", "sushmafx-wallet.journal");
+        try {
+            return Wallet.open(Paths.get(file), 100_00);
+        } catch (IOException e) {
+            System.err.println("Could not open the wallet journal, balance won't be saved: " + e.getMessage());
+            return Wallet.inMemory(100_00);
+        }
+    }
+
+    /* ✨ Helper: Fancy Buttons (look and :hover gradient come from the theme stylesheet) */
     private Button createButton(String text, javafx.event.EventHandler<javafx.event.ActionEvent> handler) {
         Button btn = new Button(text);
-        btn.setFont(Font.font("Arial", FontWeight.BOLD, 18));
-        btn.setTextFill(Color.WHITE);
-        btn.setStyle("-fx-background-color: linear-gradient(to right, #FF69B4, #FF1493);"
-                   + "-fx-background-radius: 30; -fx-padding: 10 25 10 25;");
-        btn.setOnMouseEntered(e -> btn.setStyle("-fx-background-color: linear-gradient(to right, #FF1493, #FF69B4);"
-                   + "-fx-background-radius: 30; -fx-padding: 10 25 10 25;"));
-        btn.setOnMouseExited(e -> btn.setStyle("-fx-background-color: linear-gradient(to right, #FF69B4, #FF1493);"
-                   + "-fx-background-radius: 30; -fx-padding: 10 25 10 25;"));
+        btn.getStyleClass().add("fancy-button");
         btn.setOnAction(handler);
         return btn;
     }
 
     /* 🎬 Scene Transition */
-    private void switchScene(Scene newScene) {
-        FadeTransition fadeOut = new FadeTransition(Duration.seconds(0.6), mainStage.getScene().getRoot());
-        fadeOut.setFromValue(1.0);
-        fadeOut.setToValue(0.0);
-        fadeOut.setOnFinished(e -> {
-            mainStage.setScene(newScene);
-            FadeTransition fadeIn = new FadeTransition(Duration.seconds(0.6), newScene.getRoot());
-            fadeIn.setFromValue(0.0);
-            fadeIn.setToValue(1.0);
-            fadeIn.play();
+    private void switchScene(String key) {
+        // Build (or fetch the cached scene) up front so the fade-out isn't interrupted later
+        Scene newScene = scenes.get(key);
+        // Fades run on the frame clock, so a replay switches scenes on the recorded frame
+        FrameFade.play(mainStage.getScene().getRoot(), 1.0, 0.0, 0.6, () -> {
+            mainStage.setScene(scenes.activate(key));
+            metrics.sceneShown(key, newScene);
+            quality.sceneShown(key, newScene);
+            FrameFade.play(newScene.getRoot(), 0.0, 1.0, 0.6, null);
         });
-        fadeOut.play();
     }
 
     public static void main(String[] args) {
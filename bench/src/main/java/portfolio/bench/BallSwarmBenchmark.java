@@ -0,0 +1,112 @@
+package portfolio.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.ball.BallPhysics;
+import portfolio.ball.BallSwarm;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * One rapid-fire step with a steady number of balls spread over the court: "step" is
+ * the whole BallSwarm step (motion, grid broad phase, ball and court contacts);
+ * "allPairs" is the same step followed by the distance test of every pair of balls
+ * that a step without a broad phase would need, for comparison. A 240 Hz step has a
+ * 4,167 us budget.
+ *
+ * The court does not grow with the ball count, so more balls also means a denser
+ * pile with more neighbours each. At the end of a run the candidate pairs the grid
+ * handed over and the contacts resolved are printed per ball and step, which is what
+ * a step's cost follows; SwarmBroadPhaseBenchmark keeps the density fixed instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BallSwarmBenchmark {
+
+    @Param({"50", "200", "800"})
+    public int balls;
+
+    private BallSwarm swarm;
+    private SplittableRandom random;
+    private double[] x;
+    private double[] y;
+    private long candidates;
+    private long contacts;
+    private long ballSteps;
+
+    @Setup
+    public void setUp() {
+        swarm = new BallSwarm(balls);
+        random = new SplittableRandom(42);
+        x = new double[balls];
+        y = new double[balls];
+        for (int i = 0; i < 1000; i++) {
+            topUp();
+            swarm.step(BallPhysics.STEP);
+        }
+        candidates = swarm.getCandidates();
+        contacts = swarm.getContacts();
+        ballSteps = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%d balls: %.2f candidate pairs and %.2f contacts per ball and step%n", balls,
+                (swarm.getCandidates() - candidates) / (double) ballSteps,
+                (swarm.getContacts() - contacts) / (double) ballSteps);
+    }
+
+    @Benchmark
+    public int step() {
+        topUp();
+        ballSteps += swarm.getCount();
+        return swarm.step(BallPhysics.STEP);
+    }
+
+    @Benchmark
+    public int allPairs() {
+        topUp();
+        ballSteps += swarm.getCount();
+        swarm.step(BallPhysics.STEP);
+        int n = swarm.getCount();
+        for (int i = 0; i < n; i++) {
+            x[i] = swarm.getX(i);
+            y[i] = swarm.getY(i);
+        }
+        double reach = BallPhysics.RADIUS * 2;
+        int touching = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double dx = x[j] - x[i];
+                double dy = y[j] - y[i];
+                if (dx * dx + dy * dy < reach * reach) {
+                    touching++;
+                }
+            }
+        }
+        return touching;
+    }
+
+    /* Balls thrown in across the court as others land or fly off */
+    private void topUp() {
+        while (swarm.getCount() < balls) {
+            swarm.spawn(random.nextDouble() * 900, random.nextDouble() * 300,
+                    random.nextDouble(-300, 300), random.nextDouble(-300, -100));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package portfolio.bench;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+/*
+ * 🧪 FX Bench
+ *   Starts the JavaFX toolkit once per benchmark JVM (headless through Monocle with
+ *   the flags SceneBuildBenchmark forks with) and runs work on the FX application thread.
+ */
+final class FxBench {
+
+    private static boolean started;
+
+    private FxBench() {
+    }
+
+    static synchronized void start() throws InterruptedException {
+        if (started) {
+            return;
+        }
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            Platform.startup(ready::countDown);
+        } catch (IllegalStateException alreadyRunning) {
+            ready.countDown();
+        }
+        Platform.setImplicitExit(false);
+        ready.await();
+        started = true;
+    }
+
+    static <T> T onFx(Callable<T> work) throws ExecutionException, InterruptedException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(work.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result.get();
+    }
+}
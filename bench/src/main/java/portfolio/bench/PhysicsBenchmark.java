@@ -0,0 +1,58 @@
+package portfolio.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.ball.BallPhysics;
+import portfolio.car.CarPhysics;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-step state updates of the car and basketball scenes, plus a whole shot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsBenchmark {
+
+    private final CarPhysics car = new CarPhysics();
+    private final BallPhysics ball = new BallPhysics();
+    private final BallPhysics shot = new BallPhysics();
+
+    @Setup
+    public void setUp() {
+        car.setRight(true);
+        car.setBoost(true);
+    }
+
+    @Benchmark
+    public double carStep() {
+        car.step(CarPhysics.STEP);
+        return car.getX();
+    }
+
+    @Benchmark
+    public double ballStep() {
+        if (!ball.isInFlight()) {
+            ball.launch(68, 55);
+        }
+        ball.step(BallPhysics.STEP);
+        return ball.getY();
+    }
+
+    @Benchmark
+    public boolean wholeShot() {
+        return shot.simulate(68, 55);
+    }
+}
@@ -0,0 +1,130 @@
+package portfolio.bench;
+
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.effect.Glow;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.SVGPath;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.scene.RenderCache;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Software render cost of one menu-and-ball frame: a glowing title shape that fades,
+ * the stroked ring that spins and the basketball group flying and rotating, all moving
+ * every frame as they do on screen. Each frame is rendered through a scene snapshot,
+ * which draws the same node tree the window would. "off" rasterises the shapes and the
+ * glow every frame; "policy" lets RenderCache decide, so they are blitted from bitmaps.
+ * (Text needs the native font stack, so the title is a path of similar size.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"
+})
+public class RenderCacheBenchmark {
+
+    @Param({"off", "policy"})
+    public String cache;
+
+    private Scene scene;
+    private WritableImage frame;
+    private RenderCache renderCache;
+    private SVGPath title;
+    private Circle ring;
+    private Group ball;
+    private int tick;
+
+    @Setup
+    public void setUp() throws Exception {
+        FxBench.start();
+        FxBench.onFx(() -> {
+            title = new SVGPath();
+            // A wide row of lightning bolts standing in for the 40px bold title
+            StringBuilder bolts = new StringBuilder();
+            for (int i = 0; i < 12; i++) {
+                int x = 120 + i * 55;
+                bolts.append("M").append(x).append(" 40 L").append(x + 30).append(" 40 L").append(x + 12)
+                     .append(" 62 L").append(x + 34).append(" 62 L").append(x - 4).append(" 92 L")
+                     .append(x + 10).append(" 68 L").append(x - 8).append(" 68 Z ");
+            }
+            title.setContent(bolts.toString());
+            title.setFill(Color.CYAN);
+            title.setEffect(new Glow(0.8));
+
+            ring = new Circle(450, 300, 100);
+            ring.setFill(Color.TRANSPARENT);
+            ring.setStroke(Color.CYAN);
+            ring.setStrokeWidth(3);
+            ring.getStrokeDashArray().setAll(24.0, 8.0);
+
+            Circle body = new Circle(150, 450, 25, Color.ORANGE);
+            body.setStroke(Color.BLACK);
+            body.setStrokeWidth(2);
+            Arc left = new Arc(150, 450, 25, 25, 90, 180);
+            left.setType(ArcType.OPEN);
+            left.setFill(Color.TRANSPARENT);
+            left.setStroke(Color.BLACK);
+            left.setStrokeWidth(2);
+            Arc right = new Arc(150, 450, 25, 25, 270, 180);
+            right.setType(ArcType.OPEN);
+            right.setFill(Color.TRANSPARENT);
+            right.setStroke(Color.BLACK);
+            right.setStrokeWidth(2);
+            Line seam = new Line(150, 425, 150, 475);
+            seam.setStrokeWidth(2);
+            ball = new Group(body, left, right, seam);
+
+            Pane root = new Pane(title, ring, ball);
+            root.setStyle("-fx-background-color: #0f0c29;");
+            scene = new Scene(root, 900, 600);
+            // Not shown; the stage only gives the scene a window, as it has in the app
+            new Stage().setScene(scene);
+            frame = new WritableImage(900, 600);
+            if (cache.equals("policy")) {
+                renderCache = new RenderCache();
+                renderCache.watch("title", title);
+                renderCache.watch("ring", ring);
+                renderCache.watch("ball", ball);
+            }
+            return scene;
+        });
+    }
+
+    @Benchmark
+    public WritableImage frame() throws Exception {
+        return FxBench.onFx(() -> {
+            tick++;
+            title.setOpacity(0.8 + 0.2 * Math.sin(tick * 0.05));
+            ring.setRotate(tick * 1.2 % 360);
+            ball.setTranslateX(tick * 3 % 600);
+            ball.setTranslateY(-120 * Math.abs(Math.sin(tick * 0.02)));
+            ball.setRotate(tick * 6 % 360);
+            if (renderCache != null) {
+                renderCache.update();
+            }
+            return scene.snapshot(frame);
+        });
+    }
+}
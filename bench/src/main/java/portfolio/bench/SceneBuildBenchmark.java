@@ -0,0 +1,77 @@
+package portfolio.bench;
+
+import javafx.scene.Scene;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.scene.SceneRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Cost of building each scene from scratch (buildMainMenu, buildSlotScene, ...),
+ * measured on the FX thread. SushmaFX lives in the default package, so its private
+ * builders are reached reflectively and run through its own SceneRegistry, exactly
+ * as the app does; the scene is invalidated again after every build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"
+})
+public class SceneBuildBenchmark {
+
+    @Param({"buildMainMenu", "buildAboutScene", "buildCarScene", "buildSlotScene", "buildBallScene"})
+    public String builder;
+
+    private SceneRegistry scenes;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Keep the benchmark's wallet journal and leaderboard out of the working directory
+        System.setProperty("sushmafx.wallet",
+                Files.createTempFile("bench-wallet", ".journal").toString());
+        System.setProperty("sushmafx.leaderboard",
+                Files.createTempFile("bench-leaderboard", ".idx").toString());
+        FxBench.start();
+
+        Class<?> appClass = Class.forName("SushmaFX");
+        Object app = FxBench.onFx(() -> appClass.getDeclaredConstructor().newInstance());
+        Field registry = appClass.getDeclaredField("scenes");
+        registry.setAccessible(true);
+        scenes = (SceneRegistry) registry.get(app);
+
+        Method build = appClass.getDeclaredMethod(builder);
+        build.setAccessible(true);
+        scenes.register(builder, () -> {
+            try {
+                return (Scene) build.invoke(app);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public Scene build() throws Exception {
+        return FxBench.onFx(() -> {
+            Scene scene = scenes.get(builder);
+            scenes.invalidate(builder);
+            return scene;
+        });
+    }
+}
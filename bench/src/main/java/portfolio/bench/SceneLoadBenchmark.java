@@ -0,0 +1,84 @@
+package portfolio.bench;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.scene.SceneCompiler;
+import portfolio.scene.SceneLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Instantiating the menu and About layouts, node tree only (no Scene, CSS or layout):
+ * "compiled" reads the .bin the build produces, as the app does; "descriptor" compiles
+ * the .scene text first, as a plain javac run does; "fxml" loads the same tree written
+ * as FXML (bench resources) through FXMLLoader. Nodes that are not in a shown scene
+ * may be built off the FX thread, so all three run on the benchmark thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+// FXMLLoader takes a while to settle
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"
+})
+public class SceneLoadBenchmark {
+
+    @Param({"menu", "about"})
+    public String scene;
+
+    private byte[] compiled;
+    private List<String> descriptor;
+    private URL fxml;
+
+    @Setup
+    public void setUp() throws Exception {
+        FxBench.start();
+        compiled = resource("/portfolio/scene/" + scene + ".bin");
+        descriptor = Arrays.asList(new String(resource("/portfolio/scene/" + scene + ".scene"),
+                StandardCharsets.UTF_8).split("\r?\n"));
+        fxml = SceneLoadBenchmark.class.getResource(scene + ".fxml");
+    }
+
+    @Benchmark
+    public Parent compiled() throws IOException {
+        return SceneLoader.read(compiled).getRoot();
+    }
+
+    @Benchmark
+    public Parent descriptor() throws IOException {
+        return SceneLoader.read(SceneCompiler.compile(descriptor, scene)).getRoot();
+    }
+
+    @Benchmark
+    public Parent fxml() throws IOException {
+        return new FXMLLoader(fxml).load();
+    }
+
+    private static byte[] resource(String path) throws IOException {
+        try (InputStream in = SceneLoadBenchmark.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + path + " (mvn install the app first)");
+            }
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package portfolio.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.slot.Grid;
+import portfolio.slot.GridGame;
+import portfolio.slot.ReelStrip;
+import portfolio.slot.SessionStats;
+import portfolio.slot.SlotEngine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Spin and evaluation hot paths of the slot machine, and the session statistics'
+ * share of a spin.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotBenchmark {
+
+    private final SplittableRandom rng = new SplittableRandom(42);
+    private final SlotEngine classic = new SlotEngine();
+    private final int[] stops = new int[SlotEngine.REELS];
+    private final SessionStats stats = new SessionStats(SlotEngine.REELS, 6, 5);
+    private long balance = 1_000_000_00L;
+    private final GridGame ways = GridGame.ways243();
+    private final ReelStrip weighted = ReelStrip.ofWeights(10, 10, 9, 9, 4, 3, 1, 1);
+    private Grid grid;
+    private Grid landed;
+
+    @Setup
+    public void setUp() {
+        grid = ways.newGrid();
+        landed = ways.newGrid();
+        ways.spin(new SplittableRandom(7), landed);
+    }
+
+    @Benchmark
+    public int classicSpin() {
+        return classic.spin(rng, stops);
+    }
+
+    /* classicSpin plus what the slot scene adds per spin for its live statistics */
+    @Benchmark
+    public int classicSpinRecorded() {
+        int pays = classic.spin(rng, stops);
+        long win = 100L * pays;
+        balance += win - 100;
+        stats.record(100, pays, win, balance, stops);
+        return pays;
+    }
+
+    @Benchmark
+    public int aliasSample() {
+        return weighted.sample(rng);
+    }
+
+    @Benchmark
+    public long ways243Spin() {
+        return ways.spin(rng, grid);
+    }
+
+    @Benchmark
+    public long ways243Evaluate() {
+        return ways.getEvaluator().evaluate(landed);
+    }
+}
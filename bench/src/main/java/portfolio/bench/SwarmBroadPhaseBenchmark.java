@@ -0,0 +1,98 @@
+package portfolio.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.ball.BallPhysics;
+import portfolio.spatial.SpatialGrid;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * BallSwarm's broad phase at a fixed density: balls scattered over an area that grows
+ * with their number (50 balls per 900 x 300 court), so each ball has about as many
+ * neighbours at every size. "grid" fills the SpatialGrid the way BallSwarm does every
+ * step, queries each ball's box and distance-tests the pairs it hands back; "allPairs"
+ * distance-tests every pair instead. Both return the number of touching pairs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwarmBroadPhaseBenchmark {
+
+    private static final double RADIUS = BallPhysics.RADIUS;
+    private static final double DIAMETER = RADIUS * 2;
+
+    @Param({"50", "200", "800", "3200"})
+    public int balls;
+
+    private SpatialGrid grid;
+    private int[] near;
+    private double[] x;
+    private double[] y;
+
+    @Setup
+    public void setUp() {
+        // Same cell as BallSwarm: a little wider than a ball
+        grid = new SpatialGrid(DIAMETER + 4, balls);
+        near = new int[balls];
+        x = new double[balls];
+        y = new double[balls];
+        double scale = Math.sqrt(balls / 50.0);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < balls; i++) {
+            x[i] = random.nextDouble() * BallPhysics.COURT_WIDTH * scale;
+            y[i] = random.nextDouble() * 300 * scale;
+        }
+    }
+
+    @Benchmark
+    public int grid() {
+        grid.clear();
+        for (int i = 0; i < balls; i++) {
+            grid.insert(i, x[i] - RADIUS, y[i] - RADIUS, x[i] + RADIUS, y[i] + RADIUS);
+        }
+        int touching = 0;
+        for (int i = 0; i < balls; i++) {
+            int n = grid.query(x[i] - RADIUS, y[i] - RADIUS, x[i] + RADIUS, y[i] + RADIUS, near);
+            for (int k = 0; k < n; k++) {
+                int j = near[k];
+                if (j > i && touching(i, j)) {
+                    touching++;
+                }
+            }
+        }
+        return touching;
+    }
+
+    @Benchmark
+    public int allPairs() {
+        int touching = 0;
+        for (int i = 0; i < balls; i++) {
+            for (int j = i + 1; j < balls; j++) {
+                if (touching(i, j)) {
+                    touching++;
+                }
+            }
+        }
+        return touching;
+    }
+
+    private boolean touching(int i, int j) {
+        double dx = x[j] - x[i];
+        double dy = y[j] - y[i];
+        return dx * dx + dy * dy < DIAMETER * DIAMETER;
+    }
+}
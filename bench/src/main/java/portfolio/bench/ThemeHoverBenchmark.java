@@ -0,0 +1,178 @@
+package portfolio.bench;
+
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.theme.ThemeManager;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Cost of hovering across the five menu buttons: for each one the pointer enters and
+ * leaves, and the CSS pass the next pulse would run follows each move. "inline" is the
+ * old createButton, which parsed a new gradient string through setStyle on every enter
+ * and exit; "stylesheet" is the themed button, where only the :hover pseudo-class flips
+ * and the parsed rules are reused. Reported per hover (one enter plus one exit).
+ *
+ * Time is only half of it, so at the end of a run one more sweep counts the nodes each
+ * CSS pass actually styles: those marked UPDATE (state changed, cached styles looked
+ * up again) or REAPPLY (selectors matched from scratch, as after setStyle), plus
+ * everything below them, which the pass updates along with its parent. That mark is
+ * Node's package-private cssFlag, read reflectively; the benchmark jar runs JavaFX
+ * from the class path, so nothing has to be opened for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {
+    "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"
+})
+public class ThemeHoverBenchmark {
+
+    private static final String NORMAL = "-fx-background-color: linear-gradient(to right, #FF69B4, #FF1493);"
+            + "-fx-background-radius: 30; -fx-padding: 10 25 10 25;";
+    private static final String HOVER = "-fx-background-color: linear-gradient(to right, #FF1493, #FF69B4);"
+            + "-fx-background-radius: 30; -fx-padding: 10 25 10 25;";
+    private static final int BUTTONS = 5;
+    private static final Field CSS_FLAG = cssFlagField();
+
+    @Param({"inline", "stylesheet"})
+    public String style;
+
+    private VBox menu;
+    private HoverButton[] buttons;
+
+    @Setup
+    public void setUp() throws Exception {
+        FxBench.start();
+        FxBench.onFx(() -> {
+            buttons = new HoverButton[BUTTONS];
+            for (int i = 0; i < BUTTONS; i++) {
+                buttons[i] = new HoverButton("Button " + i);
+                if (style.equals("inline")) {
+                    buttons[i].setFont(Font.font("Arial", FontWeight.BOLD, 18));
+                    buttons[i].setTextFill(Color.WHITE);
+                    buttons[i].setStyle(NORMAL);
+                } else {
+                    buttons[i].getStyleClass().add("fancy-button");
+                }
+            }
+            menu = new VBox(15, buttons);
+            menu.setAlignment(Pos.CENTER);
+            Scene scene = new Scene(menu, 900, 600);
+            if (style.equals("stylesheet")) {
+                scene.getStylesheets().setAll(ThemeManager.sheet("sushmafx"), ThemeManager.sheet("neon"));
+            }
+            menu.applyCss();
+            return scene;
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        long[] styled = FxBench.onFx(() -> {
+            long[] counts = new long[2];
+            sweep(counts);
+            return counts;
+        });
+        System.out.printf("%n%s: %.1f nodes styled per hover, %.1f of them matched from scratch%n", style,
+                (double) styled[0] / BUTTONS, (double) styled[1] / BUTTONS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BUTTONS)
+    public VBox hoverAcrossMenu() throws Exception {
+        return FxBench.onFx(() -> {
+            sweep(null);
+            return menu;
+        });
+    }
+
+    /* Hovers in and out of every button; styled, if given, adds up what the CSS passes style */
+    private void sweep(long[] styled) throws IllegalAccessException {
+        boolean inline = style.equals("inline");
+        for (HoverButton b : buttons) {
+            b.hover(true);
+            if (inline) {
+                b.setStyle(HOVER);
+            }
+            applyCss(styled);
+            b.hover(false);
+            if (inline) {
+                b.setStyle(NORMAL);
+            }
+            applyCss(styled);
+        }
+    }
+
+    private void applyCss(long[] styled) throws IllegalAccessException {
+        if (styled != null) {
+            count(menu, false, styled);
+        }
+        menu.applyCss();
+    }
+
+    /*
+     * Adds the nodes the next CSS pass will style to styled[0] and those it will re-match
+     * to styled[1]; parentStyled: node's parent is styled, so node is too
+     */
+    private static void count(Node node, boolean parentStyled, long[] styled) throws IllegalAccessException {
+        String flag = String.valueOf(CSS_FLAG.get(node));
+        boolean reapply = flag.equals("REAPPLY");
+        boolean styledHere = parentStyled || reapply || flag.equals("UPDATE");
+        if (styledHere) {
+            styled[0]++;
+        }
+        if (reapply) {
+            styled[1]++;
+        }
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count(child, styledHere, styled);
+            }
+        }
+    }
+
+    private static Field cssFlagField() {
+        try {
+            Field field = Node.class.getDeclaredField("cssFlag");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("This JavaFX has no Node.cssFlag to count CSS passes with", e);
+        }
+    }
+
+    /* The scene sets hover from real pointer moves; the benchmark flips it directly */
+    private static final class HoverButton extends Button {
+        HoverButton(String text) {
+            super(text);
+        }
+
+        void hover(boolean on) {
+            setHover(on);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package portfolio.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import portfolio.wallet.Money;
+import portfolio.wallet.Wallet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Balance updates: a journaled bet + win round trip and the balance label text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WalletBenchmark {
+
+    private Path journal;
+    private Wallet wallet;
+    private long cents = 123_456;
+
+    @Setup
+    public void setUp() throws IOException {
+        journal = Files.createTempFile("bench-wallet", ".journal");
+        Files.delete(journal);
+        wallet = Wallet.open(journal, 1_000_000_00L);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        wallet.close();
+        Files.deleteIfExists(journal);
+    }
+
+    @Benchmark
+    public long betAndWin() {
+        wallet.bet(100);
+        wallet.win(100);
+        return wallet.getBalance();
+    }
+
+    @Benchmark
+    public String formatBalance() {
+        return Money.format(cents++);
+    }
+}
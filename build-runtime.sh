@@ -0,0 +1,35 @@
+#!/bin/sh
+# Builds a self-contained runtime for kiosks in target/runtime:
+# a jlink'd JDK + JavaFX image, the app jar and an AppCDS archive
+# created on the first start (with -XX:+AutoCreateSharedArchive).
+# Needs JDK 21 (jlink) on the PATH or in JAVA_HOME.
+set -e
+cd "$(dirname "$0")"
+JAVA_BIN="${JAVA_HOME:+$JAVA_HOME/bin/}"
+
+mvn -B -q package dependency:copy-dependencies -DincludeGroupIds=org.openjfx -DoutputDirectory=target/lib
+
+rm -rf target/runtime
+"${JAVA_BIN}jlink" --module-path target/lib \
+    --add-modules java.base,java.logging,java.management,jdk.management,javafx.controls \
+    --strip-debug --no-header-files --no-man-pages \
+    --generate-cds-archive \
+    --output target/runtime
+
+# SushmaFX lives in the unnamed package, so the app stays on the class path;
+# AppCDS still archives its classes together with the JDK and JavaFX ones.
+mkdir -p target/runtime/app
+cp target/sushmafx-*.jar target/runtime/app/sushmafx.jar
+cp "Sushma (2).jpg" target/runtime/app/
+
+cat > target/runtime/sushmafx <<'LAUNCHER'
+#!/bin/sh
+cd "$(dirname "$0")/app"
+exec ../bin/java -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=sushmafx.jsa \
+    -XX:TieredStopAtLevel=1 -Xshare:auto \
+    -cp sushmafx.jar SushmaFX "$@"
+LAUNCHER
+chmod +x target/runtime/sushmafx
+
+echo "Runtime ready: target/runtime/sushmafx"
+echo "Train the AppCDS archive once with: target/runtime/sushmafx -Dsushmafx.exitAfterStartup=true"
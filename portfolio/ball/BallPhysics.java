@@ -0,0 +1,198 @@
+package portfolio.ball;
+
+/*
+ * 🏀 Ball Physics
+ *   2D shot simulation for the basketball scene, in screen pixels (y grows down).
+ *   The ball is launched with a power and an angle, falls under gravity and bounces
+ *   off the floor, the backboard and the two edges of the rim (circle against
+ *   segment / point, with restitution). It scores when its centre drops through
+ *   the rim between the two edges. Stepped at a fixed rate with no allocation, so
+ *   the same launch always plays out the same way, on screen or headless.
+ */
+public final class BallPhysics {
+
+    public static final double STEP = 1.0 / 240;
+
+    // Court geometry shared with the view
+    public static final double START_X = 150;
+    public static final double START_Y = 450;
+    public static final double RADIUS = 30;
+    public static final double FLOOR_Y = 500;
+    public static final double RIM_LEFT = 640;
+    public static final double RIM_RIGHT = 720;
+    public static final double RIM_Y = 280;
+    public static final double RIM_THICKNESS = 3;
+    public static final double BACKBOARD_X = 722;
+    public static final double BACKBOARD_TOP = 200;
+    public static final double BACKBOARD_BOTTOM = 300;
+    public static final double COURT_WIDTH = 900;
+
+    public static final double MIN_ANGLE = 25;
+    public static final double MAX_ANGLE = 75;
+
+    // Tuning shared with BallSwarm
+    static final double GRAVITY = 900;
+    static final double MIN_SPEED = 400;
+    static final double SPEED_PER_POWER = 6;
+    static final double FLOOR_BOUNCE = 0.6;
+    static final double BOARD_BOUNCE = 0.7;
+    static final double RIM_BOUNCE = 0.55;
+    static final double SPIN = -480;
+    static final double MAX_SHOT_TIME = 5;
+    static final double REST_SPEED = 25;
+
+    private double x = START_X;
+    private double y = START_Y;
+    private double vx;
+    private double vy;
+    private double rotation;
+    private double prevX = START_X;
+    private double prevY = START_Y;
+    private double prevRotation;
+    private double time;
+    private boolean inFlight;
+    private boolean scored;
+    // x, y, vx, vy handed to collideCourt
+    private final double[] ball = new double[4];
+
+    /* Starts a new shot from the spot; power 0..100, angle in degrees above horizontal */
+    public void launch(double power, double angleDegrees) {
+        reset();
+        double angle = Math.toRadians(clamp(angleDegrees, MIN_ANGLE, MAX_ANGLE));
+        double speed = MIN_SPEED + clamp(power, 0, 100) * SPEED_PER_POWER;
+        vx = speed * Math.cos(angle);
+        vy = -speed * Math.sin(angle);
+        inFlight = true;
+    }
+
+    /* Puts the ball back on the spot, at rest */
+    public void reset() {
+        x = prevX = START_X;
+        y = prevY = START_Y;
+        vx = vy = 0;
+        rotation = prevRotation = 0;
+        time = 0;
+        inFlight = false;
+        scored = false;
+    }
+
+    public void step(double dt) {
+        prevX = x;
+        prevY = y;
+        prevRotation = rotation;
+        if (!inFlight) {
+            return;
+        }
+        time += dt;
+        vy += GRAVITY * dt;
+        x += vx * dt;
+        y += vy * dt;
+        rotation += SPIN * dt;
+
+        // Floor
+        if (y + RADIUS > FLOOR_Y) {
+            y = FLOOR_Y - RADIUS;
+            if (vy > 0) {
+                vy = -vy * FLOOR_BOUNCE;
+                vx *= 0.8;
+            }
+        }
+        ball[0] = x;
+        ball[1] = y;
+        ball[2] = vx;
+        ball[3] = vy;
+        collideCourt(ball);
+        x = ball[0];
+        y = ball[1];
+        vx = ball[2];
+        vy = ball[3];
+
+        if (!scored && prevY < RIM_Y && y >= RIM_Y && vy > 0 && x > RIM_LEFT && x < RIM_RIGHT) {
+            scored = true;
+        }
+
+        boolean resting = y >= FLOOR_Y - RADIUS - 0.5 && Math.abs(vx) < REST_SPEED && Math.abs(vy) < REST_SPEED;
+        boolean gone = x < -RADIUS || x > COURT_WIDTH + RADIUS;
+        if (resting || gone || time >= MAX_SHOT_TIME) {
+            inFlight = false;
+        }
+    }
+
+    /* Bounces ball ({x, y, vx, vy}, updated in place) off the backboard and both rim edges; shared with BallSwarm */
+    static void collideCourt(double[] ball) {
+        collideSegment(ball, BACKBOARD_X, BACKBOARD_TOP, BACKBOARD_X, BACKBOARD_BOTTOM, 0, BOARD_BOUNCE);
+        collideSegment(ball, RIM_LEFT, RIM_Y, RIM_LEFT, RIM_Y, RIM_THICKNESS, RIM_BOUNCE);
+        collideSegment(ball, RIM_RIGHT, RIM_Y, RIM_RIGHT, RIM_Y, RIM_THICKNESS, RIM_BOUNCE);
+    }
+
+    /*
+     * Pushes the ball out of segment (ax,ay)-(bx,by) thickened by thickness and
+     * reflects the part of its velocity going into it. A zero-length segment is a point.
+     */
+    private static void collideSegment(double[] ball, double ax, double ay, double bx, double by,
+                                       double thickness, double bounce) {
+        double abx = bx - ax;
+        double aby = by - ay;
+        double len2 = abx * abx + aby * aby;
+        double t = len2 == 0 ? 0 : clamp(((ball[0] - ax) * abx + (ball[1] - ay) * aby) / len2, 0, 1);
+        double dx = ball[0] - (ax + abx * t);
+        double dy = ball[1] - (ay + aby * t);
+        double dist2 = dx * dx + dy * dy;
+        double reach = RADIUS + thickness;
+        if (dist2 >= reach * reach || dist2 == 0) {
+            return;
+        }
+        double dist = Math.sqrt(dist2);
+        double nx = dx / dist;
+        double ny = dy / dist;
+        ball[0] += nx * (reach - dist);
+        ball[1] += ny * (reach - dist);
+        double vn = ball[2] * nx + ball[3] * ny;
+        if (vn < 0) {
+            ball[2] -= (1 + bounce) * vn * nx;
+            ball[3] -= (1 + bounce) * vn * ny;
+        }
+    }
+
+    public boolean isInFlight() {
+        return inFlight;
+    }
+
+    /* True once the ball has gone through the hoop during the current shot */
+    public boolean hasScored() {
+        return scored;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double renderX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    public double renderY(double alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+
+    public double renderRotation(double alpha) {
+        return prevRotation + (rotation - prevRotation) * alpha;
+    }
+
+    /* Plays a whole shot headlessly and reports whether it went in */
+    public boolean simulate(double power, double angleDegrees) {
+        launch(power, angleDegrees);
+        while (inFlight) {
+            step(STEP);
+        }
+        return scored;
+    }
+
+    private static double clamp(double v, double lo, double hi) {
+        return Math.max(lo, Math.min(hi, v));
+    }
+}
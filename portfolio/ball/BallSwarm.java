@@ -0,0 +1,270 @@
+package portfolio.ball;
+
+import portfolio.spatial.SpatialGrid;
+
+/*
+ * 🏀 Ball Swarm
+ *   Rapid-fire version of BallPhysics: any number of balls in the air at once, each
+ *   bouncing off the floor, the backboard, the rim and every other ball. Same court,
+ *   same tuning and the same fixed step as a single shot, so a lone ball flies
+ *   exactly like one.
+ *
+ *   Balls live in parallel arrays packed at the front; a ball that comes to rest,
+ *   leaves the court or runs out of shot time is retired by moving the last one into
+ *   its slot. Ball against ball goes through a SpatialGrid refilled every step, so each
+ *   ball is only tested against the few that share its cells: with the balls spread
+ *   over the court the cost grows with the ball count, not its square. A freshly
+ *   launched ball ignores other balls for GHOST seconds so a stream fired from the
+ *   spot does not knock itself apart before it clears the shooter.
+ *   No JavaFX, no allocation per step.
+ */
+public final class BallSwarm {
+
+    private static final double BALL_BOUNCE = 0.85;
+    private static final double GHOST = 0.15;
+    private static final double RADIUS = BallPhysics.RADIUS;
+    private static final double DIAMETER = RADIUS * 2;
+
+    private final int capacity;
+    private final SpatialGrid grid;
+    private final int[] near;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] vx;
+    private final double[] vy;
+    private final double[] rotation;
+    private final double[] prevX;
+    private final double[] prevY;
+    private final double[] prevRotation;
+    private final double[] age;
+    private final boolean[] scored;
+    private int count;
+    // x, y, vx, vy of the ball being handed to BallPhysics.collideCourt
+    private final double[] ball = new double[4];
+
+    private long fired;
+    private long made;
+    private long candidates;
+    private long contacts;
+
+    public BallSwarm(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        // A cell a little wider than a ball: every ball sits in at most four cells
+        grid = new SpatialGrid(DIAMETER + 4, capacity);
+        near = new int[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        rotation = new double[capacity];
+        prevX = new double[capacity];
+        prevY = new double[capacity];
+        prevRotation = new double[capacity];
+        age = new double[capacity];
+        scored = new boolean[capacity];
+    }
+
+    /*
+     * Launches a ball from the spot like BallPhysics.launch; power 0..100, angle in
+     * degrees above horizontal. Returns false (and fires nothing) when the swarm is full.
+     */
+    public boolean fire(double power, double angleDegrees) {
+        double angle = Math.toRadians(clamp(angleDegrees, BallPhysics.MIN_ANGLE, BallPhysics.MAX_ANGLE));
+        double speed = BallPhysics.MIN_SPEED + clamp(power, 0, 100) * BallPhysics.SPEED_PER_POWER;
+        return spawn(BallPhysics.START_X, BallPhysics.START_Y, speed * Math.cos(angle), -speed * Math.sin(angle));
+    }
+
+    /* Adds a ball anywhere on the court, already moving; false when the swarm is full */
+    public boolean spawn(double atX, double atY, double velocityX, double velocityY) {
+        if (count == capacity) {
+            return false;
+        }
+        int i = count++;
+        x[i] = prevX[i] = atX;
+        y[i] = prevY[i] = atY;
+        vx[i] = velocityX;
+        vy[i] = velocityY;
+        rotation[i] = prevRotation[i] = 0;
+        age[i] = 0;
+        scored[i] = false;
+        fired++;
+        return true;
+    }
+
+    /* Advances every ball by dt and returns how many went through the hoop */
+    public int step(double dt) {
+        for (int i = 0; i < count; i++) {
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            prevRotation[i] = rotation[i];
+            age[i] += dt;
+            vy[i] += BallPhysics.GRAVITY * dt;
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            rotation[i] += BallPhysics.SPIN * dt;
+        }
+
+        collideBalls();
+
+        int baskets = 0;
+        int i = 0;
+        while (i < count) {
+            if (y[i] + RADIUS > BallPhysics.FLOOR_Y) {
+                y[i] = BallPhysics.FLOOR_Y - RADIUS;
+                if (vy[i] > 0) {
+                    vy[i] = -vy[i] * BallPhysics.FLOOR_BOUNCE;
+                    vx[i] *= 0.8;
+                }
+            }
+            ball[0] = x[i];
+            ball[1] = y[i];
+            ball[2] = vx[i];
+            ball[3] = vy[i];
+            BallPhysics.collideCourt(ball);
+            x[i] = ball[0];
+            y[i] = ball[1];
+            vx[i] = ball[2];
+            vy[i] = ball[3];
+
+            if (!scored[i] && prevY[i] < BallPhysics.RIM_Y && y[i] >= BallPhysics.RIM_Y && vy[i] > 0
+                    && x[i] > BallPhysics.RIM_LEFT && x[i] < BallPhysics.RIM_RIGHT) {
+                scored[i] = true;
+                baskets++;
+            }
+
+            boolean resting = y[i] >= BallPhysics.FLOOR_Y - RADIUS - 0.5
+                    && Math.abs(vx[i]) < BallPhysics.REST_SPEED && Math.abs(vy[i]) < BallPhysics.REST_SPEED;
+            boolean gone = x[i] < -RADIUS || x[i] > BallPhysics.COURT_WIDTH + RADIUS;
+            if (resting || gone || age[i] >= BallPhysics.MAX_SHOT_TIME) {
+                retire(i);
+            } else {
+                i++;
+            }
+        }
+        made += baskets;
+        return baskets;
+    }
+
+    /* Broad phase through the grid, then an equal-mass bounce for every touching pair */
+    private void collideBalls() {
+        grid.clear();
+        for (int i = 0; i < count; i++) {
+            if (age[i] >= GHOST) {
+                grid.insert(i, x[i] - RADIUS, y[i] - RADIUS, x[i] + RADIUS, y[i] + RADIUS);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (age[i] < GHOST) {
+                continue;
+            }
+            int n = grid.query(x[i] - RADIUS, y[i] - RADIUS, x[i] + RADIUS, y[i] + RADIUS, near);
+            for (int k = 0; k < n; k++) {
+                int j = near[k];
+                // Each pair once
+                if (j > i) {
+                    candidates++;
+                    collidePair(i, j);
+                }
+            }
+        }
+    }
+
+    private void collidePair(int i, int j) {
+        double dx = x[j] - x[i];
+        double dy = y[j] - y[i];
+        double dist2 = dx * dx + dy * dy;
+        if (dist2 >= DIAMETER * DIAMETER || dist2 == 0) {
+            return;
+        }
+        contacts++;
+        double dist = Math.sqrt(dist2);
+        double nx = dx / dist;
+        double ny = dy / dist;
+        // Push apart half each, then exchange the closing part of the velocity
+        double push = (DIAMETER - dist) / 2;
+        x[i] -= nx * push;
+        y[i] -= ny * push;
+        x[j] += nx * push;
+        y[j] += ny * push;
+        double closing = (vx[i] - vx[j]) * nx + (vy[i] - vy[j]) * ny;
+        if (closing > 0) {
+            double impulse = (1 + BALL_BOUNCE) * closing / 2;
+            vx[i] -= impulse * nx;
+            vy[i] -= impulse * ny;
+            vx[j] += impulse * nx;
+            vy[j] += impulse * ny;
+        }
+    }
+
+    private void retire(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        rotation[i] = rotation[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        prevRotation[i] = prevRotation[last];
+        age[i] = age[last];
+        scored[i] = scored[last];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getFired() {
+        return fired;
+    }
+
+    public long getMade() {
+        return made;
+    }
+
+    /* Pairs the grid handed to the distance test so far */
+    public long getCandidates() {
+        return candidates;
+    }
+
+    /* Ball-on-ball contacts resolved so far */
+    public long getContacts() {
+        return contacts;
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double renderX(int i, double alpha) {
+        return prevX[i] + (x[i] - prevX[i]) * alpha;
+    }
+
+    public double renderY(int i, double alpha) {
+        return prevY[i] + (y[i] - prevY[i]) * alpha;
+    }
+
+    public double renderRotation(int i, double alpha) {
+        return prevRotation[i] + (rotation[i] - prevRotation[i]) * alpha;
+    }
+
+    private static double clamp(double v, double lo, double hi) {
+        return Math.max(lo, Math.min(hi, v));
+    }
+}
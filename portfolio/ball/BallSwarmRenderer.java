@@ -0,0 +1,88 @@
+package portfolio.ball;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+
+/*
+ * 🏀 Ball Swarm Renderer
+ *   Draws every ball of a BallSwarm onto one Canvas. The ball (the orange circle with
+ *   its seams, as in the single-shot view) is rasterised once into a sprite; each
+ *   frame is then one rotated drawImage per ball instead of a Group of shapes per
+ *   ball in the scene graph, so hundreds of balls cost hundreds of image draws and
+ *   no nodes. With no balls (and nothing drawn last frame) the canvas is left alone.
+ *
+ *   Must only be used from the FX application thread.
+ */
+public final class BallSwarmRenderer {
+
+    // Room for the outline around the ball
+    private static final double PAD = 2;
+
+    private final Canvas canvas;
+    private final GraphicsContext g;
+    private final Image sprite;
+    private final double half;
+    private boolean drawn;
+    private boolean spin = true;
+
+    public BallSwarmRenderer(Canvas canvas) {
+        this.canvas = canvas;
+        this.g = canvas.getGraphicsContext2D();
+        this.sprite = sprite();
+        this.half = sprite.getWidth() / 2;
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /* Without spin every ball is drawn upright, a plain blit instead of a rotated draw */
+    public void setSpin(boolean spin) {
+        this.spin = spin;
+    }
+
+    public void render(BallSwarm swarm, double alpha) {
+        int n = swarm.getCount();
+        if (n == 0 && !drawn) {
+            return;
+        }
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawn = n > 0;
+        for (int i = 0; i < n; i++) {
+            if (!spin) {
+                g.drawImage(sprite, swarm.renderX(i, alpha) - half, swarm.renderY(i, alpha) - half);
+                continue;
+            }
+            double radians = Math.toRadians(swarm.renderRotation(i, alpha));
+            double cos = Math.cos(radians);
+            double sin = Math.sin(radians);
+            g.setTransform(cos, sin, -sin, cos, swarm.renderX(i, alpha), swarm.renderY(i, alpha));
+            g.drawImage(sprite, -half, -half);
+        }
+        g.setTransform(1, 0, 0, 1, 0, 0);
+    }
+
+    /* The single-shot ball, drawn once */
+    private static Image sprite() {
+        double r = BallPhysics.RADIUS;
+        double size = Math.ceil((r + PAD) * 2);
+        double c = size / 2;
+        Canvas scratch = new Canvas(size, size);
+        GraphicsContext s = scratch.getGraphicsContext2D();
+        s.setLineWidth(2);
+        s.setFill(Color.ORANGE);
+        s.fillOval(c - r, c - r, r * 2, r * 2);
+        s.setStroke(Color.BLACK);
+        s.strokeOval(c - r, c - r, r * 2, r * 2);
+        double seam = r - 5;
+        s.strokeArc(c - seam, c - seam, seam * 2, seam * 2, 0, 360, ArcType.OPEN);
+        s.strokeLine(c, c - seam, c, c + seam);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return scratch.snapshot(params, null);
+    }
+}
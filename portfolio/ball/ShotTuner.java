@@ -0,0 +1,37 @@
+package portfolio.ball;
+
+/*
+ * 🎯 Shot Tuner
+ *   Headless sweep over launch power and angle: prints which shots go in and how
+ *   many shots per second the engine simulates. Use it when touching the court
+ *   geometry or the physics constants.
+ *
+ *   Usage: java portfolio.ball.ShotTuner
+ */
+public class ShotTuner {
+
+    public static void main(String[] args) {
+        BallPhysics ball = new BallPhysics();
+        long shots = 0;
+        long made = 0;
+        long start = System.nanoTime();
+        StringBuilder table = new StringBuilder("angle  power 0 ........................................ 100\n");
+        for (int angle = (int) BallPhysics.MIN_ANGLE; angle <= BallPhysics.MAX_ANGLE; angle += 5) {
+            table.append(String.format("%3d    ", angle));
+            for (int power = 0; power <= 100; power++) {
+                boolean in = ball.simulate(power, angle);
+                shots++;
+                if (in) {
+                    made++;
+                }
+                if (power % 2 == 0) {
+                    table.append(in ? '#' : '.');
+                }
+            }
+            table.append('\n');
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.print(table);
+        System.out.printf("%d of %d shots made, %.0f shots/s%n", made, shots, shots / seconds);
+    }
+}
@@ -0,0 +1,123 @@
+package portfolio.car;
+
+/*
+ * 🚗 Car Physics
+ *   Side-scrolling car driven by held keys rather than key-repeat events. Input is
+ *   sampled as booleans and the state is advanced in fixed steps, so how the car
+ *   drives depends only on how long keys are held. x is a world position on an
+ *   endless road, and wheel rotation follows the distance travelled. No JavaFX and
+ *   no allocation, so it can be stepped headlessly.
+ */
+public final class CarPhysics {
+
+    public static final double STEP = 1.0 / 120;
+
+    // Pixels and seconds
+    public static final double MAX_SPEED = 400;
+    private static final double ACCEL = 500;
+    private static final double BOOST_ACCEL = 1100;
+    private static final double BRAKE = 1400;
+    private static final double DRAG = 220;
+    private static final double WHEEL_RADIUS = 25;
+    private static final double BUMP_KEEP = 0.3;
+
+    private boolean left;
+    private boolean right;
+    private boolean boost;
+    private boolean brake;
+
+    private double x;
+    private double velocity;
+    private double wheelAngle;
+    private double prevX;
+    private double prevWheelAngle;
+
+    public void setLeft(boolean held) {
+        left = held;
+    }
+
+    public void setRight(boolean held) {
+        right = held;
+    }
+
+    public void setBoost(boolean held) {
+        boost = held;
+    }
+
+    public void setBrake(boolean held) {
+        brake = held;
+    }
+
+    /* Lets go of everything, e.g. when the scene loses focus and releases won't arrive */
+    public void releaseAll() {
+        left = false;
+        right = false;
+        boost = false;
+        brake = false;
+    }
+
+    public boolean isBoosting() {
+        return boost && !brake && velocity != 0;
+    }
+
+    public boolean isBraking() {
+        return brake;
+    }
+
+    public void step(double dt) {
+        prevX = x;
+        prevWheelAngle = wheelAngle;
+
+        int dir = (right ? 1 : 0) - (left ? 1 : 0);
+        if (dir == 0 && boost) {
+            // Boost pushes the way the car is already going
+            dir = (int) Math.signum(velocity);
+        }
+        if (brake) {
+            velocity = towardZero(velocity, BRAKE * dt);
+        } else if (dir != 0) {
+            velocity += dir * (boost ? BOOST_ACCEL : ACCEL) * dt;
+        } else {
+            velocity = towardZero(velocity, DRAG * dt);
+        }
+        velocity = Math.max(-MAX_SPEED, Math.min(MAX_SPEED, velocity));
+
+        x += velocity * dt;
+        wheelAngle += Math.toDegrees((x - prevX) / WHEEL_RADIUS);
+    }
+
+    /* Running into something: the car bounces back with a fraction of its speed */
+    public void bump() {
+        velocity = -velocity * BUMP_KEEP;
+    }
+
+    /* Position blended between the last two steps; alpha in [0, 1] */
+    public double renderX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    public double renderWheelAngle(double alpha) {
+        return prevWheelAngle + (wheelAngle - prevWheelAngle) * alpha;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getVelocity() {
+        return velocity;
+    }
+
+    public double getWheelAngle() {
+        return wheelAngle;
+    }
+
+    /* Speedometer reading: full speed shows 100 mph */
+    public int getSpeedMph() {
+        return (int) Math.round(Math.abs(velocity) / MAX_SPEED * 100);
+    }
+
+    private static double towardZero(double v, double by) {
+        return v > 0 ? Math.max(0, v - by) : Math.min(0, v + by);
+    }
+}
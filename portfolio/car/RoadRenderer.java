@@ -0,0 +1,117 @@
+package portfolio.car;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Stop;
+
+/*
+ * 🛣️ Road Renderer
+ *   Draws sky, hills, roadside posts, road and lane markers for an endless road onto
+ *   one Canvas, so the scene graph holds a single node however far the car drives.
+ *   Only what is visible is drawn, from the camera position alone, and nothing is
+ *   redrawn while the camera stands still.
+ *
+ *   The camera follows the car: it keeps the car's screen offset within
+ *   [MIN_OFFSET, MAX_OFFSET] (the range the car used to be confined to).
+ */
+public final class RoadRenderer {
+
+    public static final double MIN_OFFSET = -200;
+    public static final double MAX_OFFSET = 300;
+
+    private static final double HORIZON = 450;
+    private static final double ROAD_HEIGHT = 150;
+    private static final double MARKER_Y = 520;
+    private static final double MARKER_SPACING = 60;
+    private static final double MARKER_LENGTH = 40;
+    private static final double POST_SPACING = 240;
+    private static final double HILL_SPACING = 320;
+    private static final double HILL_PARALLAX = 0.25;
+
+    private final Canvas canvas;
+    private final GraphicsContext g;
+    private final LinearGradient sky = new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+            new Stop(0, Color.web("#87CEEB")), new Stop(1, Color.web("#E0FFFF")));
+    private final Color hill = Color.web("#7FB77E");
+    private final Color post = Color.web("#F5F5F5");
+
+    private double cameraX;
+    private double drawnCameraX = Double.NaN;
+    private boolean dirty = true;
+
+    public RoadRenderer(Canvas canvas) {
+        this.canvas = canvas;
+        this.g = canvas.getGraphicsContext2D();
+        canvas.widthProperty().addListener((obs, was, now) -> dirty = true);
+        canvas.heightProperty().addListener((obs, was, now) -> dirty = true);
+    }
+
+    /*
+     * Moves the camera so the car at worldX stays inside the follow band and returns
+     * the car's screen offset (its translateX).
+     */
+    public double follow(double worldX) {
+        double offset = worldX - cameraX;
+        if (offset > MAX_OFFSET) {
+            cameraX = worldX - MAX_OFFSET;
+        } else if (offset < MIN_OFFSET) {
+            cameraX = worldX - MIN_OFFSET;
+        }
+        return worldX - cameraX;
+    }
+
+    public double getCameraX() {
+        return cameraX;
+    }
+
+    public void render() {
+        if (!dirty && cameraX == drawnCameraX) {
+            return;
+        }
+        dirty = false;
+        drawnCameraX = cameraX;
+
+        double w = canvas.getWidth();
+        double h = canvas.getHeight();
+
+        g.setFill(sky);
+        g.fillRect(0, 0, w, HORIZON);
+
+        // Hills scroll slower than the road, which gives depth
+        g.setFill(hill);
+        double hillCamera = cameraX * HILL_PARALLAX;
+        for (long i = (long) Math.floor(hillCamera / HILL_SPACING) - 1; ; i++) {
+            double x = i * HILL_SPACING - hillCamera;
+            if (x > w) {
+                break;
+            }
+            // Vary the size per hill from its index so the same hill always looks the same
+            double size = 160 + Math.floorMod(i * 7919L, 5) * 30;
+            g.fillOval(x, HORIZON - size * 0.35, size * 1.6, size * 0.7);
+        }
+
+        g.setFill(post);
+        for (long i = (long) Math.floor(cameraX / POST_SPACING); ; i++) {
+            double x = i * POST_SPACING - cameraX;
+            if (x > w) {
+                break;
+            }
+            g.fillRect(x, HORIZON - 40, 6, 40);
+        }
+
+        g.setFill(Color.DARKGRAY);
+        g.fillRect(0, HORIZON, w, Math.max(ROAD_HEIGHT, h - HORIZON));
+
+        g.setFill(Color.YELLOW);
+        for (long i = (long) Math.floor(cameraX / MARKER_SPACING); ; i++) {
+            double x = i * MARKER_SPACING - cameraX;
+            if (x > w) {
+                break;
+            }
+            g.fillRect(x, MARKER_Y, MARKER_LENGTH, 8);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package portfolio.car;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/*
+ * 🚙 Traffic Renderer
+ *   Draws what a TrafficWorld has on screen onto one Canvas layered between the road
+ *   and the car. Only the entities the world's grid reports in view are drawn, so a
+ *   frame costs the same however much road lies behind or ahead; with nothing on
+ *   screen (and nothing drawn last frame) the canvas is left alone.
+ */
+public final class TrafficRenderer {
+
+    private static final Color[] BODIES = {
+        Color.ROYALBLUE, Color.SEAGREEN, Color.DARKORANGE, Color.SLATEGRAY
+    };
+
+    private final Canvas canvas;
+    private final GraphicsContext g;
+    private final int[] visible = new int[TrafficWorld.CAPACITY];
+    private final double[] coneX = new double[3];
+    private final double[] coneY = new double[3];
+    private boolean drawn;
+    private int lastVisible;
+
+    public TrafficRenderer(Canvas canvas) {
+        this.canvas = canvas;
+        this.g = canvas.getGraphicsContext2D();
+    }
+
+    /* Entities drawn in the last frame */
+    public int getLastVisible() {
+        return lastVisible;
+    }
+
+    public void render(TrafficWorld world, double cameraX) {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        int n = world.visible(cameraX, width, height, visible);
+        lastVisible = n;
+        if (n == 0 && !drawn) {
+            return;
+        }
+        g.clearRect(0, 0, width, height);
+        drawn = n > 0;
+        for (int k = 0; k < n; k++) {
+            int e = visible[k];
+            double x = world.getX(e) - cameraX;
+            double y = world.getY(e);
+            double w = world.getWidth(e);
+            double h = world.getHeight(e);
+            switch (world.getKind(e)) {
+                case TrafficWorld.TRAFFIC:
+                    drawCar(x, y, w, h, BODIES[world.getColor(e) % BODIES.length]);
+                    break;
+                case TrafficWorld.CONE:
+                    drawCone(x, y, w, h);
+                    break;
+                default:
+                    g.setFill(Color.GOLD);
+                    g.fillOval(x, y, w, h);
+                    g.setFill(Color.DARKGOLDENROD);
+                    g.fillOval(x + w * 0.3, y + h * 0.3, w * 0.4, h * 0.4);
+            }
+        }
+    }
+
+    /* Facing left, towards the player */
+    private void drawCar(double x, double y, double w, double h, Color body) {
+        g.setFill(body);
+        g.fillRoundRect(x, y + h * 0.35, w, h * 0.45, 10, 10);
+        g.fillRoundRect(x + w * 0.25, y, w * 0.5, h * 0.45, 8, 8);
+        g.setFill(Color.LIGHTBLUE);
+        g.fillRect(x + w * 0.3, y + h * 0.08, w * 0.18, h * 0.28);
+        g.setFill(Color.BLACK);
+        g.fillOval(x + w * 0.12, y + h * 0.6, h * 0.4, h * 0.4);
+        g.fillOval(x + w * 0.78 - h * 0.4, y + h * 0.6, h * 0.4, h * 0.4);
+        g.setFill(Color.YELLOW);
+        g.fillOval(x - 2, y + h * 0.45, 8, 8);
+    }
+
+    private void drawCone(double x, double y, double w, double h) {
+        coneX[0] = x;
+        coneY[0] = y + h;
+        coneX[1] = x + w / 2;
+        coneY[1] = y;
+        coneX[2] = x + w;
+        coneY[2] = y + h;
+        g.setFill(Color.ORANGERED);
+        g.fillPolygon(coneX, coneY, 3);
+        g.setFill(Color.WHITE);
+        g.fillRect(x + w * 0.3, y + h * 0.45, w * 0.4, h * 0.12);
+    }
+}
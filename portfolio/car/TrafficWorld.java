@@ -0,0 +1,367 @@
+package portfolio.car;
+
+import portfolio.spatial.SpatialGrid;
+
+import java.util.SplittableRandom;
+
+/*
+ * 🚦 Traffic World
+ *   Oncoming cars in the far lane, cones and coin pickups in the car's lane along the
+ *   endless road. Only the stretch around the camera exists: road is handed out in
+ *   CHUNK-wide pieces as it comes within MARGIN of the view, each piece's cones and
+ *   coins generated from the seed and the chunk index (so driving back shows the same
+ *   road, less the coins already collected and cones already knocked away), and
+ *   anything that drifts further than MARGIN outside the view is retired and its slot
+ *   reused. However long the drive, the work per step is bounded by the few hundred
+ *   entities near the screen.
+ *
+ *   What was taken is remembered per chunk as a bitmask of the chunk's pickups (cones
+ *   first, then coins, in generation order), kept in a small open-addressed table that
+ *   only holds chunks something was taken from.
+ *
+ *   Entities live in parallel arrays packed at the front (like the particle system)
+ *   and are indexed every step in a SpatialGrid, which both collision checks and
+ *   culling query instead of testing every entity. World coordinates are the car
+ *   scene's: x along the road (screen x is x - cameraX), y down the screen.
+ *   No JavaFX, no allocation per step (the taken table only grows when it fills up).
+ */
+public final class TrafficWorld {
+
+    public static final int TRAFFIC = 0;
+    public static final int CONE = 1;
+    public static final int COIN = 2;
+
+    // Bits returned by collide()
+    public static final int HIT = 1;
+    public static final int PICKED_UP = 2;
+
+    public static final int CAPACITY = 512;
+    private static final double CELL = 128;
+    private static final double CHUNK = 600;
+    private static final double MARGIN = 400;
+
+    // Lanes, as screen y of the entity's top edge
+    private static final double FAR_LANE_Y = 462;
+    private static final double CONE_Y = 395;
+    private static final double COIN_Y = 300;
+    private static final double TRAFFIC_SPEED = 260;
+    private static final double TRAFFIC_GAP = 1.8;
+    // Most cones a chunk generates; coins take the bits after them
+    private static final int MAX_CONES = 2;
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private long chunkState;
+    private final SplittableRandom trafficRng;
+    private final SpatialGrid grid = new SpatialGrid(CELL, CAPACITY);
+    private final int[] near = new int[64];
+
+    private final byte[] kind = new byte[CAPACITY];
+    private final byte[] color = new byte[CAPACITY];
+    private final double[] x = new double[CAPACITY];
+    private final double[] y = new double[CAPACITY];
+    private final double[] w = new double[CAPACITY];
+    private final double[] h = new double[CAPACITY];
+    private final double[] vx = new double[CAPACITY];
+    private final long[] chunkOf = new long[CAPACITY];
+    // Bit of the entity in its chunk's taken mask
+    private final byte[] pickup = new byte[CAPACITY];
+    private int count;
+
+    // Chunks with something taken and what (a mask of 0 is an empty slot); length is a power of two
+    private long[] takenChunk = new long[64];
+    private byte[] takenMask = new byte[64];
+    private int takenChunks;
+
+    // Chunks [loChunk, hiChunk) have been generated
+    private long loChunk;
+    private long hiChunk;
+    private boolean started;
+    private double nextTraffic;
+
+    private long spawned;
+    private long retired;
+    private int coins;
+    private int hits;
+
+    public TrafficWorld(long seed) {
+        this.seed = seed;
+        this.trafficRng = new SplittableRandom(seed);
+    }
+
+    /* Advances traffic by dt and keeps the world populated around the view */
+    public void step(double dt, double cameraX, double viewWidth) {
+        double lo = cameraX - MARGIN;
+        double hi = cameraX + viewWidth + MARGIN;
+        long wantLo = (long) Math.floor(lo / CHUNK);
+        long wantHi = (long) Math.floor(hi / CHUNK) + 1;
+        if (!started || wantLo >= hiChunk || wantHi <= loChunk) {
+            // First step, or the camera jumped clear of everything generated: start over
+            started = true;
+            loChunk = wantLo;
+            hiChunk = wantLo;
+        }
+        // Forget chunks that fell out of range, then generate newly reached ones
+        loChunk = Math.max(loChunk, wantLo);
+        hiChunk = Math.min(hiChunk, wantHi);
+        while (hiChunk < wantHi) {
+            generate(hiChunk++);
+        }
+        while (loChunk > wantLo) {
+            generate(--loChunk);
+        }
+
+        // Oncoming cars appear just beyond the right edge of the range
+        nextTraffic -= dt;
+        if (nextTraffic <= 0) {
+            nextTraffic = TRAFFIC_GAP * (0.4 + trafficRng.nextDouble());
+            int i = spawn(TRAFFIC, hi - 1, FAR_LANE_Y, 150, 42, Long.MIN_VALUE);
+            if (i >= 0) {
+                vx[i] = -TRAFFIC_SPEED * (0.8 + 0.5 * trafficRng.nextDouble());
+                color[i] = (byte) trafficRng.nextInt(4);
+            }
+        }
+
+        int i = 0;
+        while (i < count) {
+            x[i] += vx[i] * dt;
+            // Cones and coins go with their chunk, so a chunk comes back complete
+            boolean gone = kind[i] == TRAFFIC
+                    ? x[i] + w[i] < lo || x[i] > hi
+                    : chunkOf[i] < loChunk || chunkOf[i] >= hiChunk;
+            if (gone) {
+                retire(i);
+                continue;
+            }
+            i++;
+        }
+
+        grid.clear();
+        for (int e = 0; e < count; e++) {
+            grid.insert(e, x[e], y[e], x[e] + w[e], y[e] + h[e]);
+        }
+    }
+
+    /*
+     * Checks the car's box against what shares its grid cells: cones it touches are
+     * knocked away (HIT), coins are collected (PICKED_UP). Returns the bits that happened.
+     */
+    public int collide(double minX, double minY, double maxX, double maxY) {
+        int events = 0;
+        int n = grid.query(minX, minY, maxX, maxY, near);
+        // Highest index first, so retiring one doesn't move another still to be checked
+        sortDescending(near, n);
+        for (int k = 0; k < n; k++) {
+            int e = near[k];
+            if (kind[e] == TRAFFIC || x[e] > maxX || x[e] + w[e] < minX || y[e] > maxY || y[e] + h[e] < minY) {
+                continue;
+            }
+            if (kind[e] == CONE) {
+                hits++;
+                events |= HIT;
+            } else {
+                coins++;
+                events |= PICKED_UP;
+            }
+            markTaken(chunkOf[e], pickup[e]);
+            retire(e);
+        }
+        if (events != 0) {
+            // Retiring moved entities around; keep the grid in step for the renderer
+            grid.clear();
+            for (int e = 0; e < count; e++) {
+                grid.insert(e, x[e], y[e], x[e] + w[e], y[e] + h[e]);
+            }
+        }
+        return events;
+    }
+
+    /* Writes the indices of entities within the view into out, returns how many */
+    public int visible(double cameraX, double viewWidth, double viewHeight, int[] out) {
+        return grid.query(cameraX, 0, cameraX + viewWidth, viewHeight, out);
+    }
+
+    public int getKind(int i) {
+        return kind[i];
+    }
+
+    public int getColor(int i) {
+        return color[i];
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double getWidth(int i) {
+        return w[i];
+    }
+
+    public double getHeight(int i) {
+        return h[i];
+    }
+
+    /* Entities alive right now */
+    public int getCount() {
+        return count;
+    }
+
+    public long getSpawned() {
+        return spawned;
+    }
+
+    public long getRetired() {
+        return retired;
+    }
+
+    public int getCoins() {
+        return coins;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    private void generate(long chunk) {
+        // SplitMix64 stream of the chunk, without allocating a generator for it
+        chunkState = seed ^ (chunk * GOLDEN);
+        double base = chunk * CHUNK;
+        int taken = takenMask(chunk);
+        // Every draw is made whether or not its pickup comes back, so the rest stay where they were
+        int cones = chunkInt(MAX_CONES + 1);
+        for (int c = 0; c < cones; c++) {
+            double cx = base + chunkDouble() * (CHUNK - 30);
+            if ((taken & (1 << c)) == 0) {
+                spawnPickup(CONE, cx, CONE_Y, 30, 40, chunk, c);
+            }
+        }
+        int coinRow = chunkInt(4);
+        double start = base + chunkDouble() * (CHUNK - 200);
+        for (int c = 0; c < coinRow; c++) {
+            if ((taken & (1 << (MAX_CONES + c))) == 0) {
+                spawnPickup(COIN, start + c * 50, COIN_Y, 24, 24, chunk, MAX_CONES + c);
+            }
+        }
+    }
+
+    private void spawnPickup(int k, double ex, double ey, double ew, double eh, long chunk, int bit) {
+        int i = spawn(k, ex, ey, ew, eh, chunk);
+        if (i >= 0) {
+            pickup[i] = (byte) bit;
+        }
+    }
+
+    /* Bits of chunk's pickups that were taken, 0 when none were */
+    private int takenMask(long chunk) {
+        int mask = takenChunk.length - 1;
+        for (int i = takenSlot(chunk, mask); takenMask[i] != 0; i = (i + 1) & mask) {
+            if (takenChunk[i] == chunk) {
+                return takenMask[i];
+            }
+        }
+        return 0;
+    }
+
+    private void markTaken(long chunk, int bit) {
+        int mask = takenChunk.length - 1;
+        int i = takenSlot(chunk, mask);
+        while (takenMask[i] != 0 && takenChunk[i] != chunk) {
+            i = (i + 1) & mask;
+        }
+        if (takenMask[i] == 0) {
+            takenChunk[i] = chunk;
+            takenChunks++;
+        }
+        takenMask[i] |= (byte) (1 << bit);
+        if (takenChunks * 4 > takenChunk.length * 3) {
+            growTaken();
+        }
+    }
+
+    private void growTaken() {
+        long[] oldChunk = takenChunk;
+        byte[] oldMask = takenMask;
+        takenChunk = new long[oldChunk.length * 2];
+        takenMask = new byte[oldMask.length * 2];
+        int mask = takenChunk.length - 1;
+        for (int o = 0; o < oldChunk.length; o++) {
+            if (oldMask[o] != 0) {
+                int i = takenSlot(oldChunk[o], mask);
+                while (takenMask[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                takenChunk[i] = oldChunk[o];
+                takenMask[i] = oldMask[o];
+            }
+        }
+    }
+
+    private static int takenSlot(long chunk, int mask) {
+        return (int) ((chunk * GOLDEN) >>> 40) & mask;
+    }
+
+    private double chunkDouble() {
+        return (nextChunkRandom() >>> 11) * 0x1.0p-53;
+    }
+
+    private int chunkInt(int bound) {
+        return (int) ((nextChunkRandom() >>> 33) % bound);
+    }
+
+    private long nextChunkRandom() {
+        long z = (chunkState += GOLDEN);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /* Takes the next free slot; -1 (and nothing spawned) when all CAPACITY are in use */
+    private int spawn(int k, double ex, double ey, double ew, double eh, long chunk) {
+        if (count == CAPACITY) {
+            return -1;
+        }
+        int i = count++;
+        kind[i] = (byte) k;
+        color[i] = 0;
+        x[i] = ex;
+        y[i] = ey;
+        w[i] = ew;
+        h[i] = eh;
+        vx[i] = 0;
+        chunkOf[i] = chunk;
+        pickup[i] = 0;
+        spawned++;
+        return i;
+    }
+
+    private void retire(int i) {
+        int last = --count;
+        kind[i] = kind[last];
+        color[i] = color[last];
+        x[i] = x[last];
+        y[i] = y[last];
+        w[i] = w[last];
+        h[i] = h[last];
+        vx[i] = vx[last];
+        chunkOf[i] = chunkOf[last];
+        pickup[i] = pickup[last];
+        retired++;
+    }
+
+    private static void sortDescending(int[] a, int n) {
+        for (int i = 1; i < n; i++) {
+            int v = a[i];
+            int j = i - 1;
+            while (j >= 0 && a[j] < v) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = v;
+        }
+    }
+}
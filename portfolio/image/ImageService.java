@@ -0,0 +1,136 @@
+package portfolio.image;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.image.Image;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/*
+ * 🖼️ Image Service
+ *   Shared loader for the portfolio photos. Images are decoded on JavaFX's background
+ *   loader threads straight at the size they are displayed at (requestedWidth/Height),
+ *   so neither the full-resolution decode nor the full-resolution pixel buffer ever
+ *   lands on the FX thread. Decoded images live in an LRU cache keyed by url and size
+ *   and bounded by an estimate of their pixel memory.
+ *
+ *   Must only be used from the FX application thread.
+ */
+public class ImageService {
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long maxBytes;
+    // access-ordered: iteration starts at the least recently used image
+    private final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+    private int hits;
+    private int misses;
+
+    public ImageService(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /*
+     * Returns an image of url scaled to fit width x height (aspect ratio preserved).
+     * The image may still be loading; use whenReady to react once it is decoded.
+     * Throws IllegalArgumentException like Image does when url cannot be resolved.
+     */
+    public Image load(String url, double width, double height) {
+        String key = url + '@' + width + 'x' + height;
+        Entry entry = cache.get(key);
+        if (entry != null && !entry.image.isError()) {
+            hits++;
+            return entry.image;
+        }
+        misses++;
+        if (entry != null) {
+            remove(key, entry);
+        }
+
+        Image image = new Image(url, width, height, true, true, true);
+        entry = new Entry(image, (long) Math.ceil(width) * (long) Math.ceil(height) * BYTES_PER_PIXEL);
+        cache.put(key, entry);
+        cachedBytes += entry.bytes;
+        trim(key);
+        return image;
+    }
+
+    /*
+     * Calls onDone with true once image has decoded, or false if it failed. Runs
+     * immediately when the image is already finished, otherwise on the FX thread.
+     */
+    public static void whenReady(Image image, Consumer<Boolean> onDone) {
+        if (image.isError()) {
+            onDone.accept(false);
+            return;
+        }
+        if (image.getProgress() >= 1.0) {
+            onDone.accept(true);
+            return;
+        }
+        // A failed load flips the error flag without necessarily finishing progress
+        ChangeListener<Object> listener = new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<?> obs, Object was, Object now) {
+                if (image.getProgress() >= 1.0 || image.isError()) {
+                    image.progressProperty().removeListener(this);
+                    image.errorProperty().removeListener(this);
+                    onDone.accept(!image.isError());
+                }
+            }
+        };
+        image.progressProperty().addListener(listener);
+        image.errorProperty().addListener(listener);
+    }
+
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public void clear() {
+        cache.clear();
+        cachedBytes = 0;
+    }
+
+    private void trim(String justLoaded) {
+        Iterator<Map.Entry<String, Entry>> it = cache.entrySet().iterator();
+        while (cachedBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Entry> e = it.next();
+            if (e.getKey().equals(justLoaded)) {
+                continue;
+            }
+            it.remove();
+            cachedBytes -= e.getValue().bytes;
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        cache.remove(key);
+        cachedBytes -= entry.bytes;
+    }
+
+    private static final class Entry {
+        final Image image;
+        final long bytes;
+
+        Entry(Image image, long bytes) {
+            this.image = image;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package portfolio.leaderboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/*
+ * 🏆 Leaderboard
+ *   Every finished basketball session, ranked by score, then best streak, then who got
+ *   there first. The file is an append-only index of fixed 32 byte records, so saving a
+ *   session writes 32 bytes (64 for a new player) and never rewrites what is there:
+ *
+ *     header   int magic, int version
+ *     record   int type, int crc32c, 24 byte payload
+ *       PLAYER   name, UTF-8, zero padded (player ids are the order of these records)
+ *       SESSION  int player, int score, int best streak, int shots, long ended (epoch ms)
+ *
+ *   Opening scans the file once (a year of kiosk play, a few hundred thousand sessions,
+ *   is a few MB) into the top-K list and ScoreRanks; replay stops at the first torn or
+ *   corrupt record, which the next session then overwrites. Thread-safe.
+ */
+public final class Leaderboard implements Closeable {
+
+    public static final int TOP = 10;
+    public static final int MAX_NAME_BYTES = 24;
+
+    private static final int MAGIC = 0x5346584C; // "SFXL"
+    private static final int VERSION = 1;
+    private static final int RECORD = 32;
+    private static final int PLAYER = 1;
+    private static final int SESSION = 2;
+
+    private final FileChannel channel;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD);
+    private final CRC32C crc = new CRC32C();
+    private final Map<String, Integer> playerIds = new HashMap<>();
+    private final List<String> players = new ArrayList<>();
+    private final ScoreRanks ranks = new ScoreRanks();
+    // Best first, at most TOP entries
+    private final List<Entry> top = new ArrayList<>(TOP + 1);
+    private long end = RECORD;
+
+    private Leaderboard(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /* Opens (or creates) the leaderboard at file and loads everything recorded so far */
+    public static Leaderboard open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Leaderboard board = new Leaderboard(channel);
+        try {
+            board.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return board;
+    }
+
+    /* A leaderboard that keeps nothing on disk (replays, or when the file can't be opened) */
+    public static Leaderboard inMemory() {
+        return new Leaderboard(null);
+    }
+
+    /* Saves a finished session and returns its rank among all sessions so far */
+    public synchronized long record(String player, int score, int bestStreak, int shots) throws IOException {
+        if (shots < score) {
+            throw new IllegalArgumentException("A session cannot score more than it shot");
+        }
+        String name = fit(player);
+        Integer id = playerIds.get(name);
+        if (id == null) {
+            id = players.size();
+            append(PLAYER, nameRecord(name));
+            addPlayer(name);
+        }
+        long ended = System.currentTimeMillis();
+        append(SESSION, sessionRecord(id, score, bestStreak, shots, ended));
+        if (channel != null) {
+            channel.force(false);
+        }
+        add(new Entry(name, score, bestStreak, shots, ended));
+        return ranks.rank(score, bestStreak);
+    }
+
+    /* Rank a session with this score and best streak would have ("#347") */
+    public synchronized long rankOf(int score, int bestStreak) {
+        return ranks.rank(score, bestStreak);
+    }
+
+    public synchronized long size() {
+        return ranks.size();
+    }
+
+    public synchronized int getPlayerCount() {
+        return players.size();
+    }
+
+    /* The best sessions, best first */
+    public synchronized List<Entry> top() {
+        return new ArrayList<>(top);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void load() throws IOException {
+        long length = channel.size();
+        if (length < RECORD) {
+            ByteBuffer header = ByteBuffer.allocate(RECORD);
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            channel.write(header, 0);
+            return;
+        }
+        ByteBuffer in = ByteBuffer.allocate(1 << 16);
+        channel.read(in, 0);
+        in.flip();
+        if (in.getInt(0) != MAGIC) {
+            throw new IOException("Not a SushmaFX leaderboard");
+        }
+        if (in.getInt(4) != VERSION) {
+            throw new IOException("Unsupported leaderboard version " + in.getInt(4));
+        }
+        long pos = RECORD;
+        in.position(RECORD);
+        while (true) {
+            if (in.remaining() < RECORD) {
+                if (pos + RECORD > length) {
+                    break;
+                }
+                in.clear();
+                channel.read(in, pos);
+                in.flip();
+                if (in.remaining() < RECORD) {
+                    break;
+                }
+            }
+            int start = in.position();
+            if (!replay(in, start)) {
+                break;
+            }
+            in.position(start + RECORD);
+            pos += RECORD;
+        }
+        end = pos;
+    }
+
+    /* Applies the record at start; false if it is empty, torn or corrupt */
+    private boolean replay(ByteBuffer in, int start) {
+        int type = in.getInt(start);
+        if ((type != PLAYER && type != SESSION) || in.getInt(start + 4) != checksum(type, in, start + 8)) {
+            return false;
+        }
+        if (type == PLAYER) {
+            byte[] name = new byte[MAX_NAME_BYTES];
+            in.get(start + 8, name);
+            int len = 0;
+            while (len < name.length && name[len] != 0) {
+                len++;
+            }
+            addPlayer(new String(name, 0, len, StandardCharsets.UTF_8));
+            return true;
+        }
+        int id = in.getInt(start + 8);
+        int score = in.getInt(start + 12);
+        int streak = in.getInt(start + 16);
+        int shots = in.getInt(start + 20);
+        long ended = in.getLong(start + 24);
+        if (id < 0 || id >= players.size() || score < 0 || streak > score || shots < score) {
+            return false;
+        }
+        add(new Entry(players.get(id), score, streak, shots, ended));
+        return true;
+    }
+
+    private void addPlayer(String name) {
+        playerIds.put(name, players.size());
+        players.add(name);
+    }
+
+    private void add(Entry e) {
+        ranks.add(e.score, e.bestStreak);
+        // Later sessions lose ties, so insert after every entry that is at least as good
+        int at = top.size();
+        while (at > 0 && e.beats(top.get(at - 1))) {
+            at--;
+        }
+        if (at < TOP) {
+            top.add(at, e);
+            if (top.size() > TOP) {
+                top.remove(TOP);
+            }
+        }
+    }
+
+    private ByteBuffer nameRecord(String name) {
+        record.clear();
+        record.position(8);
+        record.put(name.getBytes(StandardCharsets.UTF_8));
+        while (record.position() < RECORD) {
+            record.put((byte) 0);
+        }
+        return record;
+    }
+
+    private ByteBuffer sessionRecord(int id, int score, int streak, int shots, long ended) {
+        record.clear();
+        record.position(8);
+        record.putInt(id).putInt(score).putInt(streak).putInt(shots).putLong(ended);
+        return record;
+    }
+
+    private void append(int type, ByteBuffer payload) throws IOException {
+        payload.putInt(0, type);
+        payload.putInt(4, checksum(type, payload, 8));
+        if (channel != null) {
+            payload.clear();
+            while (payload.hasRemaining()) {
+                channel.write(payload, end + payload.position());
+            }
+        }
+        end += RECORD;
+    }
+
+    private int checksum(int type, ByteBuffer buf, int payloadStart) {
+        crc.reset();
+        crc.update(type);
+        crc.update(buf.slice(payloadStart, RECORD - 8));
+        return (int) crc.getValue();
+    }
+
+    /* Trims a name to what fits in a record, without splitting a character */
+    static String fit(String player) {
+        String name = player == null ? "" : player.strip();
+        if (name.isEmpty()) {
+            name = "Player";
+        }
+        while (name.getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+            name = name.substring(0, name.offsetByCodePoints(name.length(), -1));
+        }
+        return name;
+    }
+
+    /* One finished session */
+    public static final class Entry {
+        public final String player;
+        public final int score;
+        public final int bestStreak;
+        public final int shots;
+        public final long endedAtMillis;
+
+        Entry(String player, int score, int bestStreak, int shots, long endedAtMillis) {
+            this.player = player;
+            this.score = score;
+            this.bestStreak = bestStreak;
+            this.shots = shots;
+            this.endedAtMillis = endedAtMillis;
+        }
+
+        boolean beats(Entry other) {
+            return score != other.score ? score > other.score : bestStreak > other.bestStreak;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package portfolio.leaderboard;
+
+import java.util.Arrays;
+
+/*
+ * 🔢 Score Ranks
+ *   Counts of every recorded session by score, for competition ranking ("#347 of
+ *   120,512") without looking at the sessions themselves: a Fenwick tree over the
+ *   score answers "how many scored more" in O(log maxScore), and a per-score histogram
+ *   of best streaks (never longer than the score) breaks ties. Memory grows with the
+ *   highest score, not with the number of sessions.
+ *   Not thread-safe.
+ */
+final class ScoreRanks {
+
+    private long[] counts = new long[64];
+    private long[] tree = new long[65];
+    // streaks[score][streak]: sessions with that score and best streak (streak <= score)
+    private int[][] streaks = new int[64][];
+    private long size;
+
+    void add(int score, int streak) {
+        check(score, streak);
+        if (score >= counts.length) {
+            grow(score);
+        }
+        counts[score]++;
+        for (int i = score + 1; i < tree.length; i += i & -i) {
+            tree[i]++;
+        }
+        if (streaks[score] == null) {
+            streaks[score] = new int[score + 1];
+        }
+        streaks[score][streak]++;
+        size++;
+    }
+
+    /* Rank a session with this score and best streak has: 1 + sessions that beat it */
+    long rank(int score, int streak) {
+        check(score, streak);
+        if (score >= counts.length) {
+            return 1;
+        }
+        long better = size - atMost(score);
+        int[] sameScore = streaks[score];
+        if (sameScore != null) {
+            for (int s = streak + 1; s < sameScore.length; s++) {
+                better += sameScore[s];
+            }
+        }
+        return better + 1;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /* Sessions with a score of at most score */
+    private long atMost(int score) {
+        long sum = 0;
+        for (int i = score + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void grow(int score) {
+        int capacity = Integer.highestOneBit(score) << 1;
+        counts = Arrays.copyOf(counts, capacity);
+        streaks = Arrays.copyOf(streaks, capacity);
+        // Rebuild the tree in O(n): every node pushes its sum to its parent
+        tree = new long[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            tree[i] += counts[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private static void check(int score, int streak) {
+        if (score < 0 || streak < 0 || streak > score) {
+            throw new IllegalArgumentException("Need 0 <= streak <= score, got score " + score + ", streak " + streak);
+        }
+    }
+}
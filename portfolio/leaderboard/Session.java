@@ -0,0 +1,60 @@
+package portfolio.leaderboard;
+
+/*
+ * 🏀 Session
+ *   One player's round of shots: baskets made, the current run of makes and the
+ *   longest run so far.
+ */
+public final class Session {
+
+    private final int shots;
+    private int taken;
+    private int made;
+    private int streak;
+    private int bestStreak;
+
+    public Session(int shots) {
+        if (shots < 1) {
+            throw new IllegalArgumentException("A session needs at least one shot");
+        }
+        this.shots = shots;
+    }
+
+    public void shot(boolean scored) {
+        if (isOver()) {
+            throw new IllegalStateException("Session is over");
+        }
+        taken++;
+        if (scored) {
+            made++;
+            streak++;
+            bestStreak = Math.max(bestStreak, streak);
+        } else {
+            streak = 0;
+        }
+    }
+
+    public boolean isOver() {
+        return taken == shots;
+    }
+
+    public int getShots() {
+        return shots;
+    }
+
+    public int getTaken() {
+        return taken;
+    }
+
+    public int getMade() {
+        return made;
+    }
+
+    public int getStreak() {
+        return streak;
+    }
+
+    public int getBestStreak() {
+        return bestStreak;
+    }
+}
@@ -0,0 +1,334 @@
+package portfolio.metrics;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.stage.Popup;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * 📊 Frame Metrics
+ *   Per-scene frame interval and pulse histograms, node count and FX-thread
+ *   allocation rate, with an on-screen overlay (F3) and a periodic CSV export.
+ *
+ *   - frame interval: time between AnimationTimer ticks, i.e. between pulses
+ *   - pulse: time from the scene's pre-layout to its post-layout pulse listener,
+ *     which covers animation, CSS and layout (rendering happens after and is not
+ *     visible through public API)
+ *   - node count and allocation rate are sampled once a second
+ *
+ *   Nothing runs until the overlay is opened or -Dsushmafx.metrics=<file.csv> is
+ *   set: the timer itself keeps pulses coming, so it must not run for free.
+ *   Export interval is -Dsushmafx.metrics.interval=<seconds> (10 by default);
+ *   each export row covers the interval since the previous one.
+ *   Must only be used from the FX application thread.
+ */
+public final class FrameMetrics {
+
+    private static final long SAMPLE_NANOS = 1_000_000_000L;
+    private static final String CSV_HEADER = "epoch_ms,scene,frames,frame_mean_ms,frame_p50_ms,frame_p99_ms,"
+            + "frame_max_ms,slow_frames,pulse_p50_ms,pulse_p99_ms,pulse_max_ms,nodes,alloc_mb_per_s\n";
+
+    private final Stage stage;
+    private final Path exportFile;
+    private final long exportNanos;
+    private final Map<String, SceneStats> stats = new LinkedHashMap<>();
+    private final com.sun.management.ThreadMXBean threads = allocationBean();
+    private final ExecutorService writer;
+    private final Label overlayText = new Label();
+    private final Popup overlay = new Popup();
+    private final Timer timer = new Timer();
+
+    private SceneStats current;
+    private Scene currentScene;
+    private long pulseStart;
+    private boolean running;
+
+    private final Runnable prePulse = () -> pulseStart = System.nanoTime();
+    private final Runnable postPulse = () -> {
+        if (current != null && pulseStart != 0) {
+            current.pulse.record(System.nanoTime() - pulseStart);
+            pulseStart = 0;
+        }
+    };
+
+    private FrameMetrics(Stage stage, Path exportFile, long exportNanos) {
+        this.stage = stage;
+        this.exportFile = exportFile;
+        this.exportNanos = exportNanos;
+        this.writer = exportFile == null ? null : Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "frame-metrics-export");
+            t.setDaemon(true);
+            return t;
+        });
+
+        overlayText.setFont(Font.font("Monospaced", 12));
+        overlayText.setTextFill(Color.LIME);
+        overlayText.setPadding(new Insets(6));
+        overlayText.setStyle("-fx-background-color: rgba(0, 0, 0, 0.75); -fx-background-radius: 6;");
+        overlay.getContent().add(overlayText);
+
+        stage.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F3) {
+                toggleOverlay();
+                e.consume();
+            }
+        });
+    }
+
+    /* Sets metrics up for stage from the sushmafx.metrics* system properties */
+    public static FrameMetrics install(Stage stage) {
+        String file = System.getProperty("sushmafx.metrics");
+        long seconds = Long.getLong("sushmafx.metrics.interval", 10);
+        FrameMetrics metrics = new FrameMetrics(stage, file == null ? null : Paths.get(file),
+                Math.max(1, seconds) * 1_000_000_000L);
+        if (metrics.exportFile != null) {
+            metrics.start();
+        }
+        return metrics;
+    }
+
+    /* Attributes everything from now on to the scene shown under key */
+    public void sceneShown(String key, Scene scene) {
+        if (currentScene != null) {
+            currentScene.removePreLayoutPulseListener(prePulse);
+            currentScene.removePostLayoutPulseListener(postPulse);
+        }
+        current = stats.computeIfAbsent(key, SceneStats::new);
+        currentScene = scene;
+        pulseStart = 0;
+        timer.lastFrame = 0;
+        if (running) {
+            attach();
+        }
+    }
+
+    public void toggleOverlay() {
+        if (overlay.isShowing()) {
+            overlay.hide();
+            if (exportFile == null) {
+                stop();
+            }
+        } else {
+            start();
+            refreshOverlay();
+            overlay.show(stage, stage.getX() + 12, stage.getY() + 40);
+        }
+    }
+
+    public Map<String, SceneStats> getStats() {
+        return stats;
+    }
+
+    /* Writes whatever hasn't been exported yet and stops the export thread */
+    public void close() {
+        if (writer != null) {
+            export(System.currentTimeMillis());
+            writer.shutdown();
+        }
+    }
+
+    private void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        attach();
+        timer.reset();
+        timer.start();
+    }
+
+    private void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        timer.stop();
+        if (currentScene != null) {
+            currentScene.removePreLayoutPulseListener(prePulse);
+            currentScene.removePostLayoutPulseListener(postPulse);
+        }
+    }
+
+    private void attach() {
+        if (currentScene != null) {
+            currentScene.addPreLayoutPulseListener(prePulse);
+            currentScene.addPostLayoutPulseListener(postPulse);
+        }
+    }
+
+    private void sample(long now) {
+        if (current == null) {
+            return;
+        }
+        long allocated = threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+        if (timer.lastSample != 0 && threads != null) {
+            double seconds = (now - timer.lastSample) / 1e9;
+            current.allocBytesPerSecond = (allocated - timer.lastAllocated) / seconds;
+        }
+        timer.lastAllocated = allocated;
+        timer.lastSample = now;
+        if (currentScene != null && currentScene.getRoot() != null) {
+            current.nodes = countNodes(currentScene.getRoot());
+        }
+        if (overlay.isShowing()) {
+            overlay.setX(stage.getX() + 12);
+            overlay.setY(stage.getY() + 40);
+            refreshOverlay();
+        }
+        if (exportFile != null && now - timer.lastExport >= exportNanos) {
+            timer.lastExport = now;
+            export(System.currentTimeMillis());
+        }
+    }
+
+    private void refreshOverlay() {
+        if (current == null) {
+            overlayText.setText("no scene yet");
+            return;
+        }
+        SceneStats s = current;
+        StringBuilder sb = new StringBuilder(160);
+        sb.append("scene ").append(s.key).append("   F3 hides\n");
+        sb.append("frame  p50 ").append(ms(s.frame.getPercentile(50)))
+          .append("  p99 ").append(ms(s.frame.getPercentile(99)))
+          .append("  max ").append(ms(s.frame.getMax())).append(" ms\n");
+        sb.append("pulse  p50 ").append(ms(s.pulse.getPercentile(50)))
+          .append("  p99 ").append(ms(s.pulse.getPercentile(99))).append(" ms\n");
+        sb.append("slow   ").append(s.slowFrames).append(" / ").append(s.frame.getCount()).append(" frames\n");
+        sb.append("nodes  ").append(s.nodes)
+          .append("   alloc ").append(Math.round(s.allocBytesPerSecond / 1e5) / 10.0).append(" MB/s");
+        overlayText.setText(sb.toString());
+    }
+
+    private void export(long epochMillis) {
+        StringBuilder rows = new StringBuilder();
+        for (SceneStats s : stats.values()) {
+            if (s.frame.getCount() == 0 && s.pulse.getCount() == 0) {
+                continue;
+            }
+            rows.append(epochMillis).append(',').append(s.key).append(',')
+                .append(s.frame.getCount()).append(',')
+                .append(ms(Math.round(s.frame.getMean()))).append(',')
+                .append(ms(s.frame.getPercentile(50))).append(',')
+                .append(ms(s.frame.getPercentile(99))).append(',')
+                .append(ms(s.frame.getMax())).append(',')
+                .append(s.slowFrames).append(',')
+                .append(ms(s.pulse.getPercentile(50))).append(',')
+                .append(ms(s.pulse.getPercentile(99))).append(',')
+                .append(ms(s.pulse.getMax())).append(',')
+                .append(s.nodes).append(',')
+                .append(Math.round(s.allocBytesPerSecond / 1e4) / 100.0).append('\n');
+            s.frame.reset();
+            s.pulse.reset();
+            s.slowFrames = 0;
+        }
+        if (rows.length() == 0) {
+            return;
+        }
+        String text = rows.toString();
+        writer.execute(() -> {
+            try {
+                if (!Files.exists(exportFile)) {
+                    Files.writeString(exportFile, CSV_HEADER, StandardCharsets.UTF_8);
+                }
+                Files.writeString(exportFile, text, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                System.err.println("Could not export frame metrics: " + e.getMessage());
+            }
+        });
+    }
+
+    private static int countNodes(Node node) {
+        int n = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                n += countNodes(child);
+            }
+        }
+        return n;
+    }
+
+    private static String ms(long nanos) {
+        return Double.toString(Math.round(nanos / 10_000.0) / 100.0);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+            if (sun.isThreadAllocatedMemorySupported()) {
+                sun.setThreadAllocatedMemoryEnabled(true);
+                return sun;
+            }
+        }
+        return null;
+    }
+
+    /* Numbers for one scene; histograms cover the time since the last export */
+    public static final class SceneStats {
+        // Anything over two 60 Hz frames counts as a dropped frame
+        static final long SLOW_FRAME_NANOS = 33_333_333L;
+
+        public final String key;
+        public final LatencyHistogram frame = new LatencyHistogram();
+        public final LatencyHistogram pulse = new LatencyHistogram();
+        public long slowFrames;
+        public int nodes;
+        public double allocBytesPerSecond;
+
+        SceneStats(String key) {
+            this.key = key;
+        }
+    }
+
+    private final class Timer extends AnimationTimer {
+        long lastFrame;
+        long lastSample;
+        long lastAllocated;
+        long lastExport;
+
+        void reset() {
+            lastFrame = 0;
+            lastSample = 0;
+        }
+
+        @Override
+        public void handle(long now) {
+            if (lastExport == 0) {
+                lastExport = now;
+            }
+            if (lastFrame != 0 && current != null) {
+                long interval = now - lastFrame;
+                current.frame.record(interval);
+                if (interval > SceneStats.SLOW_FRAME_NANOS) {
+                    current.slowFrames++;
+                }
+            }
+            lastFrame = now;
+            if (now - lastSample >= SAMPLE_NANOS) {
+                sample(now);
+            }
+        }
+    }
+}
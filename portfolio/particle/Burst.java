@@ -0,0 +1,43 @@
+package portfolio.particle;
+
+/*
+ * 🎆 Burst
+ *   Ready-made particle looks. Speeds are pixels per second, gravity pixels per second
+ *   squared, drag the share of velocity lost per second, angles in degrees (0 = right,
+ *   -90 = up) and colours indices into ParticleSystem.PALETTE.
+ */
+public enum Burst {
+    // Slow, drifting paper in every colour
+    CONFETTI(120, 420, -90, 140, 260, 1.6, 2.5, 4, 4, 7, 0, 1, 2, 3, 4, 5, 6),
+    // Heavy gold pieces thrown up and out, falling fast
+    COINS(250, 520, -90, 70, 900, 0.4, 1.6, 2.2, 5, 7, 0, 1),
+    // Quick bright sparks fanning out, gone in under a second
+    SPARKS(250, 650, 0, 360, 150, 3.5, 0.35, 0.8, 2, 3, 1, 2, 7);
+
+    final double minSpeed;
+    final double maxSpeed;
+    final double angle;
+    final double spread;
+    final double gravity;
+    final double drag;
+    final double minLife;
+    final double maxLife;
+    final double minSize;
+    final double maxSize;
+    final int[] colors;
+
+    Burst(double minSpeed, double maxSpeed, double angle, double spread, double gravity, double drag,
+          double minLife, double maxLife, double minSize, double maxSize, int... colors) {
+        this.minSpeed = minSpeed;
+        this.maxSpeed = maxSpeed;
+        this.angle = angle;
+        this.spread = spread;
+        this.gravity = gravity;
+        this.drag = drag;
+        this.minLife = minLife;
+        this.maxLife = maxLife;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.colors = colors;
+    }
+}
@@ -0,0 +1,182 @@
+package portfolio.particle;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.SplittableRandom;
+
+/*
+ * ✨ Particle System
+ *   Confetti, coins and sparks drawn onto one Canvas. Particles live in parallel
+ *   primitive arrays (position, velocity, life, size, colour) sized once for a fixed
+ *   capacity; live particles are kept packed at the front, and a dying one is replaced
+ *   by the last live one, so stepping and drawing walk plain arrays and a frame
+ *   allocates nothing. A burst beyond capacity emits what fits.
+ *
+ *   Drawing is one pass per palette colour of small filled squares that shrink as the
+ *   particle ages. Nothing is drawn, and the canvas is not touched, while no particles
+ *   are alive. The owner drives step() and render(), usually from its FixedStepLoop.
+ *   Must only be used from the FX application thread.
+ */
+public final class ParticleSystem {
+
+    public static final Color[] PALETTE = {
+        Color.GOLD, Color.ORANGE, Color.YELLOW, Color.CRIMSON,
+        Color.HOTPINK, Color.DEEPSKYBLUE, Color.LIMEGREEN, Color.WHITE
+    };
+
+    private final Canvas canvas;
+    private final GraphicsContext g;
+    private final int capacity;
+    // Visual only, so it never touches the game RNG (and replays stay exact)
+    private final SplittableRandom rng = new SplittableRandom(0x5F3759DF);
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] gravity;
+    private final float[] drag;
+    private final float[] age;
+    private final float[] life;
+    private final float[] size;
+    private final byte[] color;
+    private int count;
+    private boolean drawn;
+
+    public ParticleSystem(Canvas canvas, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.canvas = canvas;
+        this.g = canvas.getGraphicsContext2D();
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        gravity = new float[capacity];
+        drag = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        size = new float[capacity];
+        color = new byte[capacity];
+    }
+
+    /*
+     * Lays a mouse-transparent canvas the size of root over everything in it and
+     * returns a system drawing there. Works for any Pane root (the canvas is unmanaged,
+     * so layouts like VBox leave it alone).
+     */
+    public static ParticleSystem attach(Pane root, int capacity) {
+        Canvas overlay = new Canvas();
+        overlay.setManaged(false);
+        overlay.setMouseTransparent(true);
+        overlay.widthProperty().bind(root.widthProperty());
+        overlay.heightProperty().bind(root.heightProperty());
+        root.getChildren().add(overlay);
+        return new ParticleSystem(overlay, capacity);
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /* Emits up to n particles of the given look from (px, py) */
+    public void burst(Burst look, double px, double py, int n) {
+        emit(look, px, py, 0, 0, n);
+    }
+
+    /* Emits up to n particles spread over a width x height area, e.g. a shower from the top edge */
+    public void emit(Burst look, double px, double py, double width, double height, int n) {
+        int end = Math.min(capacity, count + n);
+        for (int i = count; i < end; i++) {
+            double a = Math.toRadians(look.angle + (rng.nextDouble() - 0.5) * look.spread);
+            double speed = look.minSpeed + rng.nextDouble() * (look.maxSpeed - look.minSpeed);
+            x[i] = (float) (px + rng.nextDouble() * width);
+            y[i] = (float) (py + rng.nextDouble() * height);
+            vx[i] = (float) (Math.cos(a) * speed);
+            vy[i] = (float) (Math.sin(a) * speed);
+            gravity[i] = (float) look.gravity;
+            drag[i] = (float) look.drag;
+            age[i] = 0;
+            life[i] = (float) (look.minLife + rng.nextDouble() * (look.maxLife - look.minLife));
+            size[i] = (float) (look.minSize + rng.nextDouble() * (look.maxSize - look.minSize));
+            color[i] = (byte) look.colors[rng.nextInt(look.colors.length)];
+        }
+        count = end;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /* Moves every particle on by dt seconds and retires the ones that have lived out */
+    public void step(double dt) {
+        float t = (float) dt;
+        float h = (float) canvas.getHeight() + 20;
+        int i = 0;
+        while (i < count) {
+            float a = age[i] + t;
+            if (a >= life[i] || y[i] > h) {
+                moveLastTo(i);
+                continue;
+            }
+            age[i] = a;
+            float keep = Math.max(0f, 1f - drag[i] * t);
+            vx[i] *= keep;
+            vy[i] = vy[i] * keep + gravity[i] * t;
+            x[i] += vx[i] * t;
+            y[i] += vy[i] * t;
+            i++;
+        }
+    }
+
+    /* Draws the live particles; clears once after the last one is gone, then stays idle */
+    public void render() {
+        if (count == 0 && !drawn) {
+            return;
+        }
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawn = count > 0;
+        for (int c = 0; c < PALETTE.length; c++) {
+            boolean filled = false;
+            for (int i = 0; i < count; i++) {
+                if (color[i] != c) {
+                    continue;
+                }
+                if (!filled) {
+                    g.setFill(PALETTE[c]);
+                    filled = true;
+                }
+                // Shrinks to nothing over the last half of its life
+                float s = size[i] * Math.min(1f, 2f * (1f - age[i] / life[i]));
+                g.fillRect(x[i] - s * 0.5f, y[i] - s * 0.5f, s, s);
+            }
+        }
+    }
+
+    private void moveLastTo(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        gravity[i] = gravity[last];
+        drag[i] = drag[last];
+        age[i] = age[last];
+        life[i] = life[last];
+        size[i] = size[last];
+        color[i] = color[last];
+    }
+}
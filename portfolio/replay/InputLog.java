@@ -0,0 +1,119 @@
+package portfolio.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/*
+ * 📼 Input Log
+ *   Binary recording of one session: a header with the RNG seed and the starting
+ *   balance, then a stream of records in the order they happened. A FRAME record
+ *   marks an animation pulse (its timestamp, delta-encoded); input records name
+ *   their target as child indices from the scene root and carry the event fields
+ *   the handlers read. Integers are varints, so an idle frame costs 2 bytes.
+ *
+ *   Layout: int magic, byte version, long seed, long balance (cents), records...
+ */
+public final class InputLog {
+
+    static final int MAGIC = 0x53465852; // "SFXR"
+    static final int VERSION = 1;
+
+    static final int FRAME = 0;
+    static final int KEY_PRESSED = 1;
+    static final int KEY_RELEASED = 2;
+    static final int KEY_TYPED = 3;
+    static final int MOUSE_PRESSED = 4;
+    static final int MOUSE_RELEASED = 5;
+    static final int MOUSE_DRAGGED = 6;
+    static final int MOUSE_CLICKED = 7;
+
+    private final long seed;
+    private final long startBalance;
+    private final byte[] records;
+
+    private InputLog(long seed, long startBalance, byte[] records) {
+        this.seed = seed;
+        this.startBalance = startBalance;
+        this.records = records;
+    }
+
+    /* Reads a whole log; they are small (a few KB a minute) */
+    public static InputLog read(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (bytes.length < 21 || in.readInt() != MAGIC) {
+            throw new IOException(file + " is not an input log");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input log version " + version);
+        }
+        long seed = in.readLong();
+        long balance = in.readLong();
+        return new InputLog(seed, balance, Arrays.copyOfRange(bytes, 21, bytes.length));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getStartBalance() {
+        return startBalance;
+    }
+
+    public int getSize() {
+        return records.length;
+    }
+
+    DataInputStream openRecords() {
+        return new DataInputStream(new ByteArrayInputStream(records));
+    }
+
+    static void writeHeader(DataOutput out, long seed, long startBalance) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeLong(startBalance);
+    }
+
+    /* Unsigned LEB128: 7 bits per byte, high bit set while more follow */
+    static void writeVarLong(DataOutput out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("Malformed varint in input log");
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        long v = readVarLong(in);
+        if (v > Integer.MAX_VALUE) {
+            throw new IOException("Malformed varint in input log");
+        }
+        return (int) v;
+    }
+
+    /* True when there is at least one more byte to read */
+    static boolean hasMore(InputStream in) throws IOException {
+        return in.available() > 0;
+    }
+}
@@ -0,0 +1,176 @@
+package portfolio.replay;
+
+import javafx.animation.AnimationTimer;
+import javafx.event.EventHandler;
+import javafx.event.EventTarget;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.stage.Stage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * ⏺️ Input Recorder
+ *   Writes every key and mouse event that reaches the stage, plus a FRAME record per
+ *   animation pulse, to an InputLog. Events are captured by filters on the stage, so
+ *   they are logged before any handler can consume them.
+ *
+ *   Must only be used from the FX application thread.
+ */
+public final class InputRecorder {
+
+    private final Stage stage;
+    private final DataOutputStream out;
+    private final AnimationTimer frames;
+    private final EventHandler<KeyEvent> keys = this::recordKey;
+    private final EventHandler<MouseEvent> mouse = this::recordMouse;
+    private final List<Integer> path = new ArrayList<>();
+    private long lastFrame;
+    private boolean closed;
+
+    private InputRecorder(Stage stage, DataOutputStream out) {
+        this.stage = stage;
+        this.out = out;
+        this.frames = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                recordFrame(now);
+            }
+        };
+    }
+
+    /*
+     * Starts recording to file. Install it before any game loop is started so its
+     * frame record is written first in every pulse, ahead of the loops' steps.
+     */
+    public static InputRecorder start(Stage stage, Path file, long seed, long startBalance) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        InputLog.writeHeader(out, seed, startBalance);
+        InputRecorder recorder = new InputRecorder(stage, out);
+        stage.addEventFilter(KeyEvent.ANY, recorder.keys);
+        stage.addEventFilter(MouseEvent.MOUSE_PRESSED, recorder.mouse);
+        stage.addEventFilter(MouseEvent.MOUSE_RELEASED, recorder.mouse);
+        stage.addEventFilter(MouseEvent.MOUSE_DRAGGED, recorder.mouse);
+        stage.addEventFilter(MouseEvent.MOUSE_CLICKED, recorder.mouse);
+        recorder.frames.start();
+        return recorder;
+    }
+
+    /* Stops recording and flushes the log */
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        frames.stop();
+        stage.removeEventFilter(KeyEvent.ANY, keys);
+        stage.removeEventFilter(MouseEvent.MOUSE_PRESSED, mouse);
+        stage.removeEventFilter(MouseEvent.MOUSE_RELEASED, mouse);
+        stage.removeEventFilter(MouseEvent.MOUSE_DRAGGED, mouse);
+        stage.removeEventFilter(MouseEvent.MOUSE_CLICKED, mouse);
+        out.close();
+    }
+
+    private void recordFrame(long now) {
+        try {
+            out.writeByte(InputLog.FRAME);
+            InputLog.writeVarLong(out, now - lastFrame);
+            lastFrame = now;
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void recordKey(KeyEvent e) {
+        int type;
+        if (e.getEventType() == KeyEvent.KEY_PRESSED) {
+            type = InputLog.KEY_PRESSED;
+        } else if (e.getEventType() == KeyEvent.KEY_RELEASED) {
+            type = InputLog.KEY_RELEASED;
+        } else {
+            type = InputLog.KEY_TYPED;
+        }
+        try {
+            out.writeByte(type);
+            writeTarget(e.getTarget());
+            InputLog.writeVarLong(out, e.getCode().ordinal());
+            out.writeByte(modifiers(e.isShiftDown(), e.isControlDown(), e.isAltDown(), e.isMetaDown()));
+            out.writeUTF(type == InputLog.KEY_TYPED ? e.getCharacter() : e.getText());
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    private void recordMouse(MouseEvent e) {
+        int type;
+        if (e.getEventType() == MouseEvent.MOUSE_PRESSED) {
+            type = InputLog.MOUSE_PRESSED;
+        } else if (e.getEventType() == MouseEvent.MOUSE_RELEASED) {
+            type = InputLog.MOUSE_RELEASED;
+        } else if (e.getEventType() == MouseEvent.MOUSE_DRAGGED) {
+            type = InputLog.MOUSE_DRAGGED;
+        } else {
+            type = InputLog.MOUSE_CLICKED;
+        }
+        // Local to the target, so a replay still hits it if the layout around it shifted
+        Point2D local = e.getTarget() instanceof Node
+                ? ((Node) e.getTarget()).sceneToLocal(e.getSceneX(), e.getSceneY())
+                : new Point2D(e.getSceneX(), e.getSceneY());
+        int flags = modifiers(e.isShiftDown(), e.isControlDown(), e.isAltDown(), e.isMetaDown())
+                | (e.isPrimaryButtonDown() ? 16 : 0)
+                | (e.isMiddleButtonDown() ? 32 : 0)
+                | (e.isSecondaryButtonDown() ? 64 : 0)
+                | (e.isStillSincePress() ? 128 : 0);
+        try {
+            out.writeByte(type);
+            writeTarget(e.getTarget());
+            out.writeFloat((float) local.getX());
+            out.writeFloat((float) local.getY());
+            out.writeByte(e.getButton().ordinal());
+            InputLog.writeVarLong(out, e.getClickCount());
+            out.writeByte(flags);
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    /* Child indices from the scene root down to target; 0 alone means the scene itself */
+    private void writeTarget(EventTarget target) throws IOException {
+        if (!(target instanceof Node)) {
+            InputLog.writeVarLong(out, 0);
+            return;
+        }
+        path.clear();
+        Node node = (Node) target;
+        for (Parent parent = node.getParent(); parent != null; parent = parent.getParent()) {
+            path.add(parent.getChildrenUnmodifiable().indexOf(node));
+            node = parent;
+        }
+        InputLog.writeVarLong(out, path.size() + 1);
+        for (int i = path.size() - 1; i >= 0; i--) {
+            InputLog.writeVarLong(out, path.get(i));
+        }
+    }
+
+    static int modifiers(boolean shift, boolean control, boolean alt, boolean meta) {
+        return (shift ? 1 : 0) | (control ? 2 : 0) | (alt ? 4 : 0) | (meta ? 8 : 0);
+    }
+
+    private void fail(IOException e) {
+        System.err.println("Input recording stopped: " + e.getMessage());
+        try {
+            close();
+        } catch (IOException ignored) {
+            // already reported the first failure
+        }
+    }
+}
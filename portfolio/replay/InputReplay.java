@@ -0,0 +1,237 @@
+package portfolio.replay;
+
+import javafx.animation.AnimationTimer;
+import javafx.event.Event;
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.stage.Stage;
+
+import portfolio.metrics.LatencyHistogram;
+import portfolio.scene.FixedStepLoop;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/*
+ * ⏯️ Input Replay
+ *   Plays an InputLog back through the stage's own handlers. Each pulse it fires the
+ *   events recorded before the next FRAME record at their recorded targets, then
+ *   hands that frame's recorded timestamp to every FixedStepLoop, so the game steps
+ *   exactly as it did while recording, however fast or slow the replay's pulses are
+ *   (run with -Djavafx.animation.fullspeed=true to replay faster than real time).
+ *
+ *   Must only be used from the FX application thread.
+ */
+public final class InputReplay {
+
+    private static final KeyCode[] KEY_CODES = KeyCode.values();
+    private static final MouseButton[] BUTTONS = MouseButton.values();
+
+    private final Stage stage;
+    private final InputLog log;
+    private final DataInputStream in;
+    private final Consumer<InputReplay> onFinished;
+    private final AnimationTimer driver;
+    private final LatencyHistogram pulseIntervals = new LatencyHistogram();
+
+    private long frameTime;
+    private long firstPulse = -1;
+    private long lastPulse;
+    private long frames;
+    private long events;
+    private int unresolved;
+    private String error;
+
+    private InputReplay(Stage stage, InputLog log, Consumer<InputReplay> onFinished) {
+        this.stage = stage;
+        this.log = log;
+        this.in = log.openRecords();
+        this.onFinished = onFinished;
+        this.driver = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+    }
+
+    /*
+     * Starts replaying log on stage and calls onFinished once it has run out. Install
+     * it before any game loop is started, so it runs first in every pulse.
+     */
+    public static InputReplay start(Stage stage, InputLog log, Consumer<InputReplay> onFinished) {
+        InputReplay replay = new InputReplay(stage, log, onFinished);
+        FixedStepLoop.useClock(pulse -> replay.frameTime);
+        replay.driver.start();
+        return replay;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    /* Events whose recorded target no longer exists; they went to its nearest ancestor */
+    public int getUnresolved() {
+        return unresolved;
+    }
+
+    /* Non-null if the log was cut short or corrupt */
+    public String getError() {
+        return error;
+    }
+
+    public void printReport(PrintStream out) {
+        double seconds = (lastPulse - firstPulse) / 1e9;
+        out.printf("replay: %d frames, %d events (%d unresolved), %d bytes in %.2f s%n",
+                frames, events, unresolved, log.getSize(), seconds);
+        out.printf("pulse interval ms: mean %.2f  p50 %.2f  p99 %.2f  max %.2f%n",
+                pulseIntervals.getMean() / 1e6, pulseIntervals.getPercentile(50) / 1e6,
+                pulseIntervals.getPercentile(99) / 1e6, pulseIntervals.getMax() / 1e6);
+        if (error != null) {
+            out.println("replay stopped early: " + error);
+        }
+    }
+
+    private void pulse(long now) {
+        if (firstPulse < 0) {
+            firstPulse = now;
+        } else {
+            pulseIntervals.record(now - lastPulse);
+        }
+        lastPulse = now;
+        try {
+            while (InputLog.hasMore(in)) {
+                int type = in.readUnsignedByte();
+                if (type == InputLog.FRAME) {
+                    frameTime += InputLog.readVarLong(in);
+                    frames++;
+                    return;
+                }
+                dispatch(type);
+                events++;
+            }
+        } catch (IOException | RuntimeException e) {
+            error = e.toString();
+        }
+        finish();
+    }
+
+    private void finish() {
+        driver.stop();
+        FixedStepLoop.useClock(LongUnaryOperator.identity());
+        onFinished.accept(this);
+    }
+
+    private void dispatch(int type) throws IOException {
+        EventTarget target = readTarget();
+        switch (type) {
+            case InputLog.KEY_PRESSED:
+            case InputLog.KEY_RELEASED:
+            case InputLog.KEY_TYPED:
+                fireKey(type, target);
+                break;
+            case InputLog.MOUSE_PRESSED:
+            case InputLog.MOUSE_RELEASED:
+            case InputLog.MOUSE_DRAGGED:
+            case InputLog.MOUSE_CLICKED:
+                fireMouse(type, target);
+                break;
+            default:
+                throw new IOException("Unknown record type " + type);
+        }
+    }
+
+    private void fireKey(int type, EventTarget target) throws IOException {
+        KeyCode code = KEY_CODES[InputLog.readVarInt(in)];
+        int mods = in.readUnsignedByte();
+        String chars = in.readUTF();
+        KeyEvent event;
+        if (type == InputLog.KEY_TYPED) {
+            event = new KeyEvent(null, target, KeyEvent.KEY_TYPED, chars, "", code,
+                    (mods & 1) != 0, (mods & 2) != 0, (mods & 4) != 0, (mods & 8) != 0);
+        } else {
+            EventType<KeyEvent> eventType = type == InputLog.KEY_PRESSED ? KeyEvent.KEY_PRESSED : KeyEvent.KEY_RELEASED;
+            event = new KeyEvent(null, target, eventType, KeyEvent.CHAR_UNDEFINED, chars, code,
+                    (mods & 1) != 0, (mods & 2) != 0, (mods & 4) != 0, (mods & 8) != 0);
+        }
+        Event.fireEvent(target, event);
+    }
+
+    private void fireMouse(int type, EventTarget target) throws IOException {
+        double x = in.readFloat();
+        double y = in.readFloat();
+        MouseButton button = BUTTONS[in.readUnsignedByte()];
+        int clickCount = InputLog.readVarInt(in);
+        int flags = in.readUnsignedByte();
+
+        EventType<MouseEvent> eventType;
+        switch (type) {
+            case InputLog.MOUSE_PRESSED:
+                eventType = MouseEvent.MOUSE_PRESSED;
+                break;
+            case InputLog.MOUSE_RELEASED:
+                eventType = MouseEvent.MOUSE_RELEASED;
+                break;
+            case InputLog.MOUSE_DRAGGED:
+                eventType = MouseEvent.MOUSE_DRAGGED;
+                break;
+            default:
+                eventType = MouseEvent.MOUSE_CLICKED;
+        }
+        Point2D scenePoint = target instanceof Node ? ((Node) target).localToScene(x, y) : new Point2D(x, y);
+        Scene scene = stage.getScene();
+        double screenX = scenePoint.getX() + scene.getX() + stage.getX();
+        double screenY = scenePoint.getY() + scene.getY() + stage.getY();
+        MouseEvent event = new MouseEvent(null, target, eventType, scenePoint.getX(), scenePoint.getY(),
+                screenX, screenY, button, clickCount,
+                (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, (flags & 8) != 0,
+                (flags & 16) != 0, (flags & 32) != 0, (flags & 64) != 0,
+                false, false, (flags & 128) != 0,
+                new PickResult(target, scenePoint.getX(), scenePoint.getY()));
+        Event.fireEvent(target, event);
+    }
+
+    /* Walks the recorded child indices down from the current scene's root */
+    private EventTarget readTarget() throws IOException {
+        int depth = InputLog.readVarInt(in) - 1;
+        Scene scene = stage.getScene();
+        if (depth < 0) {
+            return scene;
+        }
+        Node node = scene.getRoot();
+        boolean lost = false;
+        for (int i = 0; i < depth; i++) {
+            int index = InputLog.readVarInt(in);
+            if (lost) {
+                continue;
+            }
+            List<Node> children = node instanceof Parent ? ((Parent) node).getChildrenUnmodifiable() : List.of();
+            if (index < children.size()) {
+                node = children.get(index);
+            } else {
+                lost = true;
+            }
+        }
+        if (lost) {
+            unresolved++;
+        }
+        return node;
+    }
+}
@@ -0,0 +1,80 @@
+package portfolio.scene;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.LongUnaryOperator;
+
+/*
+ * ⏱️ Fixed Step Loop
+ *   AnimationTimer that advances a simulation in fixed steps whatever the display
+ *   rate (60-144 Hz or an uneven pulse), then renders with the leftover fraction of
+ *   a step so motion stays smooth. Long stalls are clamped so the simulation never
+ *   tries to catch up on seconds of missed steps.
+ *
+ *   Frame times come from a shared clock: the pulse timestamp, unless a replay
+ *   substitutes the recorded frame times so every loop steps exactly as it did
+ *   while the input was recorded.
+ */
+public class FixedStepLoop extends AnimationTimer {
+
+    public interface Simulation {
+        void step(double dt);
+
+        /* alpha: how far (0..1) the display time is between the last two steps */
+        void render(double alpha);
+    }
+
+    private static final double MAX_FRAME = 0.25;
+    private static final int MAX_STEPS_PER_FRAME = 16;
+
+    private static LongUnaryOperator clock = LongUnaryOperator.identity();
+
+    private final Simulation simulation;
+    private final double step;
+    private long last = -1;
+    private double accumulator;
+
+    public FixedStepLoop(double step, Simulation simulation) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("step must be positive");
+        }
+        this.step = step;
+        this.simulation = simulation;
+    }
+
+    /* Maps pulse timestamps to simulation frame times for every loop (FX thread only) */
+    public static void useClock(LongUnaryOperator frameClock) {
+        clock = frameClock;
+    }
+
+    @Override
+    public void start() {
+        // Don't count the time the loop was stopped as time to simulate
+        last = -1;
+        accumulator = 0;
+        super.start();
+    }
+
+    @Override
+    public void handle(long pulse) {
+        long now = clock.applyAsLong(pulse);
+        if (last < 0) {
+            last = now;
+            simulation.render(1);
+            return;
+        }
+        double frame = Math.min((now - last) / 1e9, MAX_FRAME);
+        last = now;
+        accumulator += frame;
+        int steps = 0;
+        while (accumulator >= step && steps < MAX_STEPS_PER_FRAME) {
+            simulation.step(step);
+            accumulator -= step;
+            steps++;
+        }
+        if (steps == MAX_STEPS_PER_FRAME) {
+            accumulator = Math.min(accumulator, step);
+        }
+        simulation.render(accumulator / step);
+    }
+}
@@ -0,0 +1,47 @@
+package portfolio.scene;
+
+import javafx.scene.Node;
+
+/*
+ * 🌗 Frame Fade
+ *   Opacity fade that runs on FixedStepLoop's frame clock instead of the animation
+ *   clock, so it ends on the same frame in a replay as it did when recorded.
+ */
+public final class FrameFade {
+
+    private static final double STEP = 1.0 / 120;
+
+    private FrameFade() {
+    }
+
+    /* Fades node from one opacity to another over seconds, then runs onFinished */
+    public static void play(Node node, double from, double to, double seconds, Runnable onFinished) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("seconds must be positive");
+        }
+        node.setOpacity(from);
+        double[] elapsed = {0};
+        FixedStepLoop[] loop = new FixedStepLoop[1];
+        loop[0] = new FixedStepLoop(STEP, new FixedStepLoop.Simulation() {
+            @Override
+            public void step(double dt) {
+                elapsed[0] += dt;
+            }
+
+            @Override
+            public void render(double alpha) {
+                double t = Math.min(1, (elapsed[0] + alpha * STEP) / seconds);
+                if (elapsed[0] >= seconds) {
+                    loop[0].stop();
+                    node.setOpacity(to);
+                    if (onFinished != null) {
+                        onFinished.run();
+                    }
+                    return;
+                }
+                node.setOpacity(from + (to - from) * t);
+            }
+        });
+        loop[0].start();
+    }
+}
@@ -0,0 +1,340 @@
+package portfolio.scene;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.effect.Effect;
+import javafx.util.Duration;
+import portfolio.theme.ThemeManager;
+
+import java.io.PrintStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * 🎚️ Quality Governor
+ *   Watches how far apart the shown scene's pulses are and trades looks for frame
+ *   rate when they run over budget, mostly for kiosks on the software pipeline. Each
+ *   tier keeps everything the one above it gave up:
+ *
+ *     FULL      everything on
+ *     NO_GLOW   glow effects off
+ *     FLAT      gradient backgrounds become flat colours (ThemeManager's flat sheet)
+ *     CALM      decorative animations move on every fourth pulse (15 a second at 60 Hz)
+ *     STILL     decorations hold still, wheels and balls stop spinning
+ *
+ *   Frames are judged a window (WINDOW frames) at a time. A window with a tenth of its
+ *   frames over budget steps down one tier. Stepping up is a probe: only after a run
+ *   of windows with (almost) no slow frames, and every probe of a tier that fails
+ *   doubles the run needed before that tier is tried again, so a scene that sits on
+ *   the edge does not flap between two tiers. Gaps longer than IDLE_NANOS are a scene
+ *   that went still (no pulses are requested), not a slow frame, and are skipped.
+ *
+ *   -Dsushmafx.quality=<tier> pins a tier (off pins FULL), -Dsushmafx.quality.budget
+ *   is the frame budget in ms (25 by default: anything that missed a 60 Hz vsync).
+ *   Every tier change is printed to System.out. Nodes can be registered before the
+ *   ThemeManager exists; gradients follow the tier once styleWith() hands it over.
+ *   Must only be used from the FX application thread.
+ */
+public final class QualityGovernor {
+
+    public enum Tier { FULL, NO_GLOW, FLAT, CALM, STILL }
+
+    private static final int WINDOW = 60;
+    // Slow frames in a window that step down, and at most this many to count towards stepping up
+    private static final int DOWN_SLOW = WINDOW / 10;
+    private static final int UP_SLOW = 1;
+    // Quiet windows before the first probe of a tier, and the most a failed probe can push that to
+    private static final int UP_WINDOWS = 5;
+    private static final int MAX_UP_WINDOWS = 160;
+    private static final long IDLE_NANOS = 250_000_000L;
+    private static final int CALM_PULSES = 4;
+
+    private final long budgetNanos;
+    private final boolean pinned;
+    private final PrintStream log;
+    private final long[] window = new long[WINDOW];
+    // Quiet windows needed before probing each tier, by ordinal
+    private final int[] upWindows = new int[Tier.values().length];
+    private final List<Glow> glows = new ArrayList<>();
+    private final List<Decoration> decorations = new ArrayList<>();
+    private final Runnable pulse = this::pulse;
+    private final CalmTimer calmTimer = new CalmTimer();
+
+    private ThemeManager themes;
+    private Tier tier;
+    private String sceneKey;
+    private Scene scene;
+    private int frames;
+    private long lastPulse;
+    private int quietWindows;
+    private Tier probing;
+
+    QualityGovernor(Tier tier, boolean pinned, long budgetNanos, PrintStream log) {
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("budget must be positive");
+        }
+        this.tier = tier;
+        this.pinned = pinned;
+        this.budgetNanos = budgetNanos;
+        this.log = log;
+        Arrays.fill(upWindows, UP_WINDOWS);
+    }
+
+    /* Governor set up from the sushmafx.quality* system properties */
+    public static QualityGovernor fromProperties() {
+        String mode = System.getProperty("sushmafx.quality", "auto");
+        double budgetMs = Double.parseDouble(System.getProperty("sushmafx.quality.budget", "25"));
+        Tier tier = Tier.FULL;
+        boolean pinned = !mode.equals("auto");
+        if (pinned && !mode.equals("off")) {
+            try {
+                tier = Tier.valueOf(mode.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown quality tier '" + mode + "', adapting from FULL");
+                pinned = false;
+            }
+        }
+        return new QualityGovernor(tier, pinned, Math.round(budgetMs * 1_000_000), System.out);
+    }
+
+    /* Flattens themes' gradients whenever the tier calls for it, starting now */
+    public void styleWith(ThemeManager themes) {
+        this.themes = themes;
+        themes.setFlat(tier.compareTo(Tier.FLAT) >= 0);
+    }
+
+    /* Judges the pulses of scene from now on; key only names it in the log */
+    public void sceneShown(String key, Scene scene) {
+        if (this.scene != null) {
+            this.scene.removePostLayoutPulseListener(pulse);
+        }
+        this.sceneKey = key;
+        this.scene = scene;
+        // The switch itself (and the new scene's first layout) is not the new scene's fault
+        frames = 0;
+        lastPulse = 0;
+        if (!pinned) {
+            scene.addPostLayoutPulseListener(pulse);
+        }
+        updateDecorations();
+    }
+
+    /* node's effect is dropped from NO_GLOW down and put back above it */
+    public void glow(Node node) {
+        Glow glow = new Glow(node);
+        glows.add(glow);
+        glow.apply(tier);
+    }
+
+    /*
+     * An endlessly repeating animation that is only there for looks: moved on every
+     * fourth pulse from CALM down and paused at STILL. node is what it animates,
+     * so it is only driven while node's scene is on screen. Register it once it plays.
+     */
+    public void decorate(Node node, Animation animation) {
+        if (animation.getCycleCount() != Animation.INDEFINITE) {
+            throw new IllegalArgumentException("Only endlessly repeating animations can be decorations");
+        }
+        decorations.add(new Decoration(node, animation));
+        updateDecorations();
+    }
+
+    /* Whether wheels and balls should show their spin */
+    public boolean allowsSpin() {
+        return tier.compareTo(Tier.STILL) < 0;
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    private void pulse() {
+        long now = System.nanoTime();
+        long interval = now - lastPulse;
+        lastPulse = now;
+        if (interval > IDLE_NANOS) {
+            return;
+        }
+        window[frames++] = interval;
+        if (frames == WINDOW) {
+            frames = 0;
+            judge();
+        }
+    }
+
+    private void judge() {
+        int slow = 0;
+        for (long interval : window) {
+            if (interval > budgetNanos) {
+                slow++;
+            }
+        }
+        if (slow >= DOWN_SLOW) {
+            quietWindows = 0;
+            if (probing != null) {
+                // The tier we just came up to could not hold the budget: wait longer before the next try
+                upWindows[probing.ordinal()] = Math.min(upWindows[probing.ordinal()] * 2, MAX_UP_WINDOWS);
+                probing = null;
+            }
+            if (tier.ordinal() < Tier.values().length - 1) {
+                change(Tier.values()[tier.ordinal() + 1], slow);
+            }
+            return;
+        }
+        if (slow > UP_SLOW) {
+            quietWindows = 0;
+            return;
+        }
+        quietWindows++;
+        if (probing != null && quietWindows >= UP_WINDOWS) {
+            // The probe held: the next failure there starts from scratch
+            upWindows[probing.ordinal()] = UP_WINDOWS;
+            probing = null;
+        }
+        if (tier != Tier.FULL && quietWindows >= upWindows[tier.ordinal() - 1]) {
+            quietWindows = 0;
+            probing = Tier.values()[tier.ordinal() - 1];
+            change(probing, slow);
+        }
+    }
+
+    private void change(Tier next, int slow) {
+        long[] sorted = window.clone();
+        Arrays.sort(sorted);
+        log.printf(Locale.ROOT, "quality: %s -> %s in %s (%d/%d frames over %.1f ms, p90 %.1f ms, max %.1f ms)%n",
+                tier, next, sceneKey, slow, WINDOW, budgetNanos / 1e6,
+                sorted[WINDOW * 9 / 10] / 1e6, sorted[WINDOW - 1] / 1e6);
+        tier = next;
+        for (Iterator<Glow> it = glows.iterator(); it.hasNext(); ) {
+            if (!it.next().apply(tier)) {
+                it.remove();
+            }
+        }
+        if (themes != null) {
+            themes.setFlat(tier.compareTo(Tier.FLAT) >= 0);
+        }
+        updateDecorations();
+    }
+
+    /*
+     * Brings every decoration in line with the tier: running normally above CALM,
+     * paused and stepped by the calm timer at CALM, paused at STILL. Decorations of
+     * scenes that are not shown are left as the scene registry paused them.
+     */
+    private void updateDecorations() {
+        boolean calm = false;
+        for (Iterator<Decoration> it = decorations.iterator(); it.hasNext(); ) {
+            Decoration d = it.next();
+            Node node = d.node.get();
+            if (node == null || d.animation.getStatus() == Animation.Status.STOPPED) {
+                // Its scene was evicted (or the animation was stopped for good)
+                it.remove();
+                continue;
+            }
+            boolean shown = scene != null && node.getScene() == scene;
+            if (tier.compareTo(Tier.CALM) < 0) {
+                if (d.held && shown) {
+                    d.held = false;
+                    d.animation.play();
+                }
+            } else if (!d.held && d.animation.getStatus() == Animation.Status.RUNNING) {
+                d.hold();
+            }
+            calm |= d.held && shown && tier == Tier.CALM;
+        }
+        if (calm) {
+            calmTimer.start();
+        } else {
+            calmTimer.stop();
+            calmTimer.last = 0;
+            calmTimer.pulses = 0;
+        }
+    }
+
+    /* A node with the effect it had when registered, held weakly */
+    private static final class Glow {
+        final WeakReference<Node> node;
+        final Effect effect;
+
+        Glow(Node node) {
+            this.node = new WeakReference<>(node);
+            this.effect = node.getEffect();
+        }
+
+        /* false once the node is gone */
+        boolean apply(Tier tier) {
+            Node n = node.get();
+            if (n == null) {
+                return false;
+            }
+            n.setEffect(tier.compareTo(Tier.NO_GLOW) >= 0 ? null : effect);
+            return true;
+        }
+    }
+
+    /*
+     * A decoration paused by the governor (held) keeps its own play head so the calm
+     * timer can step it: time into a forward + backward pair of cycles when it auto
+     * reverses, into one cycle otherwise, which is how jumpTo wraps endless animations.
+     */
+    private static final class Decoration {
+        final WeakReference<Node> node;
+        final Animation animation;
+        boolean held;
+        double position;
+
+        Decoration(Node node, Animation animation) {
+            this.node = new WeakReference<>(node);
+            this.animation = animation;
+        }
+
+        void hold() {
+            double cycle = animation.getCycleDuration().toMillis();
+            double t = animation.getCurrentTime().toMillis();
+            position = animation.isAutoReverse() && animation.getCurrentRate() < 0 ? 2 * cycle - t : t;
+            animation.pause();
+            held = true;
+        }
+
+        void advance(double millis) {
+            double cycle = animation.getCycleDuration().toMillis();
+            double period = animation.isAutoReverse() ? 2 * cycle : cycle;
+            if (period <= 0) {
+                return;
+            }
+            position = (position + millis * Math.abs(animation.getRate())) % period;
+            animation.jumpTo(Duration.millis(position));
+        }
+    }
+
+    private final class CalmTimer extends AnimationTimer {
+        long last;
+        int pulses;
+
+        @Override
+        public void handle(long now) {
+            if (last == 0) {
+                last = now;
+                return;
+            }
+            if (++pulses < CALM_PULSES) {
+                return;
+            }
+            pulses = 0;
+            double millis = (now - last) / 1e6;
+            last = now;
+            for (Decoration d : decorations) {
+                Node node = d.node.get();
+                if (d.held && node != null && node.getScene() == scene) {
+                    d.advance(millis);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package portfolio.scene;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.image.ImageView;
+import javafx.scene.shape.Shape;
+import javafx.stage.Stage;
+
+import java.io.PrintStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/*
+ * 🧊 Render Cache
+ *   Decides, frame by frame, which watched subtrees are drawn from a cached bitmap.
+ *   A subtree that is only moving, rotating, scaling or fading is cached with the
+ *   matching CacheHint, so the software pipeline blits it instead of rasterising its
+ *   shapes and effects again. A subtree whose content changes is re-rasterised (a
+ *   miss); one that changes content on most of its frames stops being cached until it
+ *   settles, and one that stops moving is uncached after IDLE_FRAMES to free the bitmap.
+ *
+ *   Content means the subtree's geometry, paint, effects, clips, child transforms and
+ *   child lists as they were wired at watch() time. Nodes are held weakly, so evicted
+ *   scenes are not kept alive. Decisions ride on the shown scene's pulses rather than
+ *   a timer of their own, so a still scene is not kept pulsing just to be watched.
+ *   Must only be used from the FX application thread.
+ */
+public final class RenderCache {
+
+    private static final int IDLE_FRAMES = 30;
+    // Of the last 8 frames that drew the node, this many content changes mean "don't cache"
+    private static final int THRASH = 4;
+    private static final int COOLDOWN_FRAMES = 60;
+
+    private final List<Watched> watched = new ArrayList<>();
+    private final Runnable pulse = this::update;
+
+    /* Decides once per pulse of whatever scene stage is showing; nodes may be watched before or after */
+    public void attach(Stage stage) {
+        stage.sceneProperty().addListener((obs, was, now) -> {
+            if (was != null) {
+                was.removePostLayoutPulseListener(pulse);
+            }
+            if (now != null) {
+                now.addPostLayoutPulseListener(pulse);
+            }
+        });
+        Scene scene = stage.getScene();
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(pulse);
+        }
+    }
+
+    /* Watches node (and the subtree below it as it is now) for caching */
+    public void watch(String name, Node node) {
+        Watched w = new Watched(name, node);
+        InvalidationListener moved = obs -> w.moved = true;
+        node.translateXProperty().addListener(moved);
+        node.translateYProperty().addListener(moved);
+        node.layoutXProperty().addListener(moved);
+        node.layoutYProperty().addListener(moved);
+        node.opacityProperty().addListener(moved);
+        node.rotateProperty().addListener(obs -> w.rotated = true);
+        node.scaleXProperty().addListener(obs -> w.scaled = true);
+        node.scaleYProperty().addListener(obs -> w.scaled = true);
+        listenForContent(node, true, obs -> w.changed = true);
+        watched.add(w);
+    }
+
+    /* One frame's decisions; attach() calls this every pulse, benchmarks call it directly */
+    public void update() {
+        Iterator<Watched> it = watched.iterator();
+        while (it.hasNext()) {
+            Watched w = it.next();
+            Node node = w.node.get();
+            if (node == null) {
+                it.remove();
+                continue;
+            }
+            if (node.getScene() == null || node.getScene().getWindow() == null) {
+                // Not on screen: nothing is drawn, keep the state for when it comes back
+                w.clearFlags();
+                continue;
+            }
+            w.decide(node);
+        }
+    }
+
+    public void printReport(PrintStream out) {
+        out.println("cached node       state    drawn   hits  misses  cached  thrashed");
+        for (Watched w : watched) {
+            out.printf("%-16s %-8s %6d %6d %7d %7d %9d%n", w.name, w.cached ? w.hint : "off",
+                    w.drawn, w.hits, w.misses, w.enabled, w.thrashed);
+        }
+    }
+
+    private static void listenForContent(Node node, boolean root, InvalidationListener changed) {
+        if (!root) {
+            // A child moving is a change of the parent's picture
+            node.translateXProperty().addListener(changed);
+            node.translateYProperty().addListener(changed);
+            node.rotateProperty().addListener(changed);
+            node.scaleXProperty().addListener(changed);
+            node.scaleYProperty().addListener(changed);
+            node.opacityProperty().addListener(changed);
+            node.visibleProperty().addListener(changed);
+            node.layoutBoundsProperty().addListener(changed);
+        }
+        node.effectProperty().addListener(changed);
+        node.clipProperty().addListener(changed);
+        if (node instanceof Shape) {
+            Shape shape = (Shape) node;
+            shape.fillProperty().addListener(changed);
+            shape.strokeProperty().addListener(changed);
+            shape.strokeWidthProperty().addListener(changed);
+        }
+        if (node instanceof ImageView) {
+            ((ImageView) node).imageProperty().addListener(changed);
+        }
+        if (node instanceof Parent) {
+            Parent parent = (Parent) node;
+            parent.getChildrenUnmodifiable().addListener((ListChangeListener<Node>) c -> changed.invalidated(null));
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                listenForContent(child, false, changed);
+            }
+        }
+    }
+
+    private static final class Watched {
+        final String name;
+        final WeakReference<Node> node;
+        boolean moved;
+        boolean rotated;
+        boolean scaled;
+        boolean changed;
+
+        boolean cached;
+        CacheHint hint = CacheHint.DEFAULT;
+        int idle;
+        int cooldown;
+        // One bit per frame the node was drawn, set when its content changed
+        int recent;
+
+        long drawn;
+        long hits;
+        long misses;
+        long enabled;
+        long thrashed;
+
+        Watched(String name, Node node) {
+            this.name = name;
+            this.node = new WeakReference<>(node);
+        }
+
+        void decide(Node node) {
+            boolean moving = moved || rotated || scaled;
+            boolean dirty = moving || changed;
+            if (dirty) {
+                drawn++;
+                recent = ((recent << 1) | (changed ? 1 : 0)) & 0xFF;
+                idle = 0;
+                if (cached) {
+                    if (changed) {
+                        misses++;
+                    } else {
+                        hits++;
+                    }
+                }
+            } else {
+                idle++;
+            }
+            if (cooldown > 0) {
+                cooldown--;
+            }
+
+            if (cached && Integer.bitCount(recent) >= THRASH) {
+                uncache(node);
+                cooldown = COOLDOWN_FRAMES;
+                thrashed++;
+            } else if (cached && idle > IDLE_FRAMES) {
+                uncache(node);
+            } else if (moving && cooldown == 0 && Integer.bitCount(recent) < THRASH) {
+                CacheHint wanted = hintFor(rotated || hint == CacheHint.ROTATE || hint == CacheHint.SCALE_AND_ROTATE,
+                        scaled || hint == CacheHint.SCALE || hint == CacheHint.SCALE_AND_ROTATE);
+                if (!cached || wanted != hint) {
+                    hint = wanted;
+                    node.setCacheHint(hint);
+                    if (!cached) {
+                        node.setCache(true);
+                        cached = true;
+                        enabled++;
+                    }
+                }
+            }
+            clearFlags();
+        }
+
+        void uncache(Node node) {
+            node.setCache(false);
+            node.setCacheHint(CacheHint.DEFAULT);
+            cached = false;
+            hint = CacheHint.DEFAULT;
+        }
+
+        void clearFlags() {
+            moved = false;
+            rotated = false;
+            scaled = false;
+            changed = false;
+        }
+
+        /* DEFAULT already reuses the bitmap for translation and opacity */
+        static CacheHint hintFor(boolean rotating, boolean scaling) {
+            if (rotating && scaling) {
+                return CacheHint.SCALE_AND_ROTATE;
+            }
+            if (rotating) {
+                return CacheHint.ROTATE;
+            }
+            return scaling ? CacheHint.SCALE : CacheHint.DEFAULT;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package portfolio.scene;
+
+import javafx.geometry.Pos;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * 🛠️ Scene Compiler
+ *   Turns a scene descriptor (portfolio/scene/*.scene) into the binary form
+ *   SceneLoader instantiates. All the parsing, name lookups and validation happen
+ *   here, at build time: the output is a tree of type and property codes with the
+ *   strings, colours and fonts pooled into tables, so loading it is a straight read.
+ *
+ *   A descriptor is an indented tree, two spaces per level:
+ *     # comment
+ *     BorderPane styleClass=menu-root          a node: Type, then key=value pairs
+ *       top:                                   a BorderPane slot, holding one node
+ *         VBox spacing=10 alignment=CENTER
+ *           Text id=title font="Verdana bold 40" fill=cyan
+ *             text="first line\n"              more properties of the node above
+ *               "second line"                  a string continued on the next line
+ *   Values with spaces are quoted ("\n", "\"" and "\\" are escapes). Colours are
+ *   anything Color.web reads, fonts are "Family [bold] [italic] size", insets are one
+ *   number or top right bottom left, and effect is "glow <level>". The node with
+ *   id=name can be looked up after loading to wire up behaviour.
+ *
+ *   Usage: java portfolio.scene.SceneCompiler <descriptor dir> <output dir>
+ *   (run by the Maven build; compiles every .scene into a .bin of the same name)
+ */
+public final class SceneCompiler {
+
+    private final String source;
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final Map<Integer, Integer> colors = new LinkedHashMap<>();
+    private final Map<String, Integer> fonts = new LinkedHashMap<>();
+    private final List<Object[]> fontEntries = new ArrayList<>();
+
+    private SceneCompiler(String source) {
+        this.source = source;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: java portfolio.scene.SceneCompiler <descriptor dir> <output dir>");
+            System.exit(2);
+        }
+        Path in = Paths.get(args[0]);
+        Path out = Paths.get(args[1]);
+        Files.createDirectories(out);
+        int compiled = 0;
+        try (DirectoryStream<Path> descriptors = Files.newDirectoryStream(in, "*.scene")) {
+            for (Path file : descriptors) {
+                String name = file.getFileName().toString();
+                byte[] binary = compile(Files.readAllLines(file, StandardCharsets.UTF_8), file.toString());
+                Files.write(out.resolve(name.substring(0, name.length() - ".scene".length()) + ".bin"), binary);
+                compiled++;
+            }
+        }
+        System.out.println("Compiled " + compiled + " scene descriptor(s) into " + out);
+    }
+
+    /* Compiles descriptor lines; errors are IOExceptions naming source and line */
+    public static byte[] compile(List<String> lines, String source) throws IOException {
+        SceneCompiler compiler = new SceneCompiler(source);
+        Element root = compiler.parse(lines);
+        return compiler.write(root);
+    }
+
+    private Element parse(List<String> lines) throws IOException {
+        // Open nodes and their indentation, innermost last
+        List<Element> open = new ArrayList<>();
+        List<Integer> indents = new ArrayList<>();
+        Element root = null;
+        int lastProperty = -1;
+        // A slot line names where the next node inside its BorderPane goes
+        String slot = null;
+        int slotIndent = -1;
+        Element slotOwner = null;
+
+        for (int i = 0; i < lines.size(); i++) {
+            int lineNo = i + 1;
+            String raw = lines.get(i);
+            String line = raw.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                int indent = indentOf(raw);
+                if (line.startsWith("\"")) {
+                    // Continues the string value that ended the previous line
+                    Element owner = open.isEmpty() ? null : open.get(open.size() - 1);
+                    if (owner == null || lastProperty < 0 || SceneFormat.KINDS[lastProperty] != SceneFormat.STRING
+                            || indent <= indents.get(indents.size() - 1)) {
+                        throw new IllegalArgumentException("continued string without a string property above");
+                    }
+                    for (String t : tokenize(line)) {
+                        if (!t.startsWith("\"")) {
+                            throw new IllegalArgumentException("only strings can continue a value");
+                        }
+                        owner.appendString(lastProperty, unquote(t));
+                    }
+                    continue;
+                }
+
+                while (!indents.isEmpty() && indents.get(indents.size() - 1) >= indent) {
+                    open.remove(open.size() - 1);
+                    indents.remove(indents.size() - 1);
+                }
+                Element parent = open.isEmpty() ? null : open.get(open.size() - 1);
+                lastProperty = -1;
+
+                if (!Character.isUpperCase(line.charAt(0)) && line.endsWith(":") && line.indexOf(' ') < 0) {
+                    if (parent == null || parent.type != SceneFormat.BORDER_PANE) {
+                        throw new IllegalArgumentException("slots only go directly inside a BorderPane");
+                    }
+                    if (slot != null) {
+                        throw new IllegalArgumentException("slot '" + slot + "' has no node");
+                    }
+                    slot = line.substring(0, line.length() - 1);
+                    if (SceneFormat.indexOf(SceneFormat.SLOTS, slot) < 1) {
+                        throw new IllegalArgumentException("unknown slot '" + slot + "'");
+                    }
+                    slotIndent = indent;
+                    slotOwner = parent;
+                    continue;
+                }
+
+                List<String> tokens = tokenize(line);
+                Element owner = parent;
+                if (Character.isUpperCase(line.charAt(0))) {
+                    int type = SceneFormat.indexOf(SceneFormat.TYPES, tokens.get(0));
+                    if (type < 0) {
+                        throw new IllegalArgumentException("unknown node type '" + tokens.get(0) + "'");
+                    }
+                    owner = new Element(type, lineNo);
+                    String in = null;
+                    if (slot != null) {
+                        if (parent != slotOwner || indent <= slotIndent) {
+                            throw new IllegalArgumentException("slot '" + slot + "' has no node");
+                        }
+                        in = slot;
+                        slot = null;
+                    }
+                    if (parent != null) {
+                        parent.add(owner, in);
+                    } else if (root == null) {
+                        root = owner;
+                    } else {
+                        throw new IllegalArgumentException("a descriptor has exactly one root node");
+                    }
+                    open.add(owner);
+                    indents.add(indent);
+                    tokens = tokens.subList(1, tokens.size());
+                } else if (owner == null) {
+                    throw new IllegalArgumentException("properties must be indented under their node");
+                }
+                for (String token : tokens) {
+                    lastProperty = property(owner, token);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException(source + ":" + lineNo + ": " + e.getMessage(), e);
+            }
+        }
+        if (root == null) {
+            throw new IOException(source + ": no root node");
+        }
+        if (slot != null) {
+            throw new IOException(source + ": slot '" + slot + "' has no node");
+        }
+        return root;
+    }
+
+    /* Parses key=value onto element and returns the property's code */
+    private int property(Element element, String token) {
+        int eq = token.indexOf('=');
+        if (eq <= 0) {
+            throw new IllegalArgumentException("expected key=value, got '" + token + "'");
+        }
+        String key = token.substring(0, eq);
+        String text = unquote(token.substring(eq + 1));
+        int code = SceneFormat.indexOf(SceneFormat.PROPERTIES, key);
+        if (code < 0) {
+            throw new IllegalArgumentException("unknown property '" + key + "'");
+        }
+        if ((SceneFormat.APPLIES[code] & (1 << element.type)) == 0) {
+            throw new IllegalArgumentException(SceneFormat.TYPES[element.type] + " has no property '" + key + "'");
+        }
+        if (code == SceneFormat.STYLE_CLASS) {
+            // Several classes become several properties
+            for (String styleClass : text.trim().split("\\s+")) {
+                element.set(code, styleClass, true);
+            }
+            return code;
+        }
+        Object value;
+        switch (SceneFormat.KINDS[code]) {
+            case SceneFormat.STRING:
+                value = text;
+                break;
+            case SceneFormat.NUMBER:
+                value = number(text);
+                break;
+            case SceneFormat.BOOLEAN:
+                if (!text.equals("true") && !text.equals("false")) {
+                    throw new IllegalArgumentException(key + " must be true or false");
+                }
+                value = Boolean.valueOf(text);
+                break;
+            case SceneFormat.COLOR:
+                value = color(text);
+                break;
+            case SceneFormat.FONT:
+                value = font(text);
+                break;
+            case SceneFormat.INSETS:
+                value = insets(text);
+                break;
+            case SceneFormat.POS:
+                value = Pos.valueOf(text.toUpperCase(Locale.ROOT)).ordinal();
+                break;
+            case SceneFormat.TEXT_ALIGNMENT:
+                value = TextAlignment.valueOf(text.toUpperCase(Locale.ROOT)).ordinal();
+                break;
+            case SceneFormat.GLOW:
+                String[] parts = text.trim().split("\\s+");
+                if (parts.length != 2 || !parts[0].equals("glow")) {
+                    throw new IllegalArgumentException("effect must be \"glow <level>\"");
+                }
+                value = number(parts[1]);
+                break;
+            default:
+                throw new IllegalStateException("No value kind " + SceneFormat.KINDS[code]);
+        }
+        element.set(code, value, false);
+        return code;
+    }
+
+    private byte[] write(Element root) throws IOException {
+        // Pool first so the tables can go in front of the tree
+        pool(root);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(SceneFormat.MAGIC);
+        out.writeShort(SceneFormat.VERSION);
+        out.writeShort(strings.size());
+        for (String s : strings.keySet()) {
+            out.writeUTF(s);
+        }
+        out.writeShort(colors.size());
+        for (int rgba : colors.keySet()) {
+            out.writeInt(rgba);
+        }
+        out.writeShort(fontEntries.size());
+        for (Object[] f : fontEntries) {
+            out.writeShort(strings.get((String) f[0]));
+            out.writeByte((Boolean) f[1] ? 1 : 0);
+            out.writeByte((Boolean) f[2] ? 1 : 0);
+            out.writeDouble((Double) f[3]);
+        }
+        writeElement(root, -1, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void pool(Element e) {
+        for (int p = 0; p < e.codes.size(); p++) {
+            Object value = e.values.get(p);
+            switch (SceneFormat.KINDS[e.codes.get(p)]) {
+                case SceneFormat.STRING:
+                    strings.putIfAbsent((String) value, strings.size());
+                    break;
+                case SceneFormat.COLOR:
+                    colors.putIfAbsent((Integer) value, colors.size());
+                    break;
+                case SceneFormat.FONT:
+                    Object[] f = (Object[]) value;
+                    String key = f[0] + "/" + f[1] + "/" + f[2] + "/" + f[3];
+                    if (!fonts.containsKey(key)) {
+                        strings.putIfAbsent((String) f[0], strings.size());
+                        fonts.put(key, fontEntries.size());
+                        fontEntries.add(f);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        for (Element child : e.children) {
+            pool(child);
+        }
+        if (strings.size() > Short.MAX_VALUE || colors.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException(source + ": too many distinct values");
+        }
+    }
+
+    private void writeElement(Element e, int parentType, DataOutputStream out) throws IOException {
+        if (e.codes.contains(SceneFormat.MARGIN) && (parentType < 0 || parentType == SceneFormat.SCROLL_PANE)) {
+            throw new IOException(source + ":" + e.line + ": margin needs a pane around the node");
+        }
+        if (e.codes.size() > SceneFormat.MAX_COUNT || e.children.size() > SceneFormat.MAX_COUNT) {
+            throw new IOException(source + ":" + e.line + ": more than " + SceneFormat.MAX_COUNT
+                    + " properties or children");
+        }
+        out.writeByte(e.type);
+        out.writeShort(e.codes.size());
+        for (int p = 0; p < e.codes.size(); p++) {
+            int code = e.codes.get(p);
+            Object value = e.values.get(p);
+            out.writeByte(code);
+            switch (SceneFormat.KINDS[code]) {
+                case SceneFormat.STRING:
+                    out.writeShort(strings.get((String) value));
+                    break;
+                case SceneFormat.NUMBER:
+                case SceneFormat.GLOW:
+                    out.writeDouble((Double) value);
+                    break;
+                case SceneFormat.BOOLEAN:
+                    out.writeByte((Boolean) value ? 1 : 0);
+                    break;
+                case SceneFormat.COLOR:
+                    out.writeShort(colors.get((Integer) value));
+                    break;
+                case SceneFormat.FONT:
+                    Object[] f = (Object[]) value;
+                    out.writeShort(fonts.get(f[0] + "/" + f[1] + "/" + f[2] + "/" + f[3]));
+                    break;
+                case SceneFormat.INSETS:
+                    for (double d : (double[]) value) {
+                        out.writeDouble(d);
+                    }
+                    break;
+                default:
+                    out.writeByte((Integer) value);
+            }
+        }
+        out.writeShort(e.children.size());
+        for (int c = 0; c < e.children.size(); c++) {
+            out.writeByte(e.slots.get(c));
+            writeElement(e.children.get(c), e.type, out);
+        }
+    }
+
+    private static int indentOf(String raw) {
+        int n = 0;
+        while (n < raw.length() && raw.charAt(n) == ' ') {
+            n++;
+        }
+        if (n < raw.length() && raw.charAt(n) == '\t') {
+            throw new IllegalArgumentException("indent with spaces, not tabs");
+        }
+        return n;
+    }
+
+    /* Splits on spaces outside double quotes, keeping the quotes */
+    private static List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted && c == '\\' && i + 1 < line.length()) {
+                current.append(c).append(line.charAt(++i));
+            } else if (c == '"') {
+                quoted = !quoted;
+                current.append(c);
+            } else if (c == ' ' && !quoted) {
+                if (current.length() > 0) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated string");
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static String unquote(String value) {
+        if (!value.startsWith("\"")) {
+            return value;
+        }
+        if (value.length() < 2 || !value.endsWith("\"")) {
+            throw new IllegalArgumentException("text after a closing quote: " + value);
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 1; i < value.length() - 1; i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                char next = value.charAt(++i);
+                if (next == 'n') {
+                    sb.append('\n');
+                } else if (next == '"' || next == '\\') {
+                    sb.append(next);
+                } else {
+                    throw new IllegalArgumentException("unknown escape \\" + next);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Double number(String text) {
+        try {
+            return Double.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: '" + text + "'");
+        }
+    }
+
+    private static Integer color(String text) {
+        Color c = Color.web(text);
+        return (int) Math.round(c.getRed() * 255) << 24
+                | (int) Math.round(c.getGreen() * 255) << 16
+                | (int) Math.round(c.getBlue() * 255) << 8
+                | (int) Math.round(c.getOpacity() * 255);
+    }
+
+    /* "Family [bold] [italic] size" as {family, bold, italic, size} */
+    private static Object[] font(String text) {
+        String[] parts = text.trim().split("\\s+");
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("font must be \"Family [bold] [italic] size\"");
+        }
+        Double size = number(parts[parts.length - 1]);
+        boolean bold = false;
+        boolean italic = false;
+        StringBuilder family = new StringBuilder();
+        for (int i = 0; i < parts.length - 1; i++) {
+            if (parts[i].equalsIgnoreCase("bold")) {
+                bold = true;
+            } else if (parts[i].equalsIgnoreCase("italic")) {
+                italic = true;
+            } else {
+                if (family.length() > 0) {
+                    family.append(' ');
+                }
+                family.append(parts[i]);
+            }
+        }
+        if (family.length() == 0) {
+            throw new IllegalArgumentException("font has no family");
+        }
+        return new Object[] {family.toString(), bold, italic, size};
+    }
+
+    private static double[] insets(String text) {
+        String[] parts = text.trim().split("\\s+");
+        if (parts.length == 1) {
+            double all = number(parts[0]);
+            return new double[] {all, all, all, all};
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("insets are one number or top right bottom left");
+        }
+        double[] values = new double[4];
+        for (int i = 0; i < 4; i++) {
+            values[i] = number(parts[i]);
+        }
+        return values;
+    }
+
+    /* One node of the descriptor while it is being parsed */
+    private static final class Element {
+        final int type;
+        final int line;
+        final List<Integer> codes = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        final List<Element> children = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+
+        Element(int type, int line) {
+            this.type = type;
+            this.line = line;
+        }
+
+        void set(int code, Object value, boolean repeatable) {
+            if (!repeatable && codes.contains(code)) {
+                throw new IllegalArgumentException(SceneFormat.PROPERTIES[code] + " is set twice");
+            }
+            codes.add(code);
+            values.add(value);
+        }
+
+        void appendString(int code, String more) {
+            int at = codes.lastIndexOf(code);
+            values.set(at, (String) values.get(at) + more);
+        }
+
+        void add(Element child, String slotName) {
+            int max = SceneFormat.maxChildren(type);
+            if (max == 0) {
+                throw new IllegalArgumentException(SceneFormat.TYPES[type] + " cannot have children");
+            }
+            int slot = SceneFormat.IN_ORDER;
+            if (type == SceneFormat.BORDER_PANE) {
+                if (slotName == null) {
+                    throw new IllegalArgumentException("BorderPane children go in a slot (top:, center:, ...)");
+                }
+                slot = SceneFormat.indexOf(SceneFormat.SLOTS, slotName);
+                if (slots.contains(slot)) {
+                    throw new IllegalArgumentException("slot '" + slotName + "' is already filled");
+                }
+            } else if (slotName != null) {
+                throw new IllegalArgumentException("slots only go directly inside a BorderPane");
+            }
+            if (max > 0 && children.size() == max) {
+                throw new IllegalArgumentException(SceneFormat.TYPES[type] + " takes at most " + max + " child");
+            }
+            children.add(child);
+            slots.add(slot);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package portfolio.scene;
+
+/*
+ * 📐 Scene Format
+ *   Vocabulary shared by SceneCompiler and SceneLoader: the node types a scene
+ *   descriptor may use, their properties and the kind of value each one takes. The
+ *   position of a name in these tables is its code in the binary form, so entries are
+ *   only ever appended (and VERSION bumped when a layout changes).
+ *
+ *   Binary layout (big-endian, DataOutput):
+ *     int MAGIC, short VERSION
+ *     short n, n strings (writeUTF)
+ *     short n, n colours (int RGBA)
+ *     short n, n fonts (short family string, byte bold, byte italic, double size)
+ *     root node: byte type, short n, n properties (byte code, value),
+ *                short n, n children (byte slot, node)
+ *     nothing after the root node
+ *   Values are a short table index for strings, colours and fonts, a double for
+ *   numbers, four doubles for insets and a byte for booleans and enum ordinals.
+ */
+final class SceneFormat {
+
+    static final int MAGIC = 0x53465853; // "SFXS"
+    static final int VERSION = 2;
+    // Most properties (each style class is one) and children a node can have
+    static final int MAX_COUNT = 0xFFFF;
+
+    // Node types
+    static final int BORDER_PANE = 0;
+    static final int VBOX = 1;
+    static final int HBOX = 2;
+    static final int STACK_PANE = 3;
+    static final int SCROLL_PANE = 4;
+    static final int LABEL = 5;
+    static final int TEXT = 6;
+    static final int BUTTON = 7;
+    static final int RECTANGLE = 8;
+    static final int CIRCLE = 9;
+    static final String[] TYPES = {
+        "BorderPane", "VBox", "HBox", "StackPane", "ScrollPane",
+        "Label", "Text", "Button", "Rectangle", "Circle"
+    };
+
+    // Kinds of value
+    static final int STRING = 0;
+    static final int NUMBER = 1;
+    static final int BOOLEAN = 2;
+    static final int COLOR = 3;
+    static final int FONT = 4;
+    static final int INSETS = 5;
+    static final int POS = 6;
+    static final int TEXT_ALIGNMENT = 7;
+    static final int GLOW = 8;
+
+    // Which types a property applies to, one bit per type
+    private static final int ALL = (1 << TYPES.length) - 1;
+    private static final int BOXES = bits(VBOX, HBOX);
+    private static final int ALIGNED = bits(VBOX, HBOX, STACK_PANE);
+    private static final int REGIONS = bits(BORDER_PANE, VBOX, HBOX, STACK_PANE, SCROLL_PANE, LABEL, BUTTON);
+    private static final int LABELED = bits(LABEL, BUTTON);
+    private static final int TEXTS = bits(LABEL, TEXT, BUTTON);
+    private static final int SHAPES = bits(TEXT, RECTANGLE, CIRCLE);
+
+    // Properties
+    static final int ID = 0;
+    static final int STYLE_CLASS = 1;
+    static final int OPACITY = 2;
+    static final int EFFECT = 3;
+    static final int MARGIN = 4;
+    static final int ALIGNMENT = 5;
+    static final int SPACING = 6;
+    static final int PADDING = 7;
+    static final int PREF_WIDTH = 8;
+    static final int MAX_WIDTH = 9;
+    static final int FIT_TO_WIDTH = 10;
+    static final int TEXT_PROPERTY = 11;
+    static final int FONT_PROPERTY = 12;
+    static final int TEXT_FILL = 13;
+    static final int TEXT_ALIGNMENT_PROPERTY = 14;
+    static final int FILL = 15;
+    static final int STROKE = 16;
+    static final int STROKE_WIDTH = 17;
+    static final int WIDTH = 18;
+    static final int HEIGHT = 19;
+    static final int ARC_WIDTH = 20;
+    static final int ARC_HEIGHT = 21;
+    static final int RADIUS = 22;
+    static final String[] PROPERTIES = {
+        "id", "styleClass", "opacity", "effect", "margin", "alignment", "spacing", "padding",
+        "prefWidth", "maxWidth", "fitToWidth", "text", "font", "textFill", "textAlignment",
+        "fill", "stroke", "strokeWidth", "width", "height", "arcWidth", "arcHeight", "radius"
+    };
+    static final int[] KINDS = {
+        STRING, STRING, NUMBER, GLOW, INSETS, POS, NUMBER, INSETS,
+        NUMBER, NUMBER, BOOLEAN, STRING, FONT, COLOR, TEXT_ALIGNMENT,
+        COLOR, COLOR, NUMBER, NUMBER, NUMBER, NUMBER, NUMBER, NUMBER
+    };
+    static final int[] APPLIES = {
+        ALL, ALL, ALL, ALL, ALL, ALIGNED, BOXES, REGIONS,
+        REGIONS, REGIONS, bits(SCROLL_PANE), TEXTS, TEXTS, LABELED, bits(LABEL, TEXT),
+        SHAPES, SHAPES, SHAPES, bits(RECTANGLE), bits(RECTANGLE), bits(RECTANGLE), bits(RECTANGLE), bits(CIRCLE)
+    };
+
+    // Where a child goes in its parent; only BorderPane children name one
+    static final int IN_ORDER = 0;
+    static final int TOP = 1;
+    static final int CENTER = 2;
+    static final int BOTTOM = 3;
+    static final int LEFT = 4;
+    static final int RIGHT = 5;
+    static final String[] SLOTS = {"", "top", "center", "bottom", "left", "right"};
+
+    private SceneFormat() {
+    }
+
+    static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* How many children a type takes: -1 any number, otherwise at most that many */
+    static int maxChildren(int type) {
+        switch (type) {
+            case BORDER_PANE:
+                return SLOTS.length - 1;
+            case VBOX:
+            case HBOX:
+            case STACK_PANE:
+                return -1;
+            case SCROLL_PANE:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    private static int bits(int... types) {
+        int mask = 0;
+        for (int t : types) {
+            mask |= 1 << t;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,39 @@
+package portfolio.scene;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.util.Map;
+
+/*
+ * 🧩 Scene Layout
+ *   The nodes SceneLoader built from one descriptor: the root, plus every node that
+ *   was given an id, so the code that owns the scene can attach behaviour to them.
+ */
+public final class SceneLayout {
+
+    private final Parent root;
+    private final Map<String, Node> ids;
+
+    SceneLayout(Parent root, Map<String, Node> ids) {
+        this.root = root;
+        this.ids = ids;
+    }
+
+    public Parent getRoot() {
+        return root;
+    }
+
+    /* The node with the given id; throws IllegalArgumentException if missing or of another type */
+    public <T extends Node> T get(String id, Class<T> type) {
+        Node node = ids.get(id);
+        if (node == null) {
+            throw new IllegalArgumentException("No node with id '" + id + "'");
+        }
+        if (!type.isInstance(node)) {
+            throw new IllegalArgumentException("Node '" + id + "' is a " + node.getClass().getSimpleName()
+                    + ", not a " + type.getSimpleName());
+        }
+        return type.cast(node);
+    }
+}
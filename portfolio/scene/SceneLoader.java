@@ -0,0 +1,348 @@
+package portfolio.scene;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.effect.Glow;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 📦 Scene Loader
+ *   Builds scenes from compiled scene descriptors (see SceneCompiler). The binary
+ *   form is read front to back: nodes are created and their properties set through
+ *   switches over the codes in SceneFormat, so there is no XML to parse, no reflection
+ *   and no name lookups while a scene is built. Colours and fonts are resolved once
+ *   per load from the file's tables.
+ *
+ *   portfolio/scene/<name>.bin is produced by the Maven build. Without it (plain javac)
+ *   the <name>.scene next to it is compiled on first use instead, and with a source
+ *   directory (-Dsushmafx.scenes=portfolio/scene in the app) descriptors are read from
+ *   there and compiled on every load, so edits show up the next time a scene is built
+ *   without recompiling anything. Compiled bytes are kept per name otherwise.
+ *
+ *   Must only be used from the FX application thread.
+ */
+public final class SceneLoader {
+
+    private static final Pos[] POSITIONS = Pos.values();
+    private static final TextAlignment[] ALIGNMENTS = TextAlignment.values();
+
+    private final String sourceDir;
+    private final Map<String, byte[]> compiled = new HashMap<>();
+
+    /* sourceDir: where to read descriptors from on every load, or null to use the classpath */
+    public SceneLoader(String sourceDir) {
+        this.sourceDir = sourceDir;
+    }
+
+    public SceneLayout load(String name) {
+        try {
+            if (sourceDir != null) {
+                java.nio.file.Path file = Paths.get(sourceDir, name + ".scene");
+                return read(SceneCompiler.compile(Files.readAllLines(file, StandardCharsets.UTF_8), file.toString()));
+            }
+            byte[] bytes = compiled.get(name);
+            if (bytes == null) {
+                bytes = find(name);
+                compiled.put(name, bytes);
+            }
+            return read(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load scene '" + name + "': " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] find(String name) throws IOException {
+        try (InputStream in = SceneLoader.class.getResourceAsStream(name + ".bin")) {
+            if (in != null) {
+                return in.readAllBytes();
+            }
+        }
+        try (InputStream in = SceneLoader.class.getResourceAsStream(name + ".scene")) {
+            if (in == null) {
+                throw new IOException("neither " + name + ".bin nor " + name + ".scene is on the classpath");
+            }
+            List<String> lines = Arrays.asList(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\r?\n"));
+            return SceneCompiler.compile(lines, name + ".scene");
+        }
+    }
+
+    /* Instantiates a compiled descriptor */
+    public static SceneLayout read(byte[] compiled) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(compiled));
+        if (in.readInt() != SceneFormat.MAGIC) {
+            throw new IOException("not a compiled scene");
+        }
+        int version = in.readShort();
+        if (version != SceneFormat.VERSION) {
+            throw new IOException("compiled for scene format " + version + ", expected "
+                    + SceneFormat.VERSION + " (rebuild)");
+        }
+        Builder builder = new Builder(in);
+        Node root = builder.node(-1);
+        if (in.available() > 0) {
+            throw new IOException(in.available() + " bytes left after the root node");
+        }
+        if (!(root instanceof Parent)) {
+            throw new IOException("the root is a " + SceneFormat.TYPES[builder.rootType] + ", not a pane");
+        }
+        return new SceneLayout((Parent) root, builder.ids);
+    }
+
+    /* One pass over a compiled descriptor */
+    private static final class Builder {
+        final DataInputStream in;
+        final String[] strings;
+        final Color[] colors;
+        final Font[] fonts;
+        final Map<String, Node> ids = new HashMap<>();
+        int rootType = -1;
+
+        Builder(DataInputStream in) throws IOException {
+            this.in = in;
+            strings = new String[in.readUnsignedShort()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+            colors = new Color[in.readUnsignedShort()];
+            for (int i = 0; i < colors.length; i++) {
+                int rgba = in.readInt();
+                colors[i] = Color.rgb(rgba >>> 24, (rgba >> 16) & 0xFF, (rgba >> 8) & 0xFF, (rgba & 0xFF) / 255.0);
+            }
+            fonts = new Font[in.readUnsignedShort()];
+            for (int i = 0; i < fonts.length; i++) {
+                String family = strings[in.readUnsignedShort()];
+                FontWeight weight = in.readByte() != 0 ? FontWeight.BOLD : FontWeight.NORMAL;
+                FontPosture posture = in.readByte() != 0 ? FontPosture.ITALIC : FontPosture.REGULAR;
+                fonts[i] = Font.font(family, weight, posture, in.readDouble());
+            }
+        }
+
+        Node node(int parentType) throws IOException {
+            int type = in.readUnsignedByte();
+            if (rootType < 0) {
+                rootType = type;
+            }
+            Node node = create(type);
+            for (int n = in.readUnsignedShort(); n > 0; n--) {
+                property(node, type, parentType, in.readUnsignedByte());
+            }
+            for (int n = in.readUnsignedShort(); n > 0; n--) {
+                int slot = in.readUnsignedByte();
+                attach(node, type, slot, node(type));
+            }
+            return node;
+        }
+
+        private static Node create(int type) throws IOException {
+            switch (type) {
+                case SceneFormat.BORDER_PANE:
+                    return new BorderPane();
+                case SceneFormat.VBOX:
+                    return new VBox();
+                case SceneFormat.HBOX:
+                    return new HBox();
+                case SceneFormat.STACK_PANE:
+                    return new StackPane();
+                case SceneFormat.SCROLL_PANE:
+                    return new ScrollPane();
+                case SceneFormat.LABEL:
+                    return new Label();
+                case SceneFormat.TEXT:
+                    return new Text();
+                case SceneFormat.BUTTON:
+                    return new Button();
+                case SceneFormat.RECTANGLE:
+                    return new Rectangle();
+                case SceneFormat.CIRCLE:
+                    return new Circle();
+                default:
+                    throw new IOException("unknown node type " + type);
+            }
+        }
+
+        // The compiler only lets through properties that apply to the type, so the casts hold
+        private void property(Node node, int type, int parentType, int code) throws IOException {
+            switch (code) {
+                case SceneFormat.ID:
+                    String id = strings[in.readUnsignedShort()];
+                    node.setId(id);
+                    ids.put(id, node);
+                    break;
+                case SceneFormat.STYLE_CLASS:
+                    node.getStyleClass().add(strings[in.readUnsignedShort()]);
+                    break;
+                case SceneFormat.OPACITY:
+                    node.setOpacity(in.readDouble());
+                    break;
+                case SceneFormat.EFFECT:
+                    node.setEffect(new Glow(in.readDouble()));
+                    break;
+                case SceneFormat.MARGIN:
+                    margin(node, parentType, insets());
+                    break;
+                case SceneFormat.ALIGNMENT:
+                    Pos pos = POSITIONS[in.readUnsignedByte()];
+                    if (type == SceneFormat.VBOX) {
+                        ((VBox) node).setAlignment(pos);
+                    } else if (type == SceneFormat.HBOX) {
+                        ((HBox) node).setAlignment(pos);
+                    } else {
+                        ((StackPane) node).setAlignment(pos);
+                    }
+                    break;
+                case SceneFormat.SPACING:
+                    if (type == SceneFormat.VBOX) {
+                        ((VBox) node).setSpacing(in.readDouble());
+                    } else {
+                        ((HBox) node).setSpacing(in.readDouble());
+                    }
+                    break;
+                case SceneFormat.PADDING:
+                    ((Region) node).setPadding(insets());
+                    break;
+                case SceneFormat.PREF_WIDTH:
+                    ((Region) node).setPrefWidth(in.readDouble());
+                    break;
+                case SceneFormat.MAX_WIDTH:
+                    ((Region) node).setMaxWidth(in.readDouble());
+                    break;
+                case SceneFormat.FIT_TO_WIDTH:
+                    ((ScrollPane) node).setFitToWidth(in.readByte() != 0);
+                    break;
+                case SceneFormat.TEXT_PROPERTY:
+                    String text = strings[in.readUnsignedShort()];
+                    if (type == SceneFormat.TEXT) {
+                        ((Text) node).setText(text);
+                    } else {
+                        ((Labeled) node).setText(text);
+                    }
+                    break;
+                case SceneFormat.FONT_PROPERTY:
+                    Font font = fonts[in.readUnsignedShort()];
+                    if (type == SceneFormat.TEXT) {
+                        ((Text) node).setFont(font);
+                    } else {
+                        ((Labeled) node).setFont(font);
+                    }
+                    break;
+                case SceneFormat.TEXT_FILL:
+                    ((Labeled) node).setTextFill(colors[in.readUnsignedShort()]);
+                    break;
+                case SceneFormat.TEXT_ALIGNMENT_PROPERTY:
+                    TextAlignment alignment = ALIGNMENTS[in.readUnsignedByte()];
+                    if (type == SceneFormat.TEXT) {
+                        ((Text) node).setTextAlignment(alignment);
+                    } else {
+                        ((Labeled) node).setTextAlignment(alignment);
+                    }
+                    break;
+                case SceneFormat.FILL:
+                    ((Shape) node).setFill(colors[in.readUnsignedShort()]);
+                    break;
+                case SceneFormat.STROKE:
+                    ((Shape) node).setStroke(colors[in.readUnsignedShort()]);
+                    break;
+                case SceneFormat.STROKE_WIDTH:
+                    ((Shape) node).setStrokeWidth(in.readDouble());
+                    break;
+                case SceneFormat.WIDTH:
+                    ((Rectangle) node).setWidth(in.readDouble());
+                    break;
+                case SceneFormat.HEIGHT:
+                    ((Rectangle) node).setHeight(in.readDouble());
+                    break;
+                case SceneFormat.ARC_WIDTH:
+                    ((Rectangle) node).setArcWidth(in.readDouble());
+                    break;
+                case SceneFormat.ARC_HEIGHT:
+                    ((Rectangle) node).setArcHeight(in.readDouble());
+                    break;
+                case SceneFormat.RADIUS:
+                    ((Circle) node).setRadius(in.readDouble());
+                    break;
+                default:
+                    throw new IOException("unknown property " + code);
+            }
+        }
+
+        private Insets insets() throws IOException {
+            return new Insets(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+        }
+
+        private static void margin(Node node, int parentType, Insets margin) {
+            switch (parentType) {
+                case SceneFormat.BORDER_PANE:
+                    BorderPane.setMargin(node, margin);
+                    break;
+                case SceneFormat.VBOX:
+                    VBox.setMargin(node, margin);
+                    break;
+                case SceneFormat.HBOX:
+                    HBox.setMargin(node, margin);
+                    break;
+                default:
+                    StackPane.setMargin(node, margin);
+            }
+        }
+
+        private static void attach(Node parent, int type, int slot, Node child) {
+            if (type == SceneFormat.SCROLL_PANE) {
+                ((ScrollPane) parent).setContent(child);
+                return;
+            }
+            if (type != SceneFormat.BORDER_PANE) {
+                ((Pane) parent).getChildren().add(child);
+                return;
+            }
+            BorderPane pane = (BorderPane) parent;
+            switch (slot) {
+                case SceneFormat.TOP:
+                    pane.setTop(child);
+                    break;
+                case SceneFormat.CENTER:
+                    pane.setCenter(child);
+                    break;
+                case SceneFormat.BOTTOM:
+                    pane.setBottom(child);
+                    break;
+                case SceneFormat.LEFT:
+                    pane.setLeft(child);
+                    break;
+                default:
+                    pane.setRight(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package portfolio.scene;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/*
+ * 🗂️ Scene Registry
+ *   Builds each scene once, hands the cached instance back on every visit and keeps
+ *   the animations of scenes that are not on screen paused. Scenes are evicted in
+ *   least-recently-used order once more than maxCached are alive (pinned scenes and
+ *   the active scene are never evicted).
+ *
+ *   Must only be used from the FX application thread.
+ */
+public class SceneRegistry {
+
+    private final int maxCached;
+    private final Map<String, Supplier<Scene>> factories = new HashMap<>();
+    private final Set<String> pinned = new HashSet<>();
+    private final Map<String, SceneStats> stats = new LinkedHashMap<>();
+    // access-ordered: iteration starts at the least recently used scene
+    private final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private Entry building;
+    private String activeKey;
+
+    public SceneRegistry(int maxCached) {
+        if (maxCached < 1) {
+            throw new IllegalArgumentException("maxCached must be at least 1");
+        }
+        this.maxCached = maxCached;
+    }
+
+    /* Registers how to build a scene. Pinned scenes are never evicted. */
+    public void register(String key, Supplier<Scene> factory, boolean pin) {
+        factories.put(key, factory);
+        stats.computeIfAbsent(key, SceneStats::new);
+        if (pin) {
+            pinned.add(key);
+        }
+    }
+
+    public void register(String key, Supplier<Scene> factory) {
+        register(key, factory, false);
+    }
+
+    /* Returns the cached scene for key, building it on first use (or after eviction). */
+    public Scene get(String key) {
+        Entry entry = cache.get(key);
+        SceneStats s = stats.get(key);
+        if (entry != null) {
+            s.hits++;
+            return entry.scene;
+        }
+        Supplier<Scene> factory = factories.get(key);
+        if (factory == null) {
+            throw new IllegalArgumentException("No scene registered for '" + key + "'");
+        }
+
+        entry = new Entry(key);
+        Runtime rt = Runtime.getRuntime();
+        long heapBefore = rt.totalMemory() - rt.freeMemory();
+        long start = System.nanoTime();
+        Entry outer = building;
+        building = entry;
+        try {
+            entry.scene = factory.get();
+        } finally {
+            building = outer;
+        }
+        long elapsed = System.nanoTime() - start;
+        long heapAfter = rt.totalMemory() - rt.freeMemory();
+
+        s.builds++;
+        s.lastBuildNanos = elapsed;
+        s.totalBuildNanos += elapsed;
+        // Best effort: a GC during the build makes this an underestimate, never negative
+        s.retainedBytes = Math.max(0, heapAfter - heapBefore);
+
+        // A freshly built scene stays quiet until it is activated
+        entry.suspend();
+        cache.put(key, entry);
+        evict(key);
+        return entry.scene;
+    }
+
+    /*
+     * Makes key the scene on screen: pauses everything the previous scene was running
+     * and resumes what this scene was running when it was last left.
+     */
+    public Scene activate(String key) {
+        Entry cached = cache.get(key);
+        Scene scene = cached != null ? cached.scene : get(key);
+        if (key.equals(activeKey)) {
+            return scene;
+        }
+        Entry previous = activeKey == null ? null : cache.get(activeKey);
+        if (previous != null) {
+            previous.suspend();
+        }
+        activeKey = key;
+        cache.get(key).resume();
+        evict(key);
+        return scene;
+    }
+
+    /*
+     * Ties long-running animations to the scene currently being built so they can be
+     * paused while it is off screen. Call from inside a registered factory.
+     */
+    public void track(Animation... animations) {
+        if (building == null) {
+            throw new IllegalStateException("track() must be called while a scene is being built");
+        }
+        for (Animation a : animations) {
+            building.animations.add(a);
+        }
+    }
+
+    /* Same for frame loops: they run whenever the scene is on screen and stop otherwise */
+    public void track(AnimationTimer... timers) {
+        if (building == null) {
+            throw new IllegalStateException("track() must be called while a scene is being built");
+        }
+        for (AnimationTimer t : timers) {
+            building.timers.add(t);
+        }
+    }
+
+    /* Drops a cached scene, stopping its animations. The active scene cannot be invalidated. */
+    public void invalidate(String key) {
+        if (key.equals(activeKey)) {
+            throw new IllegalStateException("Cannot invalidate the active scene '" + key + "'");
+        }
+        Entry removed = cache.remove(key);
+        if (removed != null) {
+            removed.dispose();
+            stats.get(key).evictions++;
+        }
+    }
+
+    public boolean isCached(String key) {
+        return cache.containsKey(key);
+    }
+
+    public String getActiveKey() {
+        return activeKey;
+    }
+
+    public Map<String, SceneStats> getStats() {
+        return stats;
+    }
+
+    public void printReport(PrintStream out) {
+        out.println("scene      builds  hits  evictions  last build (ms)  retained (KB)");
+        for (SceneStats s : stats.values()) {
+            out.printf("%-10s %6d %5d %10d %16.2f %14d%n",
+                    s.key, s.builds, s.hits, s.evictions,
+                    s.lastBuildNanos / 1_000_000.0, s.retainedBytes / 1024);
+        }
+    }
+
+    private void evict(String justUsed) {
+        Iterator<Entry> it = cache.values().iterator();
+        while (cache.size() > maxCached && it.hasNext()) {
+            Entry e = it.next();
+            if (pinned.contains(e.key) || e.key.equals(activeKey) || e.key.equals(justUsed)) {
+                continue;
+            }
+            it.remove();
+            e.dispose();
+            stats.get(e.key).evictions++;
+        }
+    }
+
+    /* Build and cache counters for one scene key. */
+    public static final class SceneStats {
+        public final String key;
+        public int builds;
+        public int hits;
+        public int evictions;
+        public long lastBuildNanos;
+        public long totalBuildNanos;
+        public long retainedBytes;
+
+        SceneStats(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Entry {
+        final String key;
+        final List<Animation> animations = new ArrayList<>();
+        final List<Animation> suspended = new ArrayList<>();
+        final List<AnimationTimer> timers = new ArrayList<>();
+        Scene scene;
+
+        Entry(String key) {
+            this.key = key;
+        }
+
+        void suspend() {
+            for (Animation a : animations) {
+                if (a.getStatus() == Animation.Status.RUNNING) {
+                    a.pause();
+                    suspended.add(a);
+                }
+            }
+            for (AnimationTimer t : timers) {
+                t.stop();
+            }
+        }
+
+        void resume() {
+            for (Animation a : suspended) {
+                // Leave alone anything a handler stopped or restarted in the meantime
+                if (a.getStatus() == Animation.Status.PAUSED) {
+                    a.play();
+                }
+            }
+            suspended.clear();
+            for (AnimationTimer t : timers) {
+                t.start();
+            }
+        }
+
+        void dispose() {
+            for (Animation a : animations) {
+                a.stop();
+            }
+            for (AnimationTimer t : timers) {
+                t.stop();
+            }
+            timers.clear();
+            animations.clear();
+            suspended.clear();
+            scene = null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package portfolio.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * 👥 Player Accounts
+ *   Balances and recent spins of every player the server has seen, in whole cents.
+ *   Accounts live in a ConcurrentHashMap and each balance is one AtomicLong: a bet is
+ *   a compare-and-set loop and a win is a single add, so players never wait on each
+ *   other and two terminals playing as the same player still can't overdraw.
+ *   Balances are kept in memory for the lifetime of the server, so the number of
+ *   accounts is capped (maxPlayers); past it only existing players can play. The cap
+ *   is checked before opening an account, so racing first requests can overshoot it
+ *   by a few. Thread-safe.
+ */
+public final class PlayerAccounts {
+
+    public static final int HISTORY = 32;
+    public static final int DEFAULT_MAX_PLAYERS = 100_000;
+
+    private final long openingCents;
+    private final int maxPlayers;
+    private final ConcurrentHashMap<String, Account> accounts = new ConcurrentHashMap<>();
+
+    public PlayerAccounts(long openingCents) {
+        this(openingCents, DEFAULT_MAX_PLAYERS);
+    }
+
+    public PlayerAccounts(long openingCents, int maxPlayers) {
+        if (openingCents < 0) {
+            throw new IllegalArgumentException("openingCents cannot be negative");
+        }
+        if (maxPlayers <= 0) {
+            throw new IllegalArgumentException("maxPlayers must be positive");
+        }
+        this.openingCents = openingCents;
+        this.maxPlayers = maxPlayers;
+    }
+
+    /*
+     * The player's account, opened with the opening balance on first use. Throws
+     * IllegalStateException for a new player once maxPlayers accounts are open.
+     */
+    public Account get(String player) {
+        Account account = accounts.get(player);
+        if (account != null) {
+            return account;
+        }
+        if (accounts.size() >= maxPlayers) {
+            throw new IllegalStateException("player limit reached");
+        }
+        return accounts.computeIfAbsent(player, p -> new Account(openingCents));
+    }
+
+    public int size() {
+        return accounts.size();
+    }
+
+    public long getOpeningCents() {
+        return openingCents;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    /* Sum of all balances; only exact while no spins are in flight */
+    public long totalBalance() {
+        long total = 0;
+        for (Account a : accounts.values()) {
+            total += a.getBalance();
+        }
+        return total;
+    }
+
+    public static final class Account {
+        private final AtomicLong balance;
+        private final AtomicLong spins = new AtomicLong();
+        // Ring of the last HISTORY spins, slot = spin number % HISTORY
+        private final AtomicReferenceArray<SpinRecord> history = new AtomicReferenceArray<>(HISTORY);
+
+        Account(long openingCents) {
+            this.balance = new AtomicLong(openingCents);
+        }
+
+        public long getBalance() {
+            return balance.get();
+        }
+
+        /* Takes a bet; returns false without changing anything if it can't be covered */
+        public boolean bet(long cents) {
+            if (cents <= 0) {
+                return false;
+            }
+            while (true) {
+                long current = balance.get();
+                if (cents > current) {
+                    return false;
+                }
+                if (balance.compareAndSet(current, current - cents)) {
+                    return true;
+                }
+            }
+        }
+
+        /* Credits a win and returns the new balance */
+        public long win(long cents) {
+            if (cents < 0) {
+                throw new IllegalArgumentException("A win cannot be negative");
+            }
+            return cents == 0 ? balance.get() : balance.addAndGet(cents);
+        }
+
+        public void record(SpinRecord spin) {
+            long n = spins.getAndIncrement();
+            history.set((int) (n % HISTORY), spin);
+        }
+
+        public long getSpins() {
+            return spins.get();
+        }
+
+        /* Up to max of the most recent spins, newest first */
+        public List<SpinRecord> history(int max) {
+            long n = spins.get();
+            int count = (int) Math.min(Math.min(max, HISTORY), n);
+            List<SpinRecord> out = new ArrayList<>(count);
+            for (long i = n - 1; i >= n - count; i--) {
+                SpinRecord r = history.get((int) (i % HISTORY));
+                // A concurrent spin may have claimed the slot but not filled it yet
+                if (r != null) {
+                    out.add(r);
+                }
+            }
+            return out;
+        }
+    }
+
+    /* One settled spin: bet and win in cents and the symbol index on each reel */
+    public static final class SpinRecord {
+        public final long bet;
+        public final long win;
+        private final int[] stops;
+
+        public SpinRecord(long bet, long win, int[] stops) {
+            this.bet = bet;
+            this.win = win;
+            this.stops = stops.clone();
+        }
+
+        public int getStop(int reel) {
+            return stops[reel];
+        }
+
+        public int getReels() {
+            return stops.length;
+        }
+    }
+}
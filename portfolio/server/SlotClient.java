@@ -0,0 +1,141 @@
+package portfolio.server;
+
+import portfolio.slot.Autoplay;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 📡 Slot Client
+ *   Blocking client for SlotServer over a single connection. Calls block until the
+ *   reply arrives, so keep them off the FX thread. Not thread-safe: one per terminal.
+ *   Player names must pass SlotServer.isValidPlayer (IllegalArgumentException otherwise).
+ *   An ERR reply is an IllegalStateException with the server's reason as its message:
+ *   the request was refused, but the connection is fine and can be used again. Only
+ *   IOExceptions mean the connection is broken.
+ */
+public final class SlotClient implements Closeable {
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final Writer out;
+
+    private SlotClient(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        this.out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+    }
+
+    public static SlotClient connect(String host, int port) throws IOException {
+        return new SlotClient(new Socket(host, port));
+    }
+
+    /* Connects to "host:port", or "host" on the default port */
+    public static SlotClient connect(String address) throws IOException {
+        int colon = address.lastIndexOf(':');
+        if (colon < 0) {
+            return connect(address, SlotServer.DEFAULT_PORT);
+        }
+        return connect(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+    }
+
+    public SpinResult spin(String player, long betCents) throws IOException {
+        String[] words = call("SPIN " + player(player) + " " + betCents);
+        if (words[0].equals("DENIED")) {
+            return SpinResult.denied(Long.parseLong(words[1]));
+        }
+        int[] stops = new int[words.length - 4];
+        for (int i = 0; i < stops.length; i++) {
+            stops[i] = Integer.parseInt(words[4 + i]);
+        }
+        return new SpinResult(true, Integer.parseInt(words[1]), Long.parseLong(words[2]), Long.parseLong(words[3]), stops);
+    }
+
+    public long balance(String player) throws IOException {
+        return Long.parseLong(call("BALANCE " + player(player))[1]);
+    }
+
+    /* The raw reply to HISTORY: count, then one "bet,win,stop,..." entry per spin */
+    public String[] history(String player, int max) throws IOException {
+        if (max < 0) {
+            throw new IllegalArgumentException("max cannot be negative");
+        }
+        return call("HISTORY " + player(player) + " " + max);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.write("QUIT\n");
+            out.flush();
+        } catch (IOException alreadyClosed) {
+            // the server is gone anyway
+        }
+        socket.close();
+    }
+
+    /* Rejected here rather than sent, where a space would shift the request's words */
+    private static String player(String name) {
+        if (!SlotServer.isValidPlayer(name)) {
+            throw new IllegalArgumentException("Invalid player name: '" + name + "'");
+        }
+        return name;
+    }
+
+    private String[] call(String request) throws IOException {
+        out.write(request);
+        out.write('\n');
+        out.flush();
+        String reply = in.readLine();
+        if (reply == null) {
+            throw new IOException("Slot server closed the connection");
+        }
+        if (reply.startsWith("ERR")) {
+            throw new IllegalStateException(reply.substring(Math.min(4, reply.length())));
+        }
+        return reply.split(" ");
+    }
+
+    /* Outcome of one spin; a denied bet leaves the balance untouched */
+    public static final class SpinResult {
+        public final boolean accepted;
+        public final int pays;
+        public final long win;
+        public final long balance;
+        private final int[] stops;
+
+        public SpinResult(boolean accepted, int pays, long win, long balance, int[] stops) {
+            this.accepted = accepted;
+            this.pays = pays;
+            this.win = win;
+            this.balance = balance;
+            this.stops = stops.clone();
+        }
+
+        static SpinResult denied(long balance) {
+            return new SpinResult(false, 0, 0, balance, new int[0]);
+        }
+
+        public int getStop(int reel) {
+            return stops[reel];
+        }
+
+        /* Fills an autoplay outcome; a denied spin has no stops and leaves out's as they were */
+        public void copyTo(Autoplay.Outcome out) {
+            out.accepted = accepted;
+            out.pays = pays;
+            out.win = win;
+            out.balance = balance;
+            if (accepted) {
+                System.arraycopy(stops, 0, out.stops, 0, out.stops.length);
+            }
+        }
+    }
+}
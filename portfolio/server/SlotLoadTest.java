@@ -0,0 +1,124 @@
+package portfolio.server;
+
+import portfolio.metrics.LatencyHistogram;
+import portfolio.slot.SlotEngine;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 🏋️ Slot Load Test
+ *   Simulated players hammering a SlotServer, each on its own virtual thread and its
+ *   own connection. Every player connects first, then all start spinning together;
+ *   the test reports spins per second and round-trip latency percentiles. Without an
+ *   address it starts a server in-process on loopback and also checks that no cent
+ *   was lost: the sum of all balances must equal openings - bets + wins.
+ *
+ *   Usage: java portfolio.server.SlotLoadTest [players] [spins per player] [host:port]
+ */
+public final class SlotLoadTest {
+
+    private static final long BET = 1;
+
+    private SlotLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int spins = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        SlotServer local = null;
+        String address;
+        if (args.length > 2) {
+            address = args[2];
+        } else {
+            local = SlotServer.start(new SlotEngine(), new PlayerAccounts(100_00), 0, InetAddress.getLoopbackAddress());
+            address = InetAddress.getLoopbackAddress().getHostAddress() + ":" + local.getPort();
+        }
+        System.out.println(players + " players x " + spins + " spins against " + address);
+
+        // Unique names per run so a shared server doesn't mix in older balances
+        String prefix = "load" + Long.toString(System.nanoTime(), 36) + "-";
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong bets = new AtomicLong();
+        AtomicLong wins = new AtomicLong();
+        CountDownLatch connected = new CountDownLatch(players);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> done = new ArrayList<>(players);
+        long elapsed;
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < players; p++) {
+                String player = prefix + p;
+                done.add(pool.submit(() -> {
+                    LatencyHistogram mine = new LatencyHistogram();
+                    SlotClient client;
+                    try {
+                        client = SlotClient.connect(address);
+                    } finally {
+                        // Count failed connects too, so the start doesn't wait forever
+                        connected.countDown();
+                    }
+                    try (client) {
+                        go.await();
+                        long bet = 0;
+                        long won = 0;
+                        for (int i = 0; i < spins; i++) {
+                            long start = System.nanoTime();
+                            SlotClient.SpinResult r = client.spin(player, BET);
+                            mine.record(System.nanoTime() - start);
+                            if (r.accepted) {
+                                bet += BET;
+                                won += r.win;
+                            }
+                        }
+                        bets.addAndGet(bet);
+                        wins.addAndGet(won);
+                    } finally {
+                        synchronized (latency) {
+                            latency.add(mine);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            connected.await();
+            long start = System.nanoTime();
+            go.countDown();
+            int failed = 0;
+            for (Future<?> f : done) {
+                try {
+                    f.get();
+                } catch (ExecutionException e) {
+                    if (failed++ == 0) {
+                        System.err.println("Player failed: " + e.getCause());
+                    }
+                }
+            }
+            elapsed = System.nanoTime() - start;
+            if (failed > 0) {
+                System.err.println(failed + " of " + players + " players failed");
+            }
+        }
+
+        long total = latency.getCount();
+        System.out.printf("%,d spins in %.2f s: %,.0f spins/s%n", total, elapsed / 1e9, total / (elapsed / 1e9));
+        System.out.printf("latency us: mean %.1f  p50 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+                latency.getMean() / 1e3, latency.getPercentile(50) / 1e3, latency.getPercentile(99) / 1e3,
+                latency.getPercentile(99.9) / 1e3, latency.getMax() / 1e3);
+        if (local != null) {
+            PlayerAccounts accounts = local.getAccounts();
+            long expected = accounts.size() * accounts.getOpeningCents() - bets.get() + wins.get();
+            long actual = accounts.totalBalance();
+            System.out.println("balances " + (expected == actual ? "add up" : "DO NOT add up")
+                    + ": " + actual + " cents, expected " + expected);
+            local.close();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package portfolio.server;
+
+import portfolio.slot.SlotEngine;
+import portfolio.wallet.Money;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * 🌐 Slot Server
+ *   One authoritative SlotEngine and set of player accounts shared by any number of
+ *   terminals over a plain-text TCP protocol, one request line and one reply line:
+ *
+ *     SPIN <player> <bet>     OK <pays> <win> <balance> <stop>...  or  DENIED <balance>
+ *     BALANCE <player>        OK <balance>
+ *     HISTORY <player> [n]    OK <count> <bet>,<win>,<stop>,...  (newest first)
+ *     QUIT                    closes the connection
+ *
+ *   Amounts are whole cents; player names are 1-64 printable ASCII characters without
+ *   spaces (isValidPlayer); a malformed request gets ERR <reason>. Every connection is
+ *   served on its own virtual thread with its own RNG stream, so thousands of
+ *   terminals cost little more than their sockets.
+ *
+ *   There is no authentication: anyone who can connect can play as any player, and
+ *   each new name opens an account (up to the PlayerAccounts limit). main therefore
+ *   listens on loopback unless given an address to bind to.
+ *
+ *   Usage: java portfolio.server.SlotServer [port] [opening balance in cents] [bind address]
+ */
+public final class SlotServer implements Closeable {
+
+    public static final int DEFAULT_PORT = 7777;
+
+    private static final int BACKLOG = 4096;
+    private static final int MAX_PLAYER_LENGTH = 64;
+
+    private final SlotEngine engine;
+    private final PlayerAccounts accounts;
+    private final ServerSocket listener;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> open = ConcurrentHashMap.newKeySet();
+    // Split once per connection (under its lock) so no two connections share a stream
+    private final SplittableRandom seeds = new SplittableRandom(new SecureRandom().nextLong());
+
+    private SlotServer(SlotEngine engine, PlayerAccounts accounts, ServerSocket listener) {
+        this.engine = engine;
+        this.accounts = accounts;
+        this.listener = listener;
+    }
+
+    /* Listens on port (0 picks a free one) of bindAddress, or every interface if null */
+    public static SlotServer start(SlotEngine engine, PlayerAccounts accounts, int port, InetAddress bindAddress)
+            throws IOException {
+        SlotServer server = new SlotServer(engine, accounts, new ServerSocket(port, BACKLOG, bindAddress));
+        Thread.ofVirtual().name("slot-server-accept").start(server::acceptLoop);
+        return server;
+    }
+
+    public int getPort() {
+        return listener.getLocalPort();
+    }
+
+    public PlayerAccounts getAccounts() {
+        return accounts;
+    }
+
+    /* Stops accepting, drops every connection and waits for their threads to finish */
+    @Override
+    public void close() throws IOException {
+        listener.close();
+        for (Socket s : open) {
+            s.close();
+        }
+        connections.close();
+    }
+
+    private void acceptLoop() {
+        while (!listener.isClosed()) {
+            try {
+                Socket socket = listener.accept();
+                SplittableRandom rng;
+                synchronized (seeds) {
+                    rng = seeds.split();
+                }
+                connections.execute(() -> serve(socket, rng));
+            } catch (IOException e) {
+                if (!listener.isClosed()) {
+                    System.err.println("Slot server accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket, SplittableRandom rng) {
+        open.add(socket);
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+            socket.setTcpNoDelay(true);
+            int[] stops = new int[SlotEngine.REELS];
+            StringBuilder reply = new StringBuilder(64);
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.equals("QUIT")) {
+                    break;
+                }
+                reply.setLength(0);
+                handle(line, rng, stops, reply);
+                reply.append('\n');
+                out.append(reply);
+                out.flush();
+            }
+        } catch (SocketException closed) {
+            // client went away or the server is shutting down
+        } catch (IOException e) {
+            System.err.println("Slot connection failed: " + e.getMessage());
+        } finally {
+            open.remove(socket);
+        }
+    }
+
+    /* Runs one request line and appends the reply (without the newline) */
+    void handle(String line, SplittableRandom rng, int[] stops, StringBuilder reply) {
+        String[] words = line.trim().split(" +");
+        try {
+            switch (words[0]) {
+                case "SPIN":
+                    expect(words, 3, 3);
+                    spin(accounts.get(player(words[1])), Long.parseLong(words[2]), rng, stops, reply);
+                    break;
+                case "BALANCE":
+                    expect(words, 2, 2);
+                    reply.append("OK ").append(accounts.get(player(words[1])).getBalance());
+                    break;
+                case "HISTORY":
+                    expect(words, 2, 3);
+                    int max = words.length > 2 ? Integer.parseInt(words[2]) : PlayerAccounts.HISTORY;
+                    if (max < 0) {
+                        throw new IllegalArgumentException("history length cannot be negative");
+                    }
+                    history(accounts.get(player(words[1])).history(max), reply);
+                    break;
+                default:
+                    reply.append("ERR unknown command");
+            }
+        } catch (NumberFormatException e) {
+            reply.setLength(0);
+            reply.append("ERR bad number");
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reply.setLength(0);
+            reply.append("ERR ").append(e.getMessage());
+        }
+    }
+
+    private void spin(PlayerAccounts.Account account, long bet, SplittableRandom rng, int[] stops, StringBuilder reply) {
+        if (!account.bet(bet)) {
+            reply.append("DENIED ").append(account.getBalance());
+            return;
+        }
+        int pays = engine.spin(rng, stops);
+        long win = Math.multiplyExact(bet, (long) pays);
+        long balance = account.win(win);
+        account.record(new PlayerAccounts.SpinRecord(bet, win, stops));
+        reply.append("OK ").append(pays).append(' ').append(win).append(' ').append(balance);
+        for (int stop : stops) {
+            reply.append(' ').append(stop);
+        }
+    }
+
+    private static void history(List<PlayerAccounts.SpinRecord> spins, StringBuilder reply) {
+        reply.append("OK ").append(spins.size());
+        for (PlayerAccounts.SpinRecord s : spins) {
+            reply.append(' ').append(s.bet).append(',').append(s.win);
+            for (int r = 0; r < s.getReels(); r++) {
+                reply.append(',').append(s.getStop(r));
+            }
+        }
+    }
+
+    private static void expect(String[] words, int min, int max) {
+        if (words.length < min || words.length > max) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+    }
+
+    private static String player(String name) {
+        if (!isValidPlayer(name)) {
+            throw new IllegalArgumentException("bad player name");
+        }
+        return name;
+    }
+
+    /*
+     * Whether name can be sent as a player: 1 to 64 printable ASCII characters and no
+     * whitespace, since requests are split on spaces
+     */
+    public static boolean isValidPlayer(String name) {
+        if (name.isEmpty() || name.length() > MAX_PLAYER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c <= ' ' || c > '~') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        long opening = args.length > 1 ? Long.parseLong(args[1]) : 100_00;
+        InetAddress bind = args.length > 2 ? InetAddress.getByName(args[2]) : InetAddress.getLoopbackAddress();
+        SlotServer server = start(new SlotEngine(), new PlayerAccounts(opening), port, bind);
+        System.out.println("Slot server listening on " + bind.getHostAddress() + ":" + server.getPort()
+                + ", new players start with $" + Money.format(opening));
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,204 @@
+package portfolio.slot;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 🔁 Autoplay
+ *   Runs a series of spins on a virtual thread: up to a planned number, stopping early
+ *   on a big enough win, once the net loss reaches a limit, when a bet is refused or
+ *   when stop() is called. The worker never touches the UI. It keeps only the latest
+ *   state, and the FX side polls that once per pulse, so however fast spins run the
+ *   screen gets at most one update per frame and the event queue sees nothing.
+ *
+ *   In turbo mode spins run back to back. Otherwise the worker waits for shown()
+ *   after each spin, so the reels can play every result out; if no screen answers
+ *   within SHOWN_TIMEOUT_SECONDS the run stops rather than wait forever.
+ */
+public final class Autoplay {
+
+    private static final long SHOWN_TIMEOUT_SECONDS = 30;
+
+    /*
+     * Settles one spin of bet into outcome (against the local wallet or a server);
+     * IllegalStateException means the spin was refused, with the reason as its message
+     */
+    public interface SpinSource {
+        void spin(long bet, Outcome outcome) throws IOException;
+    }
+
+    /* One spin's result, reused by the worker for every spin */
+    public static final class Outcome {
+        public final int[] stops;
+        public boolean accepted;
+        public int pays;
+        public long win;
+        public long balance;
+
+        public Outcome(int reels) {
+            stops = new int[reels];
+        }
+    }
+
+    /* What the screen shows; poll() copies the latest state into it */
+    public static final class Status {
+        public final int[] stops;
+        public int planned;
+        public int spins;
+        public int pays;
+        public long win;
+        public long balance;
+        public long totalBet;
+        public long totalWon;
+        public long biggestWin;
+        public boolean running;
+        public String stopReason;
+
+        public Status(int reels) {
+            stops = new int[reels];
+        }
+    }
+
+    private final SpinSource source;
+    private final long bet;
+    private final long stopOnWin;
+    private final long lossLimit;
+    private final boolean turbo;
+    private final Semaphore shown = new Semaphore(0);
+    private volatile boolean stopRequested;
+
+    // Guarded by this; written by the worker, read by poll()
+    private final Status latest;
+    private long version;
+    private long polledVersion = -1;
+
+    private Autoplay(SpinSource source, int reels, long bet, int spins, long stopOnWin, long lossLimit, boolean turbo) {
+        this.source = source;
+        this.bet = bet;
+        this.stopOnWin = stopOnWin;
+        this.lossLimit = lossLimit;
+        this.turbo = turbo;
+        this.latest = new Status(reels);
+        latest.planned = spins;
+        latest.running = true;
+    }
+
+    /*
+     * Starts spinning bet (cents) up to spins times. stopOnWin and lossLimit are in
+     * cents, 0 for no limit.
+     */
+    public static Autoplay start(SpinSource source, int reels, long bet, int spins,
+                                 long stopOnWin, long lossLimit, boolean turbo) {
+        if (bet <= 0) {
+            throw new IllegalArgumentException("bet must be positive");
+        }
+        if (spins < 1) {
+            throw new IllegalArgumentException("spins must be at least 1");
+        }
+        if (stopOnWin < 0 || lossLimit < 0) {
+            throw new IllegalArgumentException("Limits cannot be negative");
+        }
+        Autoplay autoplay = new Autoplay(source, reels, bet, spins, stopOnWin, lossLimit, turbo);
+        Thread.ofVirtual().name("autoplay").start(autoplay::run);
+        return autoplay;
+    }
+
+    public boolean isTurbo() {
+        return turbo;
+    }
+
+    /* Asks the worker to stop after the spin it is on */
+    public void stop() {
+        stopRequested = true;
+        shown.release();
+    }
+
+    /* Lets a paced (non-turbo) worker go on with the next spin */
+    public void shown() {
+        shown.release();
+    }
+
+    /* Copies the latest state into status; false if nothing changed since the last poll */
+    public synchronized boolean poll(Status status) {
+        if (version == polledVersion) {
+            return false;
+        }
+        polledVersion = version;
+        System.arraycopy(latest.stops, 0, status.stops, 0, status.stops.length);
+        status.planned = latest.planned;
+        status.spins = latest.spins;
+        status.pays = latest.pays;
+        status.win = latest.win;
+        status.balance = latest.balance;
+        status.totalBet = latest.totalBet;
+        status.totalWon = latest.totalWon;
+        status.biggestWin = latest.biggestWin;
+        status.running = latest.running;
+        status.stopReason = latest.stopReason;
+        return true;
+    }
+
+    private void run() {
+        Outcome outcome = new Outcome(latest.stops.length);
+        long totalBet = 0;
+        long totalWon = 0;
+        String reason = "done";
+        try {
+            for (int i = 0; i < latest.planned; i++) {
+                if (stopRequested) {
+                    reason = "stopped";
+                    break;
+                }
+                source.spin(bet, outcome);
+                if (!outcome.accepted) {
+                    reason = "bet not covered";
+                    break;
+                }
+                totalBet += bet;
+                totalWon += outcome.win;
+                publish(outcome, totalBet, totalWon);
+                if (stopOnWin > 0 && outcome.win >= stopOnWin) {
+                    reason = "win limit";
+                    break;
+                }
+                if (lossLimit > 0 && totalBet - totalWon >= lossLimit) {
+                    reason = "loss limit";
+                    break;
+                }
+                if (!turbo && !shown.tryAcquire(SHOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    reason = "not shown";
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            reason = "server unavailable";
+        } catch (InterruptedException e) {
+            reason = "stopped";
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            reason = "refused: " + e.getMessage();
+        } catch (RuntimeException e) {
+            reason = "failed: " + e.getMessage();
+        }
+        finish(reason);
+    }
+
+    private synchronized void publish(Outcome outcome, long totalBet, long totalWon) {
+        System.arraycopy(outcome.stops, 0, latest.stops, 0, latest.stops.length);
+        latest.spins++;
+        latest.pays = outcome.pays;
+        latest.win = outcome.win;
+        latest.balance = outcome.balance;
+        latest.totalBet = totalBet;
+        latest.totalWon = totalWon;
+        latest.biggestWin = Math.max(latest.biggestWin, outcome.win);
+        version++;
+    }
+
+    private synchronized void finish(String reason) {
+        latest.running = false;
+        latest.stopReason = reason;
+        version++;
+    }
+}
@@ -0,0 +1,71 @@
+package portfolio.slot;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/*
+ * 🔲 Grid
+ *   The visible window of a spin: reels x rows cells, plus one bitmask per symbol
+ *   marking the cells it landed on (bit reel * rows + row). Reused from spin to
+ *   spin, so filling it never allocates. Not thread-safe; one per spinning thread.
+ */
+public final class Grid {
+
+    private final int reels;
+    private final int rows;
+    private final int[] cells;
+    private final long[] masks;
+
+    public Grid(int reels, int rows, int symbolCount) {
+        if (reels < 1 || rows < 1 || reels * rows > Long.SIZE) {
+            throw new IllegalArgumentException("A grid holds at most " + Long.SIZE + " cells, got "
+                    + reels + "x" + rows);
+        }
+        this.reels = reels;
+        this.rows = rows;
+        this.cells = new int[reels * rows];
+        this.masks = new long[symbolCount];
+    }
+
+    /* Lands every cell independently on its reel's symbol distribution */
+    public void fill(ReelSet reelSet, RandomGenerator rng) {
+        Arrays.fill(masks, 0L);
+        int bit = 0;
+        for (int r = 0; r < reels; r++) {
+            ReelStrip strip = reelSet.get(r);
+            for (int row = 0; row < rows; row++, bit++) {
+                int s = strip.sample(rng);
+                cells[bit] = s;
+                masks[s] |= 1L << bit;
+            }
+        }
+    }
+
+    /* Puts symbol s in a cell directly; for fixed layouts and tests of a paytable */
+    public void set(int reel, int row, int symbol) {
+        int bit = reel * rows + row;
+        masks[cells[bit]] &= ~(1L << bit);
+        cells[bit] = symbol;
+        masks[symbol] |= 1L << bit;
+    }
+
+    public int symbolAt(int reel, int row) {
+        return cells[reel * rows + row];
+    }
+
+    public long mask(int symbol) {
+        return masks[symbol];
+    }
+
+    long[] masks() {
+        return masks;
+    }
+
+    public int getReels() {
+        return reels;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,222 @@
+package portfolio.slot;
+
+/*
+ * 🧾 Grid Evaluator
+ *   Pays out an N-reel x M-row grid, either on fixed paylines or "all ways"
+ *   (243 ways on 5x3), with an optional wild that substitutes for every symbol
+ *   except the scatter, and an optional scatter that pays anywhere.
+ *
+ *   Everything works on the per-symbol bitmasks of a Grid, so a spin costs a few
+ *   AND/popcount operations per symbol instead of nested loops over cells:
+ *     - a payline is a mask with one bit per reel; the left-to-right run of a
+ *       symbol is the number of line bits below the first missing one
+ *     - for ways, each reel's mask gives the count of matching rows by popcount
+ *   Immutable and allocation-free; share one instance across threads.
+ *
+ *   Like a payline, every way is paid once, at the best win on it. A run of wilds
+ *   pays as the best symbol it can stand for. In ways mode the run of wilds from
+ *   reel 1 and a symbol that carries it on further are one way, paid the better of
+ *   the two, as on a line: W W W 🍒 pays 🍒 x4 if that beats W x3, and then the wilds
+ *   are not paid again; otherwise it is just the wild way W W W, paid once.
+ *
+ *   pays[s][k] is the win for k reels of symbol s, in credits per credit of line
+ *   bet (lines) or of the whole bet (ways). scatterPays[n] multiplies the total
+ *   cost for n scatters anywhere.
+ */
+public final class GridEvaluator {
+
+    public static final int NONE = -1;
+
+    private final int reels;
+    private final int rows;
+    private final int symbolCount;
+    private final int[][] pays;
+    // Best pay for k reels over every symbol but the scatter: what a run of wilds pays
+    private final int[] wildRunPays;
+    private final int wild;
+    private final int scatter;
+    private final int[] scatterPays;
+    private final long[] lineMasks;
+    private final long[] reelMasks;
+    private final int cost;
+
+    private GridEvaluator(int reels, int rows, int[][] pays, int wild, int scatter, int[] scatterPays,
+                          long[] lineMasks, int cost) {
+        if (reels * rows > Long.SIZE) {
+            throw new IllegalArgumentException("A grid holds at most " + Long.SIZE + " cells");
+        }
+        this.reels = reels;
+        this.rows = rows;
+        this.symbolCount = pays.length;
+        this.pays = new int[pays.length][];
+        for (int s = 0; s < pays.length; s++) {
+            if (pays[s].length != reels + 1) {
+                throw new IllegalArgumentException("pays[" + s + "] needs an entry for 0.." + reels + " reels");
+            }
+            this.pays[s] = pays[s].clone();
+        }
+        this.wildRunPays = new int[reels + 1];
+        if (wild >= symbolCount || scatter >= symbolCount || (wild != NONE && wild == scatter)) {
+            throw new IllegalArgumentException("Invalid wild/scatter symbol");
+        }
+        if (scatter != NONE && (scatterPays == null || scatterPays.length == 0)) {
+            throw new IllegalArgumentException("A scatter symbol needs scatter pays");
+        }
+        this.wild = wild;
+        this.scatter = scatter;
+        for (int s = 0; s < symbolCount; s++) {
+            for (int k = 0; k <= reels && s != scatter; k++) {
+                wildRunPays[k] = Math.max(wildRunPays[k], this.pays[s][k]);
+            }
+        }
+        this.scatterPays = scatterPays == null ? new int[] {0} : scatterPays.clone();
+        this.lineMasks = lineMasks;
+        this.cost = cost;
+
+        this.reelMasks = new long[reels];
+        long column = rows == Long.SIZE ? -1L : (1L << rows) - 1;
+        for (int r = 0; r < reels; r++) {
+            reelMasks[r] = column << (r * rows);
+        }
+    }
+
+    /*
+     * Payline game: paylines[l][r] is the row line l crosses on reel r. The stake is
+     * one credit per line.
+     */
+    public static GridEvaluator lines(int reels, int rows, int[][] paylines, int[][] pays,
+                                      int wild, int scatter, int[] scatterPays) {
+        long[] masks = new long[paylines.length];
+        for (int l = 0; l < paylines.length; l++) {
+            if (paylines[l].length != reels) {
+                throw new IllegalArgumentException("Payline " + l + " must cross all " + reels + " reels");
+            }
+            for (int r = 0; r < reels; r++) {
+                int row = paylines[l][r];
+                if (row < 0 || row >= rows) {
+                    throw new IllegalArgumentException("Payline " + l + " leaves the grid on reel " + r);
+                }
+                masks[l] |= 1L << (r * rows + row);
+            }
+        }
+        return new GridEvaluator(reels, rows, pays, wild, scatter, scatterPays, masks, paylines.length);
+    }
+
+    /* All-ways game: every left-aligned run of adjacent reels pays, times the number of ways */
+    public static GridEvaluator ways(int reels, int rows, int cost, int[][] pays,
+                                     int wild, int scatter, int[] scatterPays) {
+        if (cost < 1) {
+            throw new IllegalArgumentException("cost must be at least one credit");
+        }
+        return new GridEvaluator(reels, rows, pays, wild, scatter, scatterPays, null, cost);
+    }
+
+    /* Total credits won by grid, stake included */
+    public long evaluate(Grid grid) {
+        long[] masks = grid.masks();
+        long win = lineMasks != null ? evaluateLines(masks) : evaluateWays(masks);
+        if (scatter != NONE) {
+            int n = Math.min(Long.bitCount(masks[scatter]), scatterPays.length - 1);
+            win += (long) scatterPays[n] * cost;
+        }
+        return win;
+    }
+
+    private long evaluateLines(long[] masks) {
+        long wilds = wild == NONE ? 0 : masks[wild];
+        long win = 0;
+        for (long line : lineMasks) {
+            int best = 0;
+            for (int s = 0; s < symbolCount; s++) {
+                if (s == scatter) {
+                    continue;
+                }
+                long hits = (masks[s] | wilds) & line;
+                int p = pays[s][run(hits, line)];
+                if (p > best) {
+                    best = p;
+                }
+            }
+            win += best;
+        }
+        return win;
+    }
+
+    private long evaluateWays(long[] masks) {
+        long wilds = wild == NONE ? 0 : masks[wild];
+        // The run of wilds from reel 0 (wildReels long) and how many ways it has
+        int wildReels = 0;
+        long wildWays = 1;
+        while (wildReels < reels) {
+            int c = Long.bitCount(wilds & reelMasks[wildReels]);
+            if (c == 0) {
+                break;
+            }
+            wildWays *= c;
+            wildReels++;
+        }
+        int wildPay = wildRunPays[wildReels];
+        long win = 0;
+        boolean carriedOn = false;
+        for (int s = 0; s < symbolCount; s++) {
+            if (s == scatter || s == wild) {
+                continue;
+            }
+            long m = masks[s] | wilds;
+            long ways = 1;
+            // Ways on from the end of one all-wild way
+            long onFromWilds = 1;
+            int k = 0;
+            while (k < reels) {
+                int c = Long.bitCount(m & reelMasks[k]);
+                if (c == 0) {
+                    break;
+                }
+                ways *= c;
+                if (k >= wildReels) {
+                    onFromWilds *= c;
+                }
+                k++;
+            }
+            if (wildReels == 0) {
+                win += pays[s][k] * ways;
+                continue;
+            }
+            // Ways with one of s among the wilds are s's alone; the rest start with every wild
+            win += pays[s][k] * (ways - wildWays * onFromWilds);
+            if (k > wildReels && pays[s][k] > wildPay) {
+                win += pays[s][k] * wildWays * onFromWilds;
+                carriedOn = true;
+            }
+        }
+        if (wildReels > 0 && !carriedOn) {
+            win += wildPay * wildWays;
+        }
+        return win;
+    }
+
+    /* Length of the run from reel 0 in hits, where line has exactly one bit per reel */
+    private int run(long hits, long line) {
+        long missing = line & ~hits;
+        if (missing == 0) {
+            return reels;
+        }
+        return Long.bitCount(line & (Long.lowestOneBit(missing) - 1));
+    }
+
+    public int getReels() {
+        return reels;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+}
@@ -0,0 +1,69 @@
+package portfolio.slot;
+
+import java.util.random.RandomGenerator;
+
+/*
+ * 🎰 Grid Game
+ *   A multi-reel, multi-row machine: a ReelSet lands the grid and a GridEvaluator
+ *   pays it.
+ */
+public final class GridGame implements SlotGame {
+
+    private final ReelSet reels;
+    private final GridEvaluator evaluator;
+
+    public GridGame(ReelSet reels, GridEvaluator evaluator) {
+        if (reels.size() != evaluator.getReels() || reels.getSymbolCount() != evaluator.getSymbolCount()) {
+            throw new IllegalArgumentException("Reels and paytable disagree on the number of reels or symbols");
+        }
+        this.reels = reels;
+        this.evaluator = evaluator;
+    }
+
+    /*
+     * 5x3, 243 ways: the six classic symbols plus a wild (6) and a scatter (7),
+     * staked at 25 credits per spin. A starting point for tuning with the simulator.
+     */
+    public static GridGame ways243() {
+        int[][] pays = {
+            {0, 0, 0, 4, 8, 20},      // 🍒
+            {0, 0, 0, 4, 8, 20},      // 🍋
+            {0, 0, 0, 8, 16, 30},     // 🍊
+            {0, 0, 0, 8, 16, 30},     // 🍇
+            {0, 0, 0, 20, 60, 150},   // 💎
+            {0, 0, 0, 30, 80, 250},   // 7️⃣
+            {0, 0, 0, 40, 120, 400},  // wild
+            {0, 0, 0, 0, 0, 0},       // scatter pays anywhere, see below
+        };
+        int[] scatterPays = {0, 0, 0, 2, 10, 50};
+        int[] weights = {10, 10, 9, 9, 4, 3, 1, 1};
+        ReelStrip strip = ReelStrip.ofWeights(weights);
+        ReelSet reels = new ReelSet(strip, strip, strip, strip, strip);
+        return new GridGame(reels, GridEvaluator.ways(5, 3, 25, pays, 6, 7, scatterPays));
+    }
+
+    /* Lands grid for one spin and returns the credits won */
+    public long spin(RandomGenerator rng, Grid grid) {
+        grid.fill(reels, rng);
+        return evaluator.evaluate(grid);
+    }
+
+    public Grid newGrid() {
+        return new Grid(evaluator.getReels(), evaluator.getRows(), evaluator.getSymbolCount());
+    }
+
+    public GridEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    @Override
+    public int getCost() {
+        return evaluator.getCost();
+    }
+
+    @Override
+    public Spinner newSpinner() {
+        Grid grid = newGrid();
+        return rng -> spin(rng, grid);
+    }
+}
@@ -0,0 +1,219 @@
+package portfolio.slot;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.Arrays;
+
+/*
+ * 🎞️ Reel Renderer
+ *   Spins reels drawn from a SymbolAtlas, one Canvas window per reel. A spin runs a
+ *   few whole turns plus whatever is needed to land on the stop, with an ease-out that
+ *   overshoots a little and settles back; reels stop one after another. While a reel
+ *   moves faster than BLUR_SPEED it is drawn from the atlas' blurred column.
+ *
+ *   Each frame draws at most two image slices per moving reel and nothing for reels
+ *   standing still; all state lives in arrays sized once, so a frame allocates nothing.
+ *   Time comes from step(dt), which the scene drives from a FixedStepLoop, so spins
+ *   land on the same frame in a replay. Must only be used from the FX application thread.
+ */
+public final class ReelRenderer {
+
+    public static final double STEP = 1.0 / 120;
+
+    private static final int TURNS = 3;
+    private static final double DURATION = 1.2;
+    private static final double STAGGER = 0.35;
+    // How far past the stop the ease-out swings before settling (easeOutBack's s)
+    private static final double OVERSHOOT = 1.2;
+    // Symbols per second above which a reel is drawn blurred
+    private static final double BLUR_SPEED = 8;
+
+    private final SymbolAtlas atlas;
+    private final Image image;
+    private final Canvas[] windows;
+    private final GraphicsContext[] g;
+    private final int symbols;
+
+    // Position in symbols: the window shows the strip from pos to pos + 1
+    private final double[] pos;
+    private final double[] from;
+    private final double[] travel;
+    private final double[] elapsed;
+    private final double[] duration;
+    private final int[] target;
+    private final boolean[] spinning;
+    private final boolean[] blurred;
+    private final boolean[] dirty;
+    private Runnable onLanded;
+
+    public ReelRenderer(SymbolAtlas atlas, Canvas... windows) {
+        if (windows.length == 0) {
+            throw new IllegalArgumentException("Need at least one reel window");
+        }
+        this.atlas = atlas;
+        this.image = atlas.getImage();
+        this.windows = windows.clone();
+        this.symbols = atlas.getSymbolCount();
+        int n = windows.length;
+        this.g = new GraphicsContext[n];
+        for (int i = 0; i < n; i++) {
+            g[i] = windows[i].getGraphicsContext2D();
+        }
+        pos = new double[n];
+        from = new double[n];
+        travel = new double[n];
+        elapsed = new double[n];
+        duration = new double[n];
+        target = new int[n];
+        spinning = new boolean[n];
+        blurred = new boolean[n];
+        dirty = new boolean[n];
+        Arrays.fill(dirty, true);
+    }
+
+    /* A window canvas sized for atlas' cells */
+    public static Canvas window(SymbolAtlas atlas) {
+        return new Canvas(atlas.getCell(), atlas.getCell());
+    }
+
+    public int getReelCount() {
+        return windows.length;
+    }
+
+    /* Shows stops straight away, without spinning */
+    public void show(int[] stops) {
+        checkStops(stops);
+        for (int i = 0; i < windows.length; i++) {
+            spinning[i] = false;
+            target[i] = stops[i];
+            pos[i] = stops[i];
+            blurred[i] = false;
+            dirty[i] = true;
+        }
+        onLanded = null;
+    }
+
+    /*
+     * Spins every reel from where it is now onto stops, then runs onLanded (may be
+     * null). Spinning again before landing first settles the previous spin's callback.
+     */
+    public void spin(int[] stops, Runnable onLanded) {
+        checkStops(stops);
+        finishPending();
+        for (int i = 0; i < windows.length; i++) {
+            double start = wrap(pos[i]);
+            // Reels run downwards, i.e. towards lower positions
+            double rest = wrap(start - stops[i]);
+            from[i] = start;
+            travel[i] = (TURNS + i) * symbols + rest;
+            elapsed[i] = 0;
+            duration[i] = DURATION + i * STAGGER;
+            target[i] = stops[i];
+            spinning[i] = true;
+        }
+        this.onLanded = onLanded;
+    }
+
+    public boolean isSpinning() {
+        for (boolean s : spinning) {
+            if (s) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* Advances every spinning reel by dt seconds */
+    public void step(double dt) {
+        boolean moving = false;
+        for (int i = 0; i < windows.length; i++) {
+            if (!spinning[i]) {
+                continue;
+            }
+            elapsed[i] += dt;
+            double u = elapsed[i] / duration[i];
+            if (u >= 1) {
+                spinning[i] = false;
+                pos[i] = target[i];
+                blurred[i] = false;
+            } else {
+                pos[i] = from[i] - travel[i] * ease(u);
+                blurred[i] = travel[i] * easeSlope(u) / duration[i] > BLUR_SPEED;
+                moving = true;
+            }
+            dirty[i] = true;
+        }
+        if (!moving) {
+            finishPending();
+        }
+    }
+
+    /* Redraws the reels that moved since the last render */
+    public void render() {
+        double cell = atlas.getCell();
+        for (int i = 0; i < windows.length; i++) {
+            if (!dirty[i]) {
+                continue;
+            }
+            dirty[i] = false;
+            GraphicsContext gc = g[i];
+            gc.clearRect(0, 0, cell, cell);
+            double p = wrap(pos[i]);
+            int top = (int) p;
+            double f = p - top;
+            double x = atlas.columnX(blurred[i]);
+            // Bottom part of the symbol at top, then the top part of the next one
+            gc.drawImage(image, x, p * cell, cell, (1 - f) * cell, 0, 0, cell, (1 - f) * cell);
+            if (f > 0) {
+                int next = top + 1 == symbols ? 0 : top + 1;
+                gc.drawImage(image, x, next * cell, cell, f * cell, 0, (1 - f) * cell, cell, f * cell);
+            }
+        }
+    }
+
+    private void finishPending() {
+        Runnable done = onLanded;
+        onLanded = null;
+        if (done != null) {
+            for (int i = 0; i < windows.length; i++) {
+                if (spinning[i]) {
+                    spinning[i] = false;
+                    pos[i] = target[i];
+                    blurred[i] = false;
+                    dirty[i] = true;
+                }
+            }
+            done.run();
+        }
+    }
+
+    private void checkStops(int[] stops) {
+        if (stops.length < windows.length) {
+            throw new IllegalArgumentException("Need a stop for each of the " + windows.length + " reels");
+        }
+        for (int i = 0; i < windows.length; i++) {
+            if (stops[i] < 0 || stops[i] >= symbols) {
+                throw new IllegalArgumentException("Stop " + stops[i] + " is not one of the " + symbols + " symbols");
+            }
+        }
+    }
+
+    private double wrap(double p) {
+        double w = p % symbols;
+        // A tiny negative remainder plus symbols can round up to symbols itself
+        return w < 0 ? (w + symbols) % symbols : w;
+    }
+
+    /* easeOutBack: full speed at once, slows down, swings past 1 and settles back */
+    private static double ease(double u) {
+        double v = u - 1;
+        return 1 + (OVERSHOOT + 1) * v * v * v + OVERSHOOT * v * v;
+    }
+
+    private static double easeSlope(double u) {
+        double v = u - 1;
+        return Math.abs(3 * (OVERSHOOT + 1) * v * v + 2 * OVERSHOOT * v);
+    }
+}
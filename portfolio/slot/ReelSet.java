@@ -0,0 +1,101 @@
+package portfolio.slot;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/*
+ * 🎡 Reel Set
+ *   The reels of one machine. Can be loaded from a plain text file with one reel
+ *   per line, either as symbol weights or as the list of symbols on the strip:
+ *
+ *     # 🍒 🍋 🍊 🍇 💎 7️⃣
+ *     weights 10 10 10 10 3 2
+ *     strip   0 1 2 3 0 1 2 3 4 5 ...
+ *
+ *   Blank lines and lines starting with # are ignored.
+ */
+public final class ReelSet {
+
+    private final ReelStrip[] reels;
+
+    public ReelSet(ReelStrip... reels) {
+        if (reels.length == 0) {
+            throw new IllegalArgumentException("A machine needs at least one reel");
+        }
+        int symbols = reels[0].getSymbolCount();
+        for (ReelStrip r : reels) {
+            if (r.getSymbolCount() != symbols) {
+                throw new IllegalArgumentException("All reels must use the same " + symbols + " symbols");
+            }
+        }
+        this.reels = reels.clone();
+    }
+
+    public static ReelSet uniform(int reelCount, int symbolCount) {
+        ReelStrip[] strips = new ReelStrip[reelCount];
+        ReelStrip strip = ReelStrip.uniform(symbolCount);
+        for (int i = 0; i < reelCount; i++) {
+            strips[i] = strip;
+        }
+        return new ReelSet(strips);
+    }
+
+    public static ReelSet load(Path file, int symbolCount) throws IOException {
+        List<ReelStrip> strips = new ArrayList<>();
+        int lineNo = 0;
+        for (String raw : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            lineNo++;
+            String line = raw.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            int[] values = new int[parts.length - 1];
+            try {
+                for (int i = 1; i < parts.length; i++) {
+                    values[i - 1] = Integer.parseInt(parts[i]);
+                }
+                switch (parts[0]) {
+                    case "weights":
+                        if (values.length != symbolCount) {
+                            throw new IllegalArgumentException("expected " + symbolCount + " weights");
+                        }
+                        strips.add(ReelStrip.ofWeights(values));
+                        break;
+                    case "strip":
+                        strips.add(ReelStrip.ofStops(symbolCount, values));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("unknown reel type '" + parts[0] + "'");
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException(file + ":" + lineNo + ": " + e.getMessage(), e);
+            }
+        }
+        if (strips.isEmpty()) {
+            throw new IOException(file + ": no reels defined");
+        }
+        return new ReelSet(strips.toArray(new ReelStrip[0]));
+    }
+
+    public int size() {
+        return reels.length;
+    }
+
+    public int getSymbolCount() {
+        return reels[0].getSymbolCount();
+    }
+
+    public ReelStrip get(int reel) {
+        return reels[reel];
+    }
+
+    public int sample(int reel, RandomGenerator rng) {
+        return reels[reel].sample(rng);
+    }
+}
@@ -0,0 +1,135 @@
+package portfolio.slot;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/*
+ * 🎞️ Reel Strip
+ *   One reel's symbol distribution, given either as a weight per symbol or as a
+ *   physical strip of stops. Sampling uses Vose's alias method on integer weights:
+ *   one uniform column pick plus one biased coin, so it is exact, O(1) no matter
+ *   how many stops the strip has, and allocates nothing.
+ */
+public final class ReelStrip {
+
+    private final int[] weights;
+    private final long totalWeight;
+    // Column i keeps symbol i when the coin (0 until totalWeight) lands below threshold[i]
+    private final long[] threshold;
+    private final int[] alias;
+    private final boolean uniform;
+
+    private ReelStrip(int[] weights) {
+        if (weights.length < 1) {
+            throw new IllegalArgumentException("A reel needs at least one symbol");
+        }
+        long total = 0;
+        for (int w : weights) {
+            if (w < 0) {
+                throw new IllegalArgumentException("Symbol weights cannot be negative: " + Arrays.toString(weights));
+            }
+            total += w;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one symbol needs a positive weight");
+        }
+        this.weights = weights.clone();
+        this.totalWeight = total;
+        this.threshold = new long[weights.length];
+        this.alias = new int[weights.length];
+
+        boolean allEqual = true;
+        for (int w : weights) {
+            allEqual &= w == weights[0];
+        }
+        this.uniform = allEqual;
+        buildAliasTable();
+    }
+
+    /* Every symbol equally likely */
+    public static ReelStrip uniform(int symbolCount) {
+        int[] weights = new int[symbolCount];
+        Arrays.fill(weights, 1);
+        return new ReelStrip(weights);
+    }
+
+    /* weights[s] is the relative weight of symbol s */
+    public static ReelStrip ofWeights(int... weights) {
+        return new ReelStrip(weights);
+    }
+
+    /* A physical strip: stops[i] is the symbol shown at stop i */
+    public static ReelStrip ofStops(int symbolCount, int... stops) {
+        int[] counts = new int[symbolCount];
+        for (int s : stops) {
+            if (s < 0 || s >= symbolCount) {
+                throw new IllegalArgumentException("Stop symbol " + s + " outside 0.." + (symbolCount - 1));
+            }
+            counts[s]++;
+        }
+        return new ReelStrip(counts);
+    }
+
+    public int sample(RandomGenerator rng) {
+        int column = rng.nextInt(threshold.length);
+        if (uniform) {
+            return column;
+        }
+        return rng.nextLong(totalWeight) < threshold[column] ? column : alias[column];
+    }
+
+    public int getSymbolCount() {
+        return weights.length;
+    }
+
+    public int getWeight(int symbol) {
+        return weights[symbol];
+    }
+
+    public double getProbability(int symbol) {
+        return (double) weights[symbol] / totalWeight;
+    }
+
+    private void buildAliasTable() {
+        int n = weights.length;
+        // Weights scaled by n so the average column holds exactly totalWeight
+        long[] scaled = new long[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallTop = 0;
+        int largeTop = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = (long) weights[i] * n;
+            alias[i] = i;
+            if (scaled[i] < totalWeight) {
+                small[smallTop++] = i;
+            } else {
+                large[largeTop++] = i;
+            }
+        }
+        while (smallTop > 0 && largeTop > 0) {
+            int s = small[--smallTop];
+            int l = large[--largeTop];
+            threshold[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] -= totalWeight - scaled[s];
+            if (scaled[l] < totalWeight) {
+                small[smallTop++] = l;
+            } else {
+                large[largeTop++] = l;
+            }
+        }
+        while (largeTop > 0) {
+            threshold[large[--largeTop]] = totalWeight;
+        }
+        // Cannot happen with exact integer weights; guards against a malformed table anyway
+        while (smallTop > 0) {
+            threshold[small[--smallTop]] = totalWeight;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReelStrip" + Arrays.toString(weights);
+    }
+}
@@ -0,0 +1,209 @@
+package portfolio.slot;
+
+import portfolio.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+
+/*
+ * 📊 Session Stats
+ *   Streaming statistics over every spin of a slot session in fixed memory, however
+ *   long the session runs: hit and jackpot rates, the mean and variance of each spin's
+ *   net result (Welford), balance quantiles from a log-bucketed histogram (the same
+ *   one the frame metrics use for latencies, good to about 3%), winning and losing
+ *   streaks with a histogram of losing-streak lengths, and how often each symbol
+ *   landed on each reel. Recording is O(1) and allocates nothing.
+ *
+ *   Thread-safe: manual spins record on the FX thread and autoplay on its worker.
+ *   snapshot() copies everything out under the same lock for display or export.
+ */
+public final class SessionStats {
+
+    // Losing streaks of this length or longer share the last bucket
+    private static final int STREAK_BUCKETS = 32;
+
+    private final int reels;
+    private final int symbols;
+    private final int jackpotPays;
+    private final long[] symbolCounts;
+    private final long[] losingStreaks = new long[STREAK_BUCKETS + 1];
+    private final LatencyHistogram balances = new LatencyHistogram();
+
+    private long spins;
+    private long hits;
+    private long jackpots;
+    private long totalBet;
+    private long totalWon;
+    private double meanNet;
+    private double m2Net;
+    private long minBalance = Long.MAX_VALUE;
+    private long maxBalance;
+    // Positive while winning, negative while losing
+    private int streak;
+    private int longestWinning;
+    private int longestLosing;
+
+    /* jackpotPays: the payout multiple that counts as a jackpot */
+    public SessionStats(int reels, int symbols, int jackpotPays) {
+        if (reels < 1 || symbols < 1) {
+            throw new IllegalArgumentException("Need at least one reel and one symbol");
+        }
+        this.reels = reels;
+        this.symbols = symbols;
+        this.jackpotPays = jackpotPays;
+        this.symbolCounts = new long[reels * symbols];
+    }
+
+    /* One settled spin: bet and win in cents, payout multiple, balance after, symbol per reel */
+    public synchronized void record(long bet, int pays, long win, long balance, int[] stops) {
+        spins++;
+        totalBet += bet;
+        totalWon += win;
+        long net = win - bet;
+        double delta = net - meanNet;
+        meanNet += delta / spins;
+        m2Net += delta * (net - meanNet);
+
+        balances.record(balance);
+        minBalance = Math.min(minBalance, balance);
+        maxBalance = Math.max(maxBalance, balance);
+
+        for (int r = 0; r < reels; r++) {
+            int s = stops[r];
+            if (s >= 0 && s < symbols) {
+                symbolCounts[r * symbols + s]++;
+            }
+        }
+
+        if (pays > 0) {
+            hits++;
+            if (pays >= jackpotPays) {
+                jackpots++;
+            }
+            if (streak < 0) {
+                losingStreaks[Math.min(-streak, STREAK_BUCKETS)]++;
+                streak = 0;
+            }
+            streak++;
+            longestWinning = Math.max(longestWinning, streak);
+        } else {
+            if (streak > 0) {
+                streak = 0;
+            }
+            streak--;
+            longestLosing = Math.max(longestLosing, -streak);
+        }
+    }
+
+    public synchronized Snapshot snapshot() {
+        Snapshot s = new Snapshot(reels, symbols);
+        s.spins = spins;
+        s.hits = hits;
+        s.jackpots = jackpots;
+        s.totalBet = totalBet;
+        s.totalWon = totalWon;
+        s.meanNet = meanNet;
+        s.stdDevNet = spins > 1 ? Math.sqrt(m2Net / (spins - 1)) : 0;
+        s.minBalance = spins == 0 ? 0 : minBalance;
+        s.maxBalance = maxBalance;
+        s.p5Balance = balances.getPercentile(5);
+        s.p50Balance = balances.getPercentile(50);
+        s.p95Balance = balances.getPercentile(95);
+        s.streak = streak;
+        s.longestWinning = longestWinning;
+        s.longestLosing = longestLosing;
+
+        // The losing streak still running counts as well
+        long streaks = 0;
+        long lengths = 0;
+        long[] all = losingStreaks.clone();
+        if (streak < 0) {
+            all[Math.min(-streak, STREAK_BUCKETS)]++;
+        }
+        for (int len = 1; len <= STREAK_BUCKETS; len++) {
+            streaks += all[len];
+            lengths += all[len] * len;
+        }
+        s.losingStreaks = streaks;
+        s.meanLosingStreak = streaks == 0 ? 0 : (double) lengths / streaks;
+        long rank = Math.max(1, (long) Math.ceil(0.9 * streaks));
+        long seen = 0;
+        for (int len = 1; len <= STREAK_BUCKETS && streaks > 0; len++) {
+            seen += all[len];
+            if (seen >= rank) {
+                s.p90LosingStreak = len;
+                break;
+            }
+        }
+        System.arraycopy(symbolCounts, 0, s.symbolCounts, 0, symbolCounts.length);
+        return s;
+    }
+
+    /* Everything at one moment; amounts are in cents */
+    public static final class Snapshot {
+        public final int reels;
+        public final int symbols;
+        public final long[] symbolCounts;
+        public long spins;
+        public long hits;
+        public long jackpots;
+        public long totalBet;
+        public long totalWon;
+        public double meanNet;
+        public double stdDevNet;
+        public long minBalance;
+        public long p5Balance;
+        public long p50Balance;
+        public long p95Balance;
+        public long maxBalance;
+        public int streak;
+        public int longestWinning;
+        public int longestLosing;
+        public long losingStreaks;
+        public double meanLosingStreak;
+        // STREAK_BUCKETS means "that long or longer"
+        public int p90LosingStreak;
+
+        Snapshot(int reels, int symbols) {
+            this.reels = reels;
+            this.symbols = symbols;
+            this.symbolCounts = new long[reels * symbols];
+        }
+
+        public double getHitRate() {
+            return spins == 0 ? 0 : (double) hits / spins;
+        }
+
+        /* Share of the money bet that came back */
+        public double getReturnToPlayer() {
+            return totalBet == 0 ? 0 : (double) totalWon / totalBet;
+        }
+
+        public long getSymbolCount(int reel, int symbol) {
+            return symbolCounts[reel * symbols + symbol];
+        }
+
+        public void printReport(PrintStream out, String[] symbolNames) {
+            out.printf("spins %,d   hit rate %.2f%%   jackpots %,d   RTP %.2f%%%n",
+                    spins, getHitRate() * 100, jackpots, getReturnToPlayer() * 100);
+            out.printf("bet $%s   won $%s   net per spin %s ± %s%n",
+                    dollars(totalBet), dollars(totalWon), dollars(meanNet), dollars(stdDevNet));
+            out.printf("balance min $%s  p5 $%s  p50 $%s  p95 $%s  max $%s%n",
+                    dollars(minBalance), dollars(p5Balance), dollars(p50Balance), dollars(p95Balance), dollars(maxBalance));
+            out.printf("streaks: now %s, longest win %d, longest loss %d, losing mean %.1f p90 %s%n",
+                    streak < 0 ? "lost " + -streak : "won " + streak, longestWinning, longestLosing,
+                    meanLosingStreak, p90LosingStreak >= STREAK_BUCKETS ? STREAK_BUCKETS + "+" : p90LosingStreak);
+            for (int r = 0; r < reels; r++) {
+                StringBuilder line = new StringBuilder("reel ").append(r + 1).append(':');
+                for (int sym = 0; sym < symbols; sym++) {
+                    String name = symbolNames != null && sym < symbolNames.length ? symbolNames[sym] : "#" + sym;
+                    line.append("  ").append(name).append(' ').append(getSymbolCount(r, sym));
+                }
+                out.println(line);
+            }
+        }
+
+        private static String dollars(double cents) {
+            return String.format("%.2f", cents / 100.0);
+        }
+    }
+}
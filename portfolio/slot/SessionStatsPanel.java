@@ -0,0 +1,134 @@
+package portfolio.slot;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.stage.Popup;
+import javafx.stage.Window;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+/*
+ * 📊 Session Stats Panel
+ *   Overlay for a scene's SessionStats: F4 shows or hides it, F5 appends a snapshot to
+ *   the export file. While shown it takes a snapshot four times a second; while hidden
+ *   it runs nothing, so spins pay only for SessionStats.record.
+ *   Must only be used from the FX application thread.
+ */
+public final class SessionStatsPanel {
+
+    private static final long REFRESH_NANOS = 250_000_000L;
+
+    private final Scene scene;
+    private final SessionStats stats;
+    private final String[] symbolNames;
+    private final Path exportFile;
+    private final Label text = new Label();
+    private final Popup popup = new Popup();
+    private final AnimationTimer refresher = new AnimationTimer() {
+        private long last;
+
+        @Override
+        public void handle(long now) {
+            if (now - last >= REFRESH_NANOS) {
+                last = now;
+                refresh();
+            }
+        }
+    };
+
+    private SessionStatsPanel(Scene scene, SessionStats stats, String[] symbolNames, Path exportFile) {
+        this.scene = scene;
+        this.stats = stats;
+        this.symbolNames = symbolNames.clone();
+        this.exportFile = exportFile;
+        text.setFont(Font.font("Monospaced", 12));
+        text.setTextFill(Color.LIME);
+        text.setPadding(new Insets(6));
+        text.setStyle("-fx-background-color: rgba(0, 0, 0, 0.75); -fx-background-radius: 6;");
+        popup.getContent().add(text);
+    }
+
+    /* F4 / F5 on scene; exports go to exportFile */
+    public static SessionStatsPanel install(Scene scene, SessionStats stats, String[] symbolNames, Path exportFile) {
+        SessionStatsPanel panel = new SessionStatsPanel(scene, stats, symbolNames, exportFile);
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F4) {
+                panel.toggle();
+                e.consume();
+            } else if (e.getCode() == KeyCode.F5) {
+                panel.export();
+                e.consume();
+            }
+        });
+        // Leaving the scene takes the panel with it
+        scene.windowProperty().addListener((obs, was, now) -> {
+            if (now == null) {
+                panel.hide();
+            }
+        });
+        return panel;
+    }
+
+    public void toggle() {
+        if (popup.isShowing()) {
+            hide();
+            return;
+        }
+        Window window = scene.getWindow();
+        if (window == null) {
+            return;
+        }
+        refresh();
+        popup.show(window, window.getX() + 12, window.getY() + 40);
+        refresher.start();
+    }
+
+    public void hide() {
+        refresher.stop();
+        popup.hide();
+    }
+
+    /* Appends the current snapshot to the export file, off the FX thread */
+    public void export() {
+        Thread.ofVirtual().start(() -> {
+            try {
+                writeReport(stats, symbolNames, exportFile);
+            } catch (IOException e) {
+                System.err.println("Could not export slot stats: " + e.getMessage());
+            }
+        });
+    }
+
+    /* Appends a timestamped snapshot of stats to file */
+    public static void writeReport(SessionStats stats, String[] symbolNames, Path file) throws IOException {
+        String report = report(stats, symbolNames, "📊 " + LocalDateTime.now() + "\n");
+        Files.writeString(file, report + "\n\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void refresh() {
+        text.setText(report(stats, symbolNames, "slot session   F4 hides, F5 exports\n"));
+    }
+
+    private static String report(SessionStats stats, String[] symbolNames, String header) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        PrintStream out = new PrintStream(bytes, false, StandardCharsets.UTF_8);
+        out.print(header);
+        stats.snapshot().printReport(out, symbolNames);
+        out.flush();
+        return bytes.toString(StandardCharsets.UTF_8).stripTrailing();
+    }
+}
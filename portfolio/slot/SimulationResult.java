@@ -0,0 +1,88 @@
+package portfolio.slot;
+
+/*
+ * 📊 Simulation Result
+ *   Summary of a batch of spins: return-to-player, hit frequency, variance of the
+ *   per-spin payout (in units of the stake) and a normal-approximation confidence
+ *   interval for the RTP.
+ */
+public final class SimulationResult {
+
+    private final long spins;
+    private final int cost;
+    private final long hits;
+    private final long totalPaid;
+    private final double sumOfSquares;
+    private final long elapsedNanos;
+
+    SimulationResult(long spins, int cost, long hits, long totalPaid, double sumOfSquares, long elapsedNanos) {
+        this.spins = spins;
+        this.cost = cost;
+        this.hits = hits;
+        this.totalPaid = totalPaid;
+        this.sumOfSquares = sumOfSquares;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getSpins() {
+        return spins;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getTotalPaid() {
+        return totalPaid;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /* Credits staked on each spin */
+    public int getCost() {
+        return cost;
+    }
+
+    /* Average payout per credit staked; above 1.0 the house loses money */
+    public double getRtp() {
+        return spins == 0 ? 0 : (double) totalPaid / ((double) spins * cost);
+    }
+
+    public double getHitFrequency() {
+        return spins == 0 ? 0 : (double) hits / spins;
+    }
+
+    /* Population variance of the payout per spin (in stakes squared) */
+    public double getVariance() {
+        if (spins == 0) {
+            return 0;
+        }
+        double mean = getRtp();
+        return Math.max(0, sumOfSquares / ((double) cost * cost) / spins - mean * mean);
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /* Half-width of the confidence interval around the RTP for the given z (1.96 = 95%) */
+    public double getConfidenceHalfWidth(double z) {
+        return spins == 0 ? 0 : z * Math.sqrt(getVariance() / spins);
+    }
+
+    public double getSpinsPerSecond() {
+        return elapsedNanos == 0 ? 0 : spins * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        double ci = getConfidenceHalfWidth(1.96);
+        return String.format(
+                "spins=%,d  RTP=%.5f%% (95%% CI %.5f%% .. %.5f%%)  hit=%.4f%%  variance=%.4f  sd=%.4f  %.1f M spins/s",
+                spins, getRtp() * 100, (getRtp() - ci) * 100, (getRtp() + ci) * 100,
+                getHitFrequency() * 100, getVariance(), getStandardDeviation(),
+                getSpinsPerSecond() / 1e6);
+    }
+}
@@ -0,0 +1,98 @@
+package portfolio.slot;
+
+import java.util.random.RandomGenerator;
+
+/*
+ * 🎰 Slot Engine
+ *   The slot machine's rules without any UI: three reels (uniform six-symbol reels
+ *   unless a weighted ReelSet is given), a three-of-a-kind pays 5x the bet and any
+ *   pair pays 2x (stake included). Immutable and allocation-free, so one instance
+ *   can be shared by the spin button and by every simulator thread.
+ */
+public class SlotEngine implements SlotGame {
+
+    public static final int REELS = 3;
+
+    private final ReelSet reels;
+    private final int threeOfAKindPays;
+    private final int pairPays;
+
+    /* The rules the slot scene has always used */
+    public SlotEngine() {
+        this(6, 5, 2);
+    }
+
+    public SlotEngine(int symbolCount, int threeOfAKindPays, int pairPays) {
+        this(ReelSet.uniform(REELS, symbolCount), threeOfAKindPays, pairPays);
+    }
+
+    public SlotEngine(ReelSet reels, int threeOfAKindPays, int pairPays) {
+        if (reels.size() != REELS) {
+            throw new IllegalArgumentException("The slot machine has " + REELS + " reels, got " + reels.size());
+        }
+        if (reels.getSymbolCount() < 2) {
+            throw new IllegalArgumentException("Need at least two symbols");
+        }
+        if (threeOfAKindPays < 0 || pairPays < 0) {
+            throw new IllegalArgumentException("Payouts cannot be negative");
+        }
+        this.reels = reels;
+        this.threeOfAKindPays = threeOfAKindPays;
+        this.pairPays = pairPays;
+    }
+
+    /*
+     * Spins all reels, writes the symbol index of each reel into stops and returns
+     * the payout as a multiple of the bet (0 for a loss).
+     */
+    public int spin(RandomGenerator rng, int[] stops) {
+        int r1 = reels.sample(0, rng);
+        int r2 = reels.sample(1, rng);
+        int r3 = reels.sample(2, rng);
+        stops[0] = r1;
+        stops[1] = r2;
+        stops[2] = r3;
+        return pays(r1, r2, r3);
+    }
+
+    /* Same as spin(rng, stops) for callers that only need the payout */
+    public int spin(RandomGenerator rng) {
+        return pays(reels.sample(0, rng), reels.sample(1, rng), reels.sample(2, rng));
+    }
+
+    public int pays(int r1, int r2, int r3) {
+        if (r1 == r2 && r2 == r3) {
+            return threeOfAKindPays;
+        } else if (r1 == r2 || r2 == r3 || r1 == r3) {
+            return pairPays;
+        }
+        return 0;
+    }
+
+    /* One credit per spin, so payouts are multiples of the bet */
+    @Override
+    public int getCost() {
+        return 1;
+    }
+
+    @Override
+    public Spinner newSpinner() {
+        return this::spin;
+    }
+
+    public int getSymbolCount() {
+        return reels.getSymbolCount();
+    }
+
+    public ReelSet getReels() {
+        return reels;
+    }
+
+    public int getThreeOfAKindPays() {
+        return threeOfAKindPays;
+    }
+
+    public int getPairPays() {
+        return pairPays;
+    }
+}
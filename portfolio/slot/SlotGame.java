@@ -0,0 +1,22 @@
+package portfolio.slot;
+
+import java.util.random.RandomGenerator;
+
+/*
+ * 🎲 Slot Game
+ *   Anything the simulator can spin: a stake in credits and a source of spins.
+ *   Spinners may keep scratch state, so each thread asks for its own.
+ */
+public interface SlotGame {
+
+    /* Credits staked on every spin */
+    int getCost();
+
+    /* A spinner for the calling thread only */
+    Spinner newSpinner();
+
+    interface Spinner {
+        /* Plays one spin and returns the credits won (stake included, 0 for a loss) */
+        long spin(RandomGenerator rng);
+    }
+}
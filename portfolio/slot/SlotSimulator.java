@@ -0,0 +1,124 @@
+package portfolio.slot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+ * 🧮 Slot Simulator
+ *   Headless Monte Carlo run of any SlotGame across all cores. The spin count is
+ *   split into a fixed binary tree of fork/join tasks and every split also splits
+ *   the SplittableRandom, so each leaf gets its own independent stream. The tree
+ *   shape depends only on the spin count, never on thread timing, which makes the
+ *   result identical for the same seed on any machine.
+ *
+ *   Usage: java portfolio.slot.SlotSimulator [spins] [seed] [reel file | ways243]
+ */
+public class SlotSimulator {
+
+    // Spins per leaf task: big enough to amortise the fork, small enough to balance
+    private static final long LEAF_SPINS = 1L << 20;
+
+    private final SlotGame game;
+    private final ForkJoinPool pool;
+
+    public SlotSimulator(SlotGame game) {
+        this(game, ForkJoinPool.commonPool());
+    }
+
+    public SlotSimulator(SlotGame game, ForkJoinPool pool) {
+        this.game = game;
+        this.pool = pool;
+    }
+
+    public SimulationResult run(long spins, long seed) {
+        if (spins < 0) {
+            throw new IllegalArgumentException("spins cannot be negative");
+        }
+        long start = System.nanoTime();
+        Tally tally = pool.invoke(new Batch(game, spins, new SplittableRandom(seed)));
+        return new SimulationResult(spins, game.getCost(), tally.hits, tally.paid, tally.squares,
+                System.nanoTime() - start);
+    }
+
+    private static final class Tally {
+        long hits;
+        long paid;
+        double squares;
+    }
+
+    // ForkJoinTask is Serializable, but a batch never leaves the pool that runs it
+    private static final class Batch extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient SlotGame game;
+        private final long spins;
+        private final transient SplittableRandom rng;
+
+        Batch(SlotGame game, long spins, SplittableRandom rng) {
+            this.game = game;
+            this.spins = spins;
+            this.rng = rng;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (spins <= LEAF_SPINS) {
+                return spinAll();
+            }
+            long half = spins >>> 1;
+            // Split before forking so the stream tree never depends on scheduling
+            Batch left = new Batch(game, half, rng.split());
+            Batch right = new Batch(game, spins - half, rng);
+            left.fork();
+            Tally r = right.compute();
+            Tally l = left.join();
+            r.hits += l.hits;
+            r.paid += l.paid;
+            r.squares += l.squares;
+            return r;
+        }
+
+        private Tally spinAll() {
+            SlotGame.Spinner spinner = game.newSpinner();
+            long hits = 0;
+            long paid = 0;
+            double squares = 0;
+            for (long i = 0; i < spins; i++) {
+                long pays = spinner.spin(rng);
+                if (pays > 0) {
+                    hits++;
+                    paid += pays;
+                    squares += (double) pays * pays;
+                }
+            }
+            Tally t = new Tally();
+            t.hits = hits;
+            t.paid = paid;
+            t.squares = squares;
+            return t;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        long spins = args.length > 0 ? Long.parseLong(args[0].replace("_", "")) : 100_000_000L;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 20251018L;
+        SlotGame game;
+        if (args.length > 2 && args[2].equals("ways243")) {
+            game = GridGame.ways243();
+            System.out.println("Simulating 5x3, 243 ways with wild and scatter, seed " + seed);
+        } else {
+            SlotEngine engine = new SlotEngine();
+            if (args.length > 2) {
+                ReelSet reels = ReelSet.load(Path.of(args[2]), engine.getSymbolCount());
+                engine = new SlotEngine(reels, engine.getThreeOfAKindPays(), engine.getPairPays());
+            }
+            System.out.println("Simulating " + engine.getSymbolCount() + " symbols, 3 of a kind pays "
+                    + engine.getThreeOfAKindPays() + "x, pair pays " + engine.getPairPays() + "x, seed " + seed);
+            game = engine;
+        }
+        System.out.println(new SlotSimulator(game).run(spins, seed));
+    }
+}
@@ -0,0 +1,89 @@
+package portfolio.slot;
+
+import javafx.geometry.Pos;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.MotionBlur;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/*
+ * 🖼️ Symbol Atlas
+ *   The reel symbols rasterised once into a single image: one square cell per symbol,
+ *   stacked top to bottom in reel order, with a sharp column and a vertically
+ *   motion-blurred column side by side. Reels then draw image slices instead of laying
+ *   out and shaping emoji glyphs, and fast reels get their blur for free.
+ *
+ *   Must be created on the FX application thread.
+ */
+public final class SymbolAtlas {
+
+    private static final double BLUR_RADIUS = 18;
+
+    private final Image image;
+    private final double cell;
+    private final int symbolCount;
+
+    private SymbolAtlas(Image image, double cell, int symbolCount) {
+        this.image = image;
+        this.cell = cell;
+        this.symbolCount = symbolCount;
+    }
+
+    /* Draws each symbol (text, usually a single emoji) centred in a cell x cell square */
+    public static SymbolAtlas render(String[] symbols, Font font, double cell) {
+        if (symbols.length == 0) {
+            throw new IllegalArgumentException("The atlas needs at least one symbol");
+        }
+        if (cell <= 0) {
+            throw new IllegalArgumentException("cell must be positive");
+        }
+        Pane sheet = new Pane();
+        for (int i = 0; i < symbols.length; i++) {
+            sheet.getChildren().add(cell(symbols[i], font, cell, 0, i * cell, false));
+            sheet.getChildren().add(cell(symbols[i], font, cell, cell, i * cell, true));
+        }
+        sheet.setPrefSize(2 * cell, symbols.length * cell);
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setViewport(new Rectangle2D(0, 0, 2 * cell, symbols.length * cell));
+        return new SymbolAtlas(sheet.snapshot(params, null), cell, symbols.length);
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public double getCell() {
+        return cell;
+    }
+
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    /* Left edge of the sharp or the blurred column */
+    public double columnX(boolean blurred) {
+        return blurred ? cell : 0;
+    }
+
+    private static StackPane cell(String symbol, Font font, double cell, double x, double y, boolean blurred) {
+        Text text = new Text(symbol);
+        text.setFont(font);
+        if (blurred) {
+            text.setEffect(new MotionBlur(90, BLUR_RADIUS));
+        }
+        StackPane pane = new StackPane(text);
+        pane.setAlignment(Pos.CENTER);
+        pane.setMinSize(cell, cell);
+        pane.setPrefSize(cell, cell);
+        pane.setMaxSize(cell, cell);
+        pane.relocate(x, y);
+        return pane;
+    }
+}
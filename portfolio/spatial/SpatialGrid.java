@@ -0,0 +1,154 @@
+package portfolio.spatial;
+
+import java.util.Arrays;
+
+/*
+ * 🧭 Spatial Grid
+ *   Uniform grid over an unbounded plane, stored as a hash of the occupied cells, for
+ *   finding what is near a box without looking at everything. Ids (0 until capacity)
+ *   are inserted with their bounding box into every cell it overlaps; a query returns
+ *   each id overlapping the queried cells once. Meant to be cleared and refilled every
+ *   step, which costs one pass over what is inserted: clearing bumps a generation
+ *   instead of wiping the table, and all storage is sized up front, so neither
+ *   filling nor querying allocates.
+ *
+ *   Not thread-safe.
+ */
+public final class SpatialGrid {
+
+    private final double cellSize;
+    private final int capacity;
+
+    // Open-addressed table of occupied cells, valid where slotGen == generation
+    private final long[] slotKey;
+    private final int[] slotGen;
+    private final int[] slotHead;
+    private final int mask;
+    private int generation = 1;
+
+    // Cell membership, one node per (id, cell)
+    private final int[] nodeId;
+    private final int[] nodeNext;
+    private int nodes;
+
+    // Last query each id was returned by, for returning it only once
+    private final int[] seen;
+    private int query;
+
+    /* capacity: ids 0 until capacity; maxNodes: total cell memberships per fill */
+    public SpatialGrid(double cellSize, int capacity, int maxNodes) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        if (capacity < 1 || maxNodes < capacity) {
+            throw new IllegalArgumentException("Need room for at least one node per id");
+        }
+        this.cellSize = cellSize;
+        this.capacity = capacity;
+        int slots = Integer.highestOneBit(maxNodes * 2 - 1) << 1;
+        slotKey = new long[slots];
+        slotGen = new int[slots];
+        slotHead = new int[slots];
+        mask = slots - 1;
+        nodeId = new int[maxNodes];
+        nodeNext = new int[maxNodes];
+        seen = new int[capacity];
+    }
+
+    /* Up to four cells per id, enough for boxes no larger than a cell */
+    public SpatialGrid(double cellSize, int capacity) {
+        this(cellSize, capacity, capacity * 4);
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    public void clear() {
+        nodes = 0;
+        if (++generation == 0) {
+            // Wrapped after four billion fills: start over with a truly empty table
+            Arrays.fill(slotGen, 0);
+            generation = 1;
+        }
+    }
+
+    /* Adds id with the given box; throws IllegalStateException once maxNodes is used up */
+    public void insert(int id, double minX, double minY, double maxX, double maxY) {
+        if (id < 0 || id >= capacity) {
+            throw new IllegalArgumentException("id " + id + " is outside 0.." + (capacity - 1));
+        }
+        int x0 = cell(minX);
+        int x1 = cell(maxX);
+        int y0 = cell(minY);
+        int y1 = cell(maxY);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                if (nodes == nodeId.length) {
+                    throw new IllegalStateException("Spatial grid is full (" + nodeId.length + " cell entries)");
+                }
+                int slot = slot(cx, cy, true);
+                int n = nodes++;
+                nodeId[n] = id;
+                nodeNext[n] = slotHead[slot];
+                slotHead[slot] = n;
+            }
+        }
+    }
+
+    /*
+     * Writes into out every id sharing a cell with the box, each once, and returns how
+     * many there are (at most out.length). Candidates only: callers test the boxes.
+     */
+    public int query(double minX, double minY, double maxX, double maxY, int[] out) {
+        if (++query == 0) {
+            Arrays.fill(seen, 0);
+            query = 1;
+        }
+        int found = 0;
+        int x0 = cell(minX);
+        int x1 = cell(maxX);
+        int y0 = cell(minY);
+        int y1 = cell(maxY);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int slot = slot(cx, cy, false);
+                if (slot < 0) {
+                    continue;
+                }
+                for (int n = slotHead[slot]; n >= 0; n = nodeNext[n]) {
+                    int id = nodeId[n];
+                    if (seen[id] != query && found < out.length) {
+                        seen[id] = query;
+                        out[found++] = id;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int cell(double v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    /* The table slot of cell (cx, cy), claiming an empty one if create, else -1 when absent */
+    private int slot(int cx, int cy, boolean create) {
+        long key = ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+        long h = key * 0x9E3779B97F4A7C15L;
+        int i = (int) (h >>> 40) & mask;
+        while (slotGen[i] == generation) {
+            if (slotKey[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        if (!create) {
+            return -1;
+        }
+        slotGen[i] = generation;
+        slotKey[i] = key;
+        slotHead[i] = -1;
+        return i;
+    }
+}
@@ -0,0 +1,51 @@
+package portfolio.startup;
+
+import javafx.scene.Scene;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * ⏲️ Startup Timer
+ *   Milestones of a cold start measured from JVM launch: when start() runs, when
+ *   the first frame is on screen and when the menu is interactive. "On screen" is
+ *   the scene's first pulse, the pulse whose frame is rendered next.
+ */
+public final class StartupTimer {
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final List<String> names = new ArrayList<>();
+    private final List<Long> millis = new ArrayList<>();
+
+    /* Records a milestone now; returns milliseconds since JVM start */
+    public long mark(String name) {
+        long sinceStart = System.currentTimeMillis() - jvmStartMillis;
+        names.add(name);
+        millis.add(sinceStart);
+        return sinceStart;
+    }
+
+    /* Runs action once, after the next layout pass of scene (its next frame) */
+    public static void onNextPulse(Scene scene, Runnable action) {
+        Runnable[] once = new Runnable[1];
+        once[0] = () -> {
+            scene.removePostLayoutPulseListener(once[0]);
+            action.run();
+        };
+        scene.addPostLayoutPulseListener(once[0]);
+    }
+
+    public long get(String name) {
+        int i = names.indexOf(name);
+        return i < 0 ? -1 : millis.get(i);
+    }
+
+    public void printReport(PrintStream out) {
+        out.println("startup (ms since JVM launch)");
+        for (int i = 0; i < names.size(); i++) {
+            out.printf("  %-16s %6d%n", names.get(i), millis.get(i));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package portfolio.theme;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+
+import java.net.URL;
+import java.util.List;
+
+/*
+ * 🎨 Theme Manager
+ *   Every scene shares one stylesheet (sushmafx.css) with the structural rules and
+ *   :hover states, plus one small theme sheet that only defines the colours it looks
+ *   up. JavaFX parses each sheet once per URL and caches it, so hovering only flips a
+ *   pseudo-class and switching themes swaps one sheet: no scene is ever rebuilt.
+ *
+ *   The scene on the stage always has the current theme; cached scenes pick it up
+ *   the next time they are shown. F2 cycles through the themes. A third sheet,
+ *   flat.css, swaps every gradient for a flat colour while the quality governor
+ *   asks for it.
+ *
+ *   Must only be used from the FX application thread.
+ */
+public final class ThemeManager {
+
+    public static final List<String> THEMES = List.of("neon", "daylight");
+
+    private static final String BASE = sheet("sushmafx");
+    private static final String FLAT = sheet("flat");
+
+    private final Stage stage;
+    private String theme;
+    private boolean flat;
+
+    private ThemeManager(Stage stage, String theme) {
+        this.stage = stage;
+        this.theme = theme;
+    }
+
+    /* Themes every scene set on stage from now on, starting with -Dsushmafx.theme (neon by default) */
+    public static ThemeManager install(Stage stage) {
+        String initial = System.getProperty("sushmafx.theme", THEMES.get(0));
+        if (!THEMES.contains(initial)) {
+            System.err.println("Unknown theme '" + initial + "', using " + THEMES.get(0));
+            initial = THEMES.get(0);
+        }
+        ThemeManager themes = new ThemeManager(stage, initial);
+        stage.sceneProperty().addListener((obs, was, scene) -> themes.apply(scene));
+        stage.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F2) {
+                themes.next();
+                e.consume();
+            }
+        });
+        return themes;
+    }
+
+    /* Switches every scene from now on to theme, restyling the one on screen */
+    public void use(String theme) {
+        if (!THEMES.contains(theme)) {
+            throw new IllegalArgumentException("Unknown theme '" + theme + "'");
+        }
+        this.theme = theme;
+        apply(stage.getScene());
+    }
+
+    public void next() {
+        use(THEMES.get((THEMES.indexOf(theme) + 1) % THEMES.size()));
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    /* Flat colours instead of gradients for every scene from now on, restyling the one on screen */
+    public void setFlat(boolean flat) {
+        if (this.flat == flat) {
+            return;
+        }
+        this.flat = flat;
+        apply(stage.getScene());
+    }
+
+    public boolean isFlat() {
+        return flat;
+    }
+
+    /* Base sheet first, theme sheet second, then the flat sheet; only touches the list when something changed */
+    public void apply(Scene scene) {
+        if (scene == null) {
+            return;
+        }
+        ObservableList<String> sheets = scene.getStylesheets();
+        String themeSheet = sheet(theme);
+        int count = flat ? 3 : 2;
+        if (sheets.size() == count && sheets.get(0).equals(BASE) && sheets.get(1).equals(themeSheet)
+                && (!flat || sheets.get(2).equals(FLAT))) {
+            return;
+        }
+        if (flat) {
+            sheets.setAll(BASE, themeSheet, FLAT);
+        } else {
+            sheets.setAll(BASE, themeSheet);
+        }
+    }
+
+    /* Stylesheet URL for name, shared by every scene so JavaFX parses it only once */
+    public static String sheet(String name) {
+        URL url = ThemeManager.class.getResource(name + ".css");
+        if (url == null) {
+            throw new IllegalStateException("Missing stylesheet " + name + ".css");
+        }
+        return url.toExternalForm();
+    }
+}
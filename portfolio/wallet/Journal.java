@@ -0,0 +1,208 @@
+package portfolio.wallet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/*
+ * 📒 Journal
+ *   Append-only binary log of wallet transactions, written through memory-mapped
+ *   chunks of the file. Appending is a handful of stores into the mapping, so the
+ *   caller never waits on the disk; a background flusher forces everything written
+ *   since its last pass in one go (group commit), every FLUSH_MILLIS.
+ *
+ *   Layout: a 32 byte header slot, then fixed 32 byte records
+ *     int type, int crc32c, long seq, long amount (cents), long balance after (cents)
+ *   Unwritten space is zero, so replay stops at the first record of type 0, with a
+ *   bad checksum or out of sequence; a torn last record is simply dropped.
+ */
+public final class Journal implements Closeable {
+
+    public static final int DEPOSIT = 1;
+    public static final int BET = 2;
+    public static final int WIN = 3;
+
+    private static final int MAGIC = 0x53465857; // "SFXW"
+    private static final int VERSION = 1;
+    private static final int RECORD = 32;
+    private static final long CHUNK = 1L << 20;
+    private static final long FLUSH_MILLIS = 20;
+
+    private final FileChannel channel;
+    private final CRC32C crc = new CRC32C();
+    private final ScheduledExecutorService flusher;
+
+    // Guarded by this
+    private MappedByteBuffer chunk;
+    private long chunkStart;
+    private long nextSeq;
+    private long balance;
+    private int dirtyFrom = -1;
+    private int dirtyTo;
+    private final List<MappedByteBuffer> retired = new ArrayList<>();
+
+    private Journal(FileChannel channel) {
+        this.channel = channel;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wallet-journal-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /* Opens (or creates) the journal at file and replays it to recover the balance */
+    public static Journal open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Journal journal = new Journal(channel);
+        try {
+            journal.recover();
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+        journal.flusher.scheduleWithFixedDelay(journal::flush, FLUSH_MILLIS, FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+        return journal;
+    }
+
+    /* Appends one transaction; returns its sequence number */
+    public synchronized long append(int type, long amount, long balanceAfter) throws IOException {
+        long offset = (nextSeq + 1) * RECORD;
+        if (offset >= chunkStart + CHUNK) {
+            roll(offset);
+        }
+        int pos = (int) (offset - chunkStart);
+        long seq = nextSeq;
+        // Checksum and payload first, type last: a half-written record still reads as empty
+        chunk.putInt(pos + 4, checksum(type, seq, amount, balanceAfter));
+        chunk.putLong(pos + 8, seq);
+        chunk.putLong(pos + 16, amount);
+        chunk.putLong(pos + 24, balanceAfter);
+        chunk.putInt(pos, type);
+        if (dirtyFrom < 0) {
+            dirtyFrom = pos;
+        }
+        dirtyTo = pos + RECORD;
+        nextSeq++;
+        balance = balanceAfter;
+        return seq;
+    }
+
+    /* Balance after the last record (recovered or appended) */
+    public synchronized long getBalance() {
+        return balance;
+    }
+
+    public synchronized long getRecordCount() {
+        return nextSeq;
+    }
+
+    /* Forces everything appended so far to disk; the flusher calls this on its own */
+    public void flush() {
+        MappedByteBuffer current;
+        int from;
+        int to;
+        List<MappedByteBuffer> done;
+        synchronized (this) {
+            current = chunk;
+            from = dirtyFrom;
+            to = dirtyTo;
+            dirtyFrom = -1;
+            done = retired.isEmpty() ? List.of() : new ArrayList<>(retired);
+            retired.clear();
+        }
+        for (MappedByteBuffer b : done) {
+            b.force();
+        }
+        if (from >= 0 && current != null) {
+            current.force(from, to - from);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flusher.shutdownNow();
+        try {
+            flusher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        channel.close();
+    }
+
+    private void recover() throws IOException {
+        if (channel.size() == 0) {
+            map(0);
+            chunk.putInt(0, MAGIC);
+            chunk.putInt(4, VERSION);
+            chunk.force(0, RECORD);
+            return;
+        }
+        map(0);
+        if (chunk.getInt(0) != MAGIC || chunk.getInt(4) != VERSION) {
+            throw new IOException("Not a wallet journal (or unsupported version)");
+        }
+        long offset = RECORD;
+        while (true) {
+            if (offset >= chunkStart + CHUNK) {
+                map(offset - offset % CHUNK);
+            }
+            int pos = (int) (offset - chunkStart);
+            int type = chunk.getInt(pos);
+            long seq = chunk.getLong(pos + 8);
+            long amount = chunk.getLong(pos + 16);
+            long after = chunk.getLong(pos + 24);
+            if (type == 0 || seq != nextSeq || chunk.getInt(pos + 4) != checksum(type, seq, amount, after)) {
+                break;
+            }
+            balance = after;
+            nextSeq++;
+            offset += RECORD;
+        }
+        // Wipe whatever torn record stopped the replay so the next append starts clean
+        int pos = (int) (offset - chunkStart);
+        for (int i = 0; i < RECORD; i += 8) {
+            chunk.putLong(pos + i, 0L);
+        }
+    }
+
+    private void roll(long offset) throws IOException {
+        if (chunk != null) {
+            retired.add(chunk);
+        }
+        dirtyFrom = -1;
+        map(offset - offset % CHUNK);
+    }
+
+    private void map(long start) throws IOException {
+        chunk = channel.map(FileChannel.MapMode.READ_WRITE, start, CHUNK);
+        chunk.order(ByteOrder.LITTLE_ENDIAN);
+        chunkStart = start;
+    }
+
+    private int checksum(int type, long seq, long amount, long balanceAfter) {
+        crc.reset();
+        update(type);
+        update(seq);
+        update(amount);
+        update(balanceAfter);
+        return (int) crc.getValue();
+    }
+
+    private void update(long v) {
+        for (int i = 0; i < 8; i++) {
+            crc.update((int) (v >>> (i * 8)));
+        }
+    }
+}
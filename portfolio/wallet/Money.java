@@ -0,0 +1,45 @@
+package portfolio.wallet;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/*
+ * 💵 Money
+ *   Amounts are whole cents in a long everywhere in the wallet; these helpers are
+ *   the only places that convert to and from text.
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /*
+     * Parses "12", "12.5" or "12.50" into cents, rounding anything past two decimals
+     * half-up. Throws NumberFormatException for text that isn't a plain amount.
+     */
+    public static long parse(String text) {
+        try {
+            return new BigDecimal(text.trim())
+                    .setScale(2, RoundingMode.HALF_UP)
+                    .movePointRight(2)
+                    .longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + text);
+        }
+    }
+
+    /* 1234 -> "12.34", -5 -> "-0.05" */
+    public static String format(long cents) {
+        StringBuilder sb = new StringBuilder(24);
+        long abs = Math.abs(cents);
+        if (cents < 0) {
+            sb.append('-');
+        }
+        long rest = abs % 100;
+        sb.append(abs / 100).append('.');
+        if (rest < 10) {
+            sb.append('0');
+        }
+        return sb.append(rest).toString();
+    }
+}
@@ -0,0 +1,87 @@
+package portfolio.wallet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/*
+ * 👛 Wallet
+ *   The player's balance in whole cents. Every bet and win is appended to a Journal
+ *   first, so the balance survives restarts and can be audited; on open the balance
+ *   is recovered by replaying the journal. Thread-safe.
+ */
+public final class Wallet implements Closeable {
+
+    private final Journal journal;
+    private long balance;
+
+    private Wallet(Journal journal, long balance) {
+        this.journal = journal;
+        this.balance = balance;
+    }
+
+    /* Opens the journal at file, crediting openingCents if it is brand new */
+    public static Wallet open(Path file, long openingCents) throws IOException {
+        Journal journal = Journal.open(file);
+        if (journal.getRecordCount() == 0) {
+            journal.append(Journal.DEPOSIT, openingCents, openingCents);
+        }
+        return new Wallet(journal, journal.getBalance());
+    }
+
+    /* A wallet that keeps nothing on disk (when the journal can't be opened) */
+    public static Wallet inMemory(long openingCents) {
+        return new Wallet(null, openingCents);
+    }
+
+    public synchronized long getBalance() {
+        return balance;
+    }
+
+    /* Takes a bet; returns false without recording anything if it can't be covered */
+    public synchronized boolean bet(long cents) {
+        if (cents <= 0 || cents > balance) {
+            return false;
+        }
+        record(Journal.BET, cents, balance - cents);
+        return true;
+    }
+
+    public synchronized void win(long cents) {
+        if (cents < 0) {
+            throw new IllegalArgumentException("A win cannot be negative");
+        }
+        if (cents > 0) {
+            record(Journal.WIN, cents, Math.addExact(balance, cents));
+        }
+    }
+
+    public synchronized void deposit(long cents) {
+        if (cents <= 0) {
+            throw new IllegalArgumentException("A deposit must be positive");
+        }
+        record(Journal.DEPOSIT, cents, Math.addExact(balance, cents));
+    }
+
+    public boolean isPersistent() {
+        return journal != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private void record(int type, long cents, long after) {
+        if (journal != null) {
+            try {
+                journal.append(type, cents, after);
+            } catch (IOException e) {
+                throw new IllegalStateException("Wallet journal write failed", e);
+            }
+        }
+        balance = after;
+    }
+}
@@ -0,0 +1,74 @@
+package portfolio.ball;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BallPhysicsTest {
+
+    @Test
+    void aShotLandsTheSameEveryTime() {
+        double[] first = landing(80, 45);
+        double[] second = landing(80, 45);
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void knownShotsScoreAndMiss() {
+        BallPhysics ball = new BallPhysics();
+
+        assertTrue(ball.simulate(80, 45));
+        assertTrue(ball.simulate(75, 55));
+        assertFalse(ball.simulate(0, 45));
+        assertFalse(ball.simulate(100, 25));
+    }
+
+    @Test
+    void anglesOutsideTheRangeAreClamped() {
+        assertArrayEquals(landing(60, BallPhysics.MIN_ANGLE), landing(60, 0));
+        assertArrayEquals(landing(60, BallPhysics.MAX_ANGLE), landing(60, 90));
+    }
+
+    @Test
+    void everyShotEnds() {
+        BallPhysics ball = new BallPhysics();
+        for (int power = 0; power <= 100; power += 10) {
+            ball.launch(power, 60);
+            int steps = 0;
+            while (ball.isInFlight()) {
+                ball.step(BallPhysics.STEP);
+                steps++;
+            }
+            assertTrue(steps <= Math.ceil(BallPhysics.MAX_SHOT_TIME / BallPhysics.STEP) + 1);
+        }
+    }
+
+    @Test
+    void aLoneSwarmBallFliesLikeASingleShot() {
+        BallPhysics ball = new BallPhysics();
+        BallSwarm swarm = new BallSwarm(4);
+        ball.launch(80, 45);
+        swarm.fire(80, 45);
+        while (ball.isInFlight()) {
+            ball.step(BallPhysics.STEP);
+            swarm.step(BallPhysics.STEP);
+            if (swarm.getCount() == 0) {
+                break;
+            }
+            assertEquals(ball.getX(), swarm.getX(0));
+            assertEquals(ball.getY(), swarm.getY(0));
+        }
+        assertEquals(1, swarm.getMade());
+    }
+
+    // x, y and whether it scored once the shot is over
+    private static double[] landing(double power, double angle) {
+        BallPhysics ball = new BallPhysics();
+        boolean scored = ball.simulate(power, angle);
+        return new double[] {ball.getX(), ball.getY(), scored ? 1 : 0};
+    }
+}
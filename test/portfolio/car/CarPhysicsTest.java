@@ -0,0 +1,98 @@
+package portfolio.car;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CarPhysicsTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void acceleratesWhileTheKeyIsHeld() {
+        CarPhysics car = new CarPhysics();
+        car.setRight(true);
+        steps(car, 60);
+
+        // Half a second at 500 px/s²
+        assertEquals(250, car.getVelocity(), EPSILON);
+        assertTrue(car.getX() > 0);
+    }
+
+    @Test
+    void speedIsClampedBothWays() {
+        CarPhysics car = new CarPhysics();
+        car.setRight(true);
+        car.setBoost(true);
+        steps(car, 240);
+        assertEquals(CarPhysics.MAX_SPEED, car.getVelocity(), EPSILON);
+        assertEquals(100, car.getSpeedMph());
+
+        car.releaseAll();
+        car.setLeft(true);
+        steps(car, 600);
+        assertEquals(-CarPhysics.MAX_SPEED, car.getVelocity(), EPSILON);
+    }
+
+    @Test
+    void dragAndBrakeStopAtZeroWithoutReversing() {
+        CarPhysics car = new CarPhysics();
+        car.setRight(true);
+        steps(car, 60);
+        car.releaseAll();
+        steps(car, 240);
+        assertEquals(0, car.getVelocity());
+
+        car.setRight(true);
+        steps(car, 60);
+        car.releaseAll();
+        car.setBrake(true);
+        steps(car, 120);
+        assertEquals(0, car.getVelocity());
+        assertTrue(car.isBraking());
+    }
+
+    @Test
+    void wheelsTurnWithTheDistanceDriven() {
+        CarPhysics car = new CarPhysics();
+        car.setRight(true);
+        steps(car, 90);
+
+        // 25 px wheel radius
+        assertEquals(Math.toDegrees(car.getX() / 25), car.getWheelAngle(), EPSILON);
+    }
+
+    @Test
+    void bumpBouncesBackWithSomeOfTheSpeed() {
+        CarPhysics car = new CarPhysics();
+        car.setRight(true);
+        steps(car, 60);
+        car.bump();
+
+        assertEquals(-250 * 0.3, car.getVelocity(), EPSILON);
+    }
+
+    @Test
+    void sameInputsDriveTheSame() {
+        CarPhysics a = new CarPhysics();
+        CarPhysics b = new CarPhysics();
+        for (CarPhysics car : new CarPhysics[] {a, b}) {
+            car.setRight(true);
+            steps(car, 100);
+            car.setBoost(true);
+            steps(car, 50);
+            car.releaseAll();
+            steps(car, 30);
+        }
+
+        assertEquals(a.getX(), b.getX());
+        assertEquals(a.getVelocity(), b.getVelocity());
+    }
+
+    private static void steps(CarPhysics car, int n) {
+        for (int i = 0; i < n; i++) {
+            car.step(CarPhysics.STEP);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package portfolio.car;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrafficWorldTest {
+
+    private static final double VIEW_WIDTH = 900;
+    private static final double VIEW_HEIGHT = 600;
+    private static final double FAR_AWAY = 1_000_000;
+
+    @Test
+    void takenPickupsStayTakenWhenTheRoadComesBack() {
+        TrafficWorld world = new TrafficWorld(7);
+        world.step(0, 0, VIEW_WIDTH);
+        int coinsBefore = count(world, TrafficWorld.COIN);
+        int conesBefore = count(world, TrafficWorld.CONE);
+        assertTrue(coinsBefore > 0 && conesBefore > 0, "seed should put coins and cones in view");
+
+        // Drive over everything in view
+        int events = world.collide(0, 0, VIEW_WIDTH, VIEW_HEIGHT);
+        assertEquals(TrafficWorld.HIT | TrafficWorld.PICKED_UP, events);
+        int coins = world.getCoins();
+        int hits = world.getHits();
+
+        // Far enough that every chunk is dropped, then back
+        world.step(0, FAR_AWAY, VIEW_WIDTH);
+        world.step(0, 0, VIEW_WIDTH);
+
+        assertEquals(0, count(world, TrafficWorld.COIN));
+        assertEquals(0, count(world, TrafficWorld.CONE));
+        assertEquals(0, world.collide(0, 0, VIEW_WIDTH, VIEW_HEIGHT));
+        assertEquals(coins, world.getCoins());
+        assertEquals(hits, world.getHits());
+    }
+
+    @Test
+    void untouchedRoadComesBackTheSame() {
+        TrafficWorld world = new TrafficWorld(7);
+        world.step(0, 0, VIEW_WIDTH);
+        double[] before = positions(world);
+
+        world.step(0, FAR_AWAY, VIEW_WIDTH);
+        world.step(0, 0, VIEW_WIDTH);
+
+        assertEquals(before.length, positions(world).length);
+        assertEquals(sum(before), sum(positions(world)), 1e-9);
+    }
+
+    // Cones and coins (not traffic) in view, as their x positions
+    private static double[] positions(TrafficWorld world) {
+        int[] out = new int[TrafficWorld.CAPACITY];
+        int n = world.visible(0, VIEW_WIDTH, VIEW_HEIGHT, out);
+        double[] xs = new double[n];
+        int m = 0;
+        for (int k = 0; k < n; k++) {
+            if (world.getKind(out[k]) != TrafficWorld.TRAFFIC) {
+                xs[m++] = world.getX(out[k]);
+            }
+        }
+        return Arrays.copyOf(xs, m);
+    }
+
+    private static int count(TrafficWorld world, int kind) {
+        int[] out = new int[TrafficWorld.CAPACITY];
+        int n = world.visible(0, VIEW_WIDTH, VIEW_HEIGHT, out);
+        int found = 0;
+        for (int k = 0; k < n; k++) {
+            if (world.getKind(out[k]) == kind) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static double sum(double[] a) {
+        double s = 0;
+        for (double v : a) {
+            s += v;
+        }
+        return s;
+    }
+}
@@ -0,0 +1,57 @@
+package portfolio.scene;
+
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SceneCompilerTest {
+
+    @Test
+    void moreThan255ChildrenAndStyleClassesRoundTrip() throws IOException {
+        List<String> lines = new ArrayList<>();
+        StringBuilder classes = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            classes.append(" c").append(i);
+        }
+        lines.add("VBox id=box styleClass=\"" + classes.toString().trim() + "\"");
+        for (int i = 0; i < 256; i++) {
+            lines.add("  Text text=\"line " + i + "\"");
+        }
+
+        SceneLayout layout = SceneLoader.read(SceneCompiler.compile(lines, "many.scene"));
+
+        VBox box = (VBox) layout.getRoot();
+        assertEquals(256, box.getChildren().size());
+        assertEquals("line 255", ((Text) box.getChildren().get(255)).getText());
+        assertEquals(300, box.getStyleClass().size());
+    }
+
+    @Test
+    void tooManyChildrenIsACompileError() {
+        List<String> lines = new ArrayList<>();
+        lines.add("VBox");
+        for (int i = 0; i <= SceneFormat.MAX_COUNT; i++) {
+            lines.add("  Text");
+        }
+
+        IOException e = assertThrows(IOException.class, () -> SceneCompiler.compile(lines, "huge.scene"));
+        assertTrue(e.getMessage().startsWith("huge.scene:1: "), e.getMessage());
+    }
+
+    @Test
+    void bytesAfterTheRootAreRejected() throws IOException {
+        byte[] compiled = SceneCompiler.compile(List.of("VBox", "  Text text=hi"), "small.scene");
+        byte[] padded = Arrays.copyOf(compiled, compiled.length + 1);
+
+        assertThrows(IOException.class, () -> SceneLoader.read(padded));
+    }
+}
@@ -0,0 +1,100 @@
+package portfolio.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import portfolio.slot.Autoplay;
+import portfolio.slot.SlotEngine;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlotServerTest {
+
+    private SlotServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = SlotServer.start(new SlotEngine(), new PlayerAccounts(100_00, 2), 0, InetAddress.getLoopbackAddress());
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void negativeHistoryLengthIsAnError() {
+        assertEquals("ERR history length cannot be negative", handle("HISTORY alice -1"));
+        assertEquals("OK 0", handle("HISTORY alice 0"));
+    }
+
+    @Test
+    void playerNamesWithWhitespaceAreRejected() {
+        assertEquals("ERR bad player name", handle("BALANCE al\tice"));
+        assertEquals("ERR wrong number of arguments", handle("SPIN al ice 100"));
+        assertTrue(SlotServer.isValidPlayer("kiosk-1"));
+        assertFalse(SlotServer.isValidPlayer("kiosk 1"));
+        assertFalse(SlotServer.isValidPlayer(""));
+        assertFalse(SlotServer.isValidPlayer("x".repeat(65)));
+    }
+
+    @Test
+    void newPlayersStopAtTheLimit() {
+        assertEquals("OK 10000", handle("BALANCE alice"));
+        assertEquals("OK 10000", handle("BALANCE bob"));
+        assertEquals("ERR player limit reached", handle("BALANCE carol"));
+        assertEquals("OK 10000", handle("BALANCE alice"));
+        assertEquals(2, server.getAccounts().size());
+    }
+
+    @Test
+    void clientRejectsNamesBeforeSending() throws IOException {
+        try (SlotClient client = SlotClient.connect("127.0.0.1", server.getPort())) {
+            assertThrows(IllegalArgumentException.class, () -> client.spin("al ice", 100));
+            assertThrows(IllegalArgumentException.class, () -> client.history("alice", -1));
+            // The connection is still in step after the rejected calls
+            assertEquals(100_00, client.balance("alice"));
+        }
+    }
+
+    @Test
+    void refusedRequestsLeaveTheConnectionUsable() throws IOException {
+        try (SlotClient client = SlotClient.connect("127.0.0.1", server.getPort())) {
+            assertEquals(100_00, client.balance("alice"));
+            assertEquals(100_00, client.balance("bob"));
+            IllegalStateException refused = assertThrows(IllegalStateException.class, () -> client.balance("carol"));
+            assertEquals("player limit reached", refused.getMessage());
+            assertEquals(100_00, client.balance("alice"));
+        }
+    }
+
+    @Test
+    void deniedServerSpinEndsAutoplayAsNotCovered() throws Exception {
+        try (SlotClient client = SlotClient.connect("127.0.0.1", server.getPort())) {
+            // The same source the slot scene uses against a server
+            Autoplay.SpinSource source = (bet, out) -> client.spin("alice", bet).copyTo(out);
+            Autoplay autoplay = Autoplay.start(source, SlotEngine.REELS, 100_01, 5, 0, 0, true);
+            Autoplay.Status status = new Autoplay.Status(SlotEngine.REELS);
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (!(autoplay.poll(status) && !status.running)) {
+                assertTrue(System.nanoTime() < deadline, "autoplay did not finish");
+                Thread.sleep(5);
+            }
+            assertEquals("bet not covered", status.stopReason);
+            assertEquals(0, status.spins);
+        }
+    }
+
+    private String handle(String line) {
+        StringBuilder reply = new StringBuilder();
+        server.handle(line, new SplittableRandom(1), new int[SlotEngine.REELS], reply);
+        return reply.toString();
+    }
+}
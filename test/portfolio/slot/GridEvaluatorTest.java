@@ -0,0 +1,116 @@
+package portfolio.slot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GridEvaluatorTest {
+
+    // Three paying symbols, a wild (3) and a blank (4) that pays nothing
+    private static final int WILD = 3;
+    private static final int BLANK = 4;
+    private static final int[][] PAYS = {
+        {0, 0, 0, 5, 10, 20},
+        {0, 0, 0, 6, 12, 24},
+        {0, 0, 0, 7, 14, 28},
+        {0, 0, 0, 10, 30, 100},
+        {0, 0, 0, 0, 0, 0},
+    };
+    // 5x3 ways game
+    private static final GridEvaluator WAYS =
+            GridEvaluator.ways(5, 3, 1, PAYS, WILD, GridEvaluator.NONE, null);
+    // 5x3 with the three rows as paylines
+    private static final GridEvaluator LINES = GridEvaluator.lines(5, 3,
+            new int[][] {{0, 0, 0, 0, 0}, {1, 1, 1, 1, 1}, {2, 2, 2, 2, 2}}, PAYS, WILD, GridEvaluator.NONE, null);
+
+    @Test
+    void allWildWaysPayOnceAsTheWild() {
+        Grid grid = grid(BLANK);
+        fillReels(grid, 0, 3, WILD);
+
+        // 3 x 3 x 3 all-wild ways over three reels, and nothing for the symbols they stand in for
+        assertEquals(27L * PAYS[WILD][3], WAYS.evaluate(grid));
+    }
+
+    @Test
+    void aSymbolCarryingTheWildsOnPaysOnceAtTheBetterWin() {
+        Grid grid = grid(BLANK);
+        fillReels(grid, 0, 3, WILD);
+        grid.set(3, 1, 2);
+
+        // W W W 2 pays 2 x4 (14), which beats W x3 (10); the wilds are not paid again
+        assertEquals(27L * PAYS[2][4], WAYS.evaluate(grid));
+
+        grid = grid(BLANK);
+        fillReels(grid, 0, 4, WILD);
+        grid.set(4, 1, 0);
+
+        // W W W W 0 pays W x4 (30), which beats 0 x5 (20)
+        assertEquals(81L * PAYS[WILD][4], WAYS.evaluate(grid));
+    }
+
+    @Test
+    void waysWithoutWilds() {
+        Grid grid = grid(BLANK);
+        fillReels(grid, 0, 3, 1);
+        grid.set(3, 0, 1);
+        grid.set(4, 2, 1);
+
+        assertEquals(27L * PAYS[1][5], WAYS.evaluate(grid));
+    }
+
+    @Test
+    void linesPayTheBestWinOnEachLine() {
+        Grid grid = grid(BLANK);
+        setRow(grid, 0, WILD, WILD, WILD, 2, BLANK);
+        setRow(grid, 1, WILD, WILD, WILD, WILD, 0);
+        setRow(grid, 2, 1, 1, WILD, 1, BLANK);
+
+        assertEquals(PAYS[2][4] + PAYS[WILD][4] + PAYS[1][4], LINES.evaluate(grid));
+    }
+
+    @Test
+    void oneRowPaysTheSameAsWaysAndAsALine() {
+        GridEvaluator ways = GridEvaluator.ways(5, 1, 1, PAYS, WILD, GridEvaluator.NONE, null);
+        GridEvaluator lines = GridEvaluator.lines(5, 1, new int[][] {{0, 0, 0, 0, 0}},
+                PAYS, WILD, GridEvaluator.NONE, null);
+        int[][] rows = {
+            {WILD, WILD, WILD, 2, BLANK},
+            {WILD, WILD, WILD, WILD, 0},
+            {WILD, WILD, WILD, BLANK, BLANK},
+            {WILD, 1, WILD, 1, 2},
+            {0, 0, 0, 0, 0},
+            {WILD, WILD, WILD, WILD, WILD},
+            {BLANK, WILD, WILD, WILD, WILD},
+        };
+        for (int[] row : rows) {
+            Grid grid = new Grid(5, 1, PAYS.length);
+            for (int r = 0; r < 5; r++) {
+                grid.set(r, 0, row[r]);
+            }
+            assertEquals(lines.evaluate(grid), ways.evaluate(grid), Arrays.toString(row));
+        }
+    }
+
+    private static Grid grid(int symbol) {
+        Grid grid = new Grid(5, 3, PAYS.length);
+        fillReels(grid, 0, 5, symbol);
+        return grid;
+    }
+
+    private static void fillReels(Grid grid, int from, int to, int symbol) {
+        for (int r = from; r < to; r++) {
+            for (int row = 0; row < 3; row++) {
+                grid.set(r, row, symbol);
+            }
+        }
+    }
+
+    private static void setRow(Grid grid, int row, int... symbols) {
+        for (int r = 0; r < symbols.length; r++) {
+            grid.set(r, row, symbols[r]);
+        }
+    }
+}